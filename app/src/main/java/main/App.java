@@ -3,10 +3,25 @@ package main;
 import engine.*;
 import processing.core.PApplet;
 import processing.core.PFont;
+import processing.core.PGraphics;
+import processing.core.PImage;
 import processing.core.PVector;
+import processing.event.MouseEvent;
 
+import javax.management.JMException;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * Main Class.
@@ -25,31 +40,160 @@ public class App extends PApplet {
      */
     BOTTOM_OFFSET = 150;
 
+    /**
+     * The distance (in pixels) the mouse has to be dragged before a click is considered panning rather than an interaction.
+     */
+    private static final float DRAG_THRESHOLD = 5;
+
+    /**
+     * The space above the info box kept within the {@link #hud} buffer, so the outline of the box is not cut off.
+     */
+    private static final int HUD_MARGIN = 10;
+
+    /**
+     * The frame rate the game is drawn at, in frames per second.
+     */
+    private static final int FRAME_RATE = 30;
+
+    /**
+     * The level pack loaded by default.
+     */
+    private static final String DEFAULT_LEVEL_PACK = "src/main/resources/levels.json";
+
+    /**
+     * The directory every session is recorded into, see {@link ReplayRecorder}.
+     */
+    private static final String REPLAY_DIRECTORY = "replays";
+
+    /**
+     * The file edited levels are saved to if the {@link #levelPack} is not a file which can be written, e.g. a bundled resource.
+     */
+    private static final String EDITED_LEVEL_PACK = "levels-edited.json";
+
+    /**
+     * The level pack to load. May be replaced using the first launch argument, e.g. with a pack created by the {@link LevelGenerator}.
+     */
+    private String levelPack = DEFAULT_LEVEL_PACK;
+
+    /**
+     * The tile size below which the board is drawn in the level of detail mode. May be replaced using the second launch argument.
+     *
+     * @see BoardManager#setLodTileSize(float)
+     */
+    private float lodTileSize = BoardManager.DEFAULT_LOD_TILE_SIZE;
+
     /**
      * The Engine relating to the current level and play-through.
      */
     private Engine engine;
 
+    /**
+     * The levels being played, as read from the {@link #levelPack}.
+     */
+    private LevelRepository levels;
+
+    /**
+     * The editor of the current level. Null, unless the level is being edited. Discarded whenever the engine changes the level,
+     * which only happens on request of the player, as levels reloaded by the {@link #watcher} are held back while editing.
+     */
+    private LevelEditor editor;
+
+    /**
+     * The index of the tile type placed by the {@link #editor}.
+     */
+    private int editorType = Tile.Type.MIRROR.ordinal();
+
+    /**
+     * The recorder of the current session. Null, if the session is not recorded.
+     */
+    private ReplayRecorder recorder;
+
+    /**
+     * The watcher reloading the level pack whenever it is modified. Null, if the pack is not a file which can be watched.
+     */
+    private LevelPackWatcher watcher;
+
+    /**
+     * The IDs of the levels reloaded by the {@link #watcher}, waiting to be applied to the engine on the animation thread.
+     */
+    private final Set<Integer> reloadedLevels = ConcurrentHashMap.newKeySet();
+
     /**
      * The font used in this game.
      * <p>
      * The font is licensed in Public Domain, see sources in README.
+     * Loaded in the background, so it is null until it has arrived.
+     */
+    private volatile PFont font;
+
+    /**
+     * True, once the window icon has been set. The icon is set as soon as its image has been loaded.
      */
-    private PFont font;
+    private boolean iconSet;
 
     /**
      * The board manager instance. Used to draw and animate the board.
      */
     private BoardManager boardManager;
 
+    /**
+     * The locally stored game state, updated by the events of the {@link #engine} rather than fetched in every frame.
+     *
+     * @see #onEngineEvent(EngineEvent)
+     */
+    private int moves, optimalMoves, medalID, levelID;
+
+    /**
+     * The locally stored description of the current level.
+     *
+     * @see #onEngineEvent(EngineEvent)
+     */
+    private String levelDescription;
+
+    /**
+     * The locally stored completion state of the current level.
+     *
+     * @see #onEngineEvent(EngineEvent)
+     */
+    private boolean completed;
+
+    /**
+     * The buffer the info box is rendered into.
+     *
+     * @see #drawMenuBox()
+     */
+    private PGraphics hud;
+
+    /**
+     * True, if the content of the info box has changed since it was last rendered into the {@link #hud} buffer.
+     */
+    private boolean hudChanged = true;
+
+    /**
+     * The distance the mouse has been dragged since it was last pressed.
+     *
+     * @see #mouseDragged()
+     */
+    private float dragDistance;
+
+    /**
+     * The time the previous frame was drawn at, as given by {@link System#nanoTime()}. 0, before the first frame.
+     *
+     * @see #countFrame()
+     */
+    private long lastFrame;
+
     /**
      * Initialises Processing functionality.
      *
-     * @param args Launch arguments.
+     * @param args Launch arguments. The first argument may be the path of a level pack to load instead of the default one,
+     *             the second one the tile size (in pixels) below which the board is drawn in the level of detail mode.
      */
     public static void main(String[] args) {
         String[] appArgs = {"Laser Game App"};
         App mySketch = new App();
+        if (args.length > 0) mySketch.levelPack = args[0];
+        if (args.length > 1) mySketch.lodTileSize = Float.parseFloat(args[1]);
         PApplet.runSketch(appArgs, mySketch);
     }
 
@@ -64,70 +208,247 @@ public class App extends PApplet {
      * Sets up and initialises the {@link GameEngine} instance, {@link BoardManager} instance, the {@link Image} enum and other visual functionality needed by processing.
      */
     public void setup() {
-        engine = new GameEngine(loadJSONArray("src/main/resources/levels.json"));
-        font = createFont("src/main/resources/EdgeOfTheGalaxy.otf", 40);
-        boardManager = new BoardManager(this);
+        String[] lines = loadStrings(levelPack);
+        if (lines == null) throw new IllegalStateException("Level pack " + levelPack + " could not be found.");
+        levels = new LevelRepository(String.join("\n", lines));
+        engine = new GameEngine(levels, true);
+        startRecording(levels);
+        startWatching(levels);
+        registerMetrics();
+        CompletableFuture.runAsync(() -> font = createFont("src/main/resources/EdgeOfTheGalaxy.otf", 40));
+        Image.initialise(this, engine.getCopyOfTiles().values().stream().map(Tile::getType).collect(Collectors.toSet()));
 
-        Image.initialise(this);
+        boardManager = new BoardManager(this);
+        boardManager.setLodTileSize(lodTileSize);
         boardManager.reset();
 
+        onEngineEvent(new EngineEvent.LevelChanged(engine.getLevelID(), engine.getLevelDescription(), engine.getOptimalMoves()));
+        engine.addListener(this::onEngineEvent);
+
         imageMode(CENTER);
         textAlign(CENTER);
-        frameRate(30);
+        frameRate(FRAME_RATE);
 
         surface.setResizable(true);
-        surface.setIcon(Image.MIRROR.getImages().get(3));
+    }
+
+    /**
+     * Starts recording the session into a new file within {@link #REPLAY_DIRECTORY}. The game is played without recording if this fails.
+     *
+     * @param levels the levels being played.
+     */
+    private void startRecording(LevelSource levels) {
+        try {
+            Path directory = Files.createDirectories(Path.of(REPLAY_DIRECTORY));
+            recorder = ReplayRecorder.attach(engine, levels, directory.resolve("session-" + System.currentTimeMillis() + ".replay"));
+        } catch (IOException e) {
+            System.err.println("The session is not recorded: " + e);
+        }
+    }
+
+    /**
+     * Starts reloading the level pack whenever it is modified, so changes made in a level editor show up without a restart.
+     * The changes are applied to the engine in the next frame outside the editor. Packs which are not stored as a file are not watched.
+     *
+     * @param levels the levels being played, read from the {@link #levelPack}.
+     */
+    private void startWatching(LevelRepository levels) {
+        Path file = Path.of(sketchPath(levelPack));
+        if (!Files.isRegularFile(file)) return;
+
+        try {
+            watcher = LevelPackWatcher.watch(file, levels, reloadedLevels::addAll,
+                    e -> System.err.println("The level pack could not be reloaded: " + e.getMessage()));
+        } catch (IOException e) {
+            System.err.println("The level pack is not watched for changes: " + e);
+        }
+    }
+
+    /**
+     * Registers the {@link EngineMetrics} with JMX, so the game can be watched in JConsole. The game runs on if this fails.
+     */
+    private void registerMetrics() {
+        try {
+            EngineMetrics.register();
+        } catch (JMException e) {
+            System.err.println("The engine metrics are not available through JMX: " + e);
+        }
+    }
+
+    /**
+     * Finishes the recording of the session and stops watching the level pack when the sketch is shut down.
+     */
+    @Override
+    public void dispose() {
+        try {
+            if (recorder != null) recorder.close();
+        } catch (IOException e) {
+            System.err.println("The session recording is incomplete: " + e);
+        }
+
+        try {
+            if (watcher != null) watcher.close();
+        } catch (IOException e) {
+            System.err.println("The level pack watcher could not be stopped: " + e);
+        }
+
+        super.dispose();
     }
 
     /**
      * Main draw loop. Calls {@link BoardManager} instance to draw and visually update the board, and draws the menu box and optionally the game over screen.
-     * Also updates the mouse pointer and the window title.
+     * Also counts the frame, picks up the lasers settled in the background and the levels reloaded since the last frame, updates the mouse pointer
+     * and sets the window icon once it has been loaded.
      */
     public void draw() {
+        countFrame();
+        engine.dispatchPendingEvents();
+        applyReloadedLevels();
         setMousePointer();
 
+        if (!iconSet && Image.MIRROR.getImage(3) != null) {
+            surface.setIcon(Image.MIRROR.getImage(3));
+            iconSet = true;
+        }
+
         background(18);
 
         boardManager.execute(TILE_PADDING, TILE_PADDING, width - TILE_PADDING, height - (BOTTOM_OFFSET + TILE_PADDING));
 
-        if (engine.isCompleted() && boardManager.mirrorsFinished()) drawGameOver();
+        if (editor != null) drawEditorBanner();
+        else if (completed && boardManager.mirrorsFinished()) drawGameOver();
 
         drawMenuBox();
+    }
+
+    /**
+     * Counts the frame within the {@link EngineMetrics}, along with the frames skipped since the previous one.
+     */
+    private void countFrame() {
+        long now = System.nanoTime();
+        long frames = lastFrame == 0 ? 1 : Math.round((now - lastFrame) * FRAME_RATE / 1e9);
+        lastFrame = now;
+
+        EngineMetrics.get().rendered((int) Math.max(0, frames - 1));
+    }
+
+    /**
+     * Hands the levels reloaded by the {@link #watcher} since the last frame over to the engine.
+     * <p>
+     * While editing, the levels are held back until the editor is left, as reloading the current level would discard the unsaved edits.
+     */
+    private void applyReloadedLevels() {
+        if (editor != null || reloadedLevels.isEmpty()) return;
 
-        surface.setTitle(" Laser Game - Level " + nf(engine.getLevelID() + 1, 2) + ": " + engine.getLevelDescription());
+        Set<Integer> levelIDs = new HashSet<>(reloadedLevels);
+        reloadedLevels.removeAll(levelIDs);
+        engine.reloadLevels(levelIDs);
+    }
+
+    /**
+     * Handles changes of the game state pushed by the engine, updating the local game state, the board and the window title.
+     *
+     * @param event the event describing the change.
+     */
+    private void onEngineEvent(EngineEvent event) {
+        if (editor != null && !(event instanceof EngineEvent.LevelChanged)) return;
+
+        if (event instanceof EngineEvent.LevelChanged e) {
+            editor = null;
+            levelID = e.levelID();
+            levelDescription = e.description();
+            optimalMoves = e.optimalMoves();
+            moves = 0;
+            medalID = engine.getMedalID();
+            completed = false;
+            hudChanged = true;
+
+            boardManager.reset();
+            surface.setTitle(" Laser Game - Level " + nf(levelID + 1, 2) + ": " + levelDescription);
+        } else if (event instanceof EngineEvent.TilesChanged e) {
+            boardManager.updateTiles(e.cells());
+        } else if (event instanceof EngineEvent.LasersChanged e) {
+            boardManager.updateLasers(e.lasers());
+        } else if (event instanceof EngineEvent.MovesChanged e) {
+            moves = e.moves();
+            hudChanged = true;
+        } else if (event instanceof EngineEvent.Completed e) {
+            medalID = e.medalID();
+            completed = true;
+            hudChanged = true;
+        }
     }
 
     /**
      * Draws the info box containing medal, moves, level description and level id.
+     * <p>
+     * The box is rendered into the {@link #hud} buffer only when its content or the window size has changed,
+     * otherwise the buffer is drawn as it is.
      */
     private void drawMenuBox() {
-        strokeWeight(min(width / 150f, 4));
-        stroke(255);
-        fill(33);
+        if (hud == null || hud.width != width || hud.height != BOTTOM_OFFSET + HUD_MARGIN) {
+            hud = createGraphics(width, BOTTOM_OFFSET + HUD_MARGIN);
+            hudChanged = true;
+        }
+
+        if (hudChanged) {
+            hudChanged = false;
+            renderMenuBox();
+        }
+
+        image(hud, width / 2f, height - hud.height / 2f);
+    }
+
+    /**
+     * Renders the info box into the {@link #hud} buffer.
+     * <p>
+     * The buffer is translated so the box can be laid out relative to the window, just as if it was drawn directly.
+     * Parts whose image or font have not been loaded yet are left out, and the box is rendered again in the next frame.
+     */
+    private void renderMenuBox() {
+        hud.beginDraw();
+        hud.clear();
+        hud.translate(0, -(height - BOTTOM_OFFSET - HUD_MARGIN));
+        hud.imageMode(CENTER);
+        hud.textAlign(CENTER);
+
+        hud.strokeWeight(min(width / 150f, 4));
+        hud.stroke(255);
+        hud.fill(33);
 
         // Layout boxes & Lines
-        rect(-10, height - BOTTOM_OFFSET, width + 20, height);
-        rect(width - (BOTTOM_OFFSET * 1.8f), height - BOTTOM_OFFSET * 0.9f, BOTTOM_OFFSET * 0.8f, BOTTOM_OFFSET * 0.8f);
-        line(width - (BOTTOM_OFFSET * 1.8f), height - BOTTOM_OFFSET * 0.5f, width - (BOTTOM_OFFSET), height - BOTTOM_OFFSET * 0.5f);
-        rect(BOTTOM_OFFSET * 0.1f, height - BOTTOM_OFFSET * 0.5f, width - BOTTOM_OFFSET * 2f, BOTTOM_OFFSET * 0.4f);
+        hud.rect(-10, height - BOTTOM_OFFSET, width + 20, height);
+        hud.rect(width - (BOTTOM_OFFSET * 1.8f), height - BOTTOM_OFFSET * 0.9f, BOTTOM_OFFSET * 0.8f, BOTTOM_OFFSET * 0.8f);
+        hud.line(width - (BOTTOM_OFFSET * 1.8f), height - BOTTOM_OFFSET * 0.5f, width - (BOTTOM_OFFSET), height - BOTTOM_OFFSET * 0.5f);
+        hud.rect(BOTTOM_OFFSET * 0.1f, height - BOTTOM_OFFSET * 0.5f, width - BOTTOM_OFFSET * 2f, BOTTOM_OFFSET * 0.4f);
 
         // Medal
-        image(Image.MEDAL.getImages().get(engine.getMedalID()),
-                width - BOTTOM_OFFSET / 2f, height - BOTTOM_OFFSET / 2f,
-                BOTTOM_OFFSET * 0.8f, BOTTOM_OFFSET * 0.8f);
+        PImage medal = Image.MEDAL.getImage(medalID);
+        if (medal != null)
+            hud.image(medal, width - BOTTOM_OFFSET / 2f, height - BOTTOM_OFFSET / 2f,
+                    BOTTOM_OFFSET * 0.8f, BOTTOM_OFFSET * 0.8f);
+
+        PFont font = this.font;
+        if (medal == null || font == null) hudChanged = true;
+        if (font == null) {
+            hud.endDraw();
+            return;
+        }
 
         // Move counter
-        fill(255);
-        textFont(font, 50);
-        text(engine.getMoves(),
+        hud.fill(255);
+        hud.textFont(font, 50);
+        hud.text(moves,
                 width - (BOTTOM_OFFSET * 1.4f), height - BOTTOM_OFFSET * 0.55f);
-        text(engine.getOptimalMoves(),
+        hud.text(optimalMoves,
                 width - (BOTTOM_OFFSET * 1.4f), height - BOTTOM_OFFSET * 0.15f);
 
         // Level name
-        textFont(font, min(max(width - BOTTOM_OFFSET * 2.1f, 1) / 12f, 53));
-        text(engine.getLevelDescription(), (width - BOTTOM_OFFSET * 1.8f) / 2f, height - BOTTOM_OFFSET * 0.15f);
-        text("Level " + (engine.getLevelID() + 1), (width - BOTTOM_OFFSET * 1.8f) / 2f, height - BOTTOM_OFFSET * 0.55f);
+        hud.textFont(font, min(max(width - BOTTOM_OFFSET * 2.1f, 1) / 12f, 53));
+        hud.text(levelDescription, (width - BOTTOM_OFFSET * 1.8f) / 2f, height - BOTTOM_OFFSET * 0.15f);
+        hud.text("Level " + (levelID + 1), (width - BOTTOM_OFFSET * 1.8f) / 2f, height - BOTTOM_OFFSET * 0.55f);
+
+        hud.endDraw();
     }
 
     /**
@@ -142,44 +463,131 @@ public class App extends PApplet {
         fill(0, 130);
         rect(-width, -height, width * 2, height * 2);
         fill(255, 200);
-        textFont(font, min(width / 18f, 70, height / 18f));
+        if (font != null) textFont(font, min(width / 18f, 70, height / 18f));
         text("Level Completed!\nTo play again, use any mouse button.\nSwitch levels with the arrow keys!", 0, -(height) / 7f);
 
         popMatrix();
     }
 
+    /**
+     * Draws the banner shown while editing, naming the tile type to place and the controls of the editor.
+     * Warns if the edited level was changed in the level pack file meanwhile, as saving overwrites that change.
+     */
+    private void drawEditorBanner() {
+        fill(0, 160);
+        noStroke();
+        rect(0, 0, width, TILE_PADDING * 0.6f);
+
+        fill(255);
+        if (font != null) textFont(font, min(width / 30f, 24));
+        text("Editing: " + Tile.Type.values()[editorType] + " (up / down)"
+                + (reloadedLevels.contains(levelID) ? " - changed on disk, saving overwrites it" : "") + "\n"
+                + "Left click places, right click rotates, middle click removes. S saves, E leaves.", width / 2f, TILE_PADDING * 0.25f);
+    }
+
     /**
      * Updates mouse pointer.
      * <p>
      * If the mouse is above an intractable tile, the cursor changes to {@link #HAND}.
      */
     private void setMousePointer() {
-        Pair<Integer, Integer> mousePos = boardManager.tileOfVector(new PVector(mouseX, mouseY));
+        Tile tile = boardManager.getTile(boardManager.tileAt(mouseX, mouseY));
 
-        if (engine.getCopyOfTiles().get(mousePos) != null
-                && engine.getCopyOfTiles().get(mousePos).getType().canInteract()
-                && !engine.isCompleted())
+        if (editor != null)
+            cursor(CROSS);
+        else if (tile != null
+                && tile.getType().canInteract()
+                && !completed)
             cursor(HAND);
         else
             cursor(ARROW);
     }
 
     /**
-     * Upon mouse release, there is an attempt at interacting with the tile board.
+     * Upon mouse press, the drag distance is reset.
+     */
+    public void mousePressed() {
+        dragDistance = 0;
+    }
+
+    /**
+     * Upon mouse drag, the board is panned.
+     */
+    public void mouseDragged() {
+        dragDistance += dist(pmouseX, pmouseY, mouseX, mouseY);
+        boardManager.pan(mouseX - pmouseX, mouseY - pmouseY);
+    }
+
+    /**
+     * Upon mouse wheel movement, the board is zoomed in or out around the mouse position.
+     *
+     * @param event the mouse event, storing the amount of wheel steps.
+     */
+    public void mouseWheel(MouseEvent event) {
+        boardManager.zoom(-event.getCount(), new PVector(mouseX, mouseY));
+    }
+
+    /**
+     * Upon mouse release, there is an attempt at interacting with the tile board, unless the board has been panned.
      */
     public void mouseReleased() {
-        if (engine.isCompleted() && boardManager.mirrorsFinished()) {
+        if (dragDistance > DRAG_THRESHOLD) return;
+
+        if (editor != null) {
+            edit(boardManager.tileAt(mouseX, mouseY));
+        } else if (completed && boardManager.mirrorsFinished()) {
             requestLevel(0);
         } else try {
-            engine.registerInteraction(boardManager.tileOfVector(new PVector(mouseX, mouseY)), mouseButton);
+            engine.registerInteraction(boardManager.tileAt(mouseX, mouseY), switch (mouseButton) {
+                case LEFT -> Button.LEFT;
+                case RIGHT -> Button.RIGHT;
+                case CENTER -> Button.CENTER;
+                default -> Button.NONE;
+            });
         } catch (IllegalStateException | IllegalArgumentException ignored) {
         }
     }
 
+    /**
+     * Edits the tile at a position according to the mouse button, and updates the board with the preview of the editor.
+     *
+     * @param pos the position of the tile. Edits outside the board, i.e. at negative positions, are ignored.
+     */
+    private void edit(Pair<Integer, Integer> pos) {
+        if (pos == null || pos.x() < 0 || pos.y() < 0) return;
+
+        switch (mouseButton) {
+            case LEFT -> editor.place(pos, Tile.Type.values()[editorType]);
+            case RIGHT -> {
+                if (editor.getCopyOfTile(pos) != null) editor.rotate(pos, Button.RIGHT);
+            }
+            case CENTER -> editor.remove(pos);
+        }
+
+        boardManager.replaceTiles(Set.of(pos));
+        boardManager.updateLasers(editor.getLasers());
+    }
+
     /**
      * Upon key release, if the key was an arrow key, the level is reset or changed.
+     * <p>
+     * E starts or stops editing the current level. While editing, up and down select the tile type to place and S saves the level.
      */
     public void keyReleased() {
+        if (key == 'e' || key == 'E') {
+            toggleEditor();
+            return;
+        }
+
+        if (editor != null) {
+            if (key == 's' || key == 'S') saveEditedLevel();
+            else if (key == CODED && (keyCode == UP || keyCode == DOWN)) {
+                int count = Tile.Type.values().length;
+                editorType = (editorType + (keyCode == UP ? count - 1 : 1)) % count;
+            }
+            return;
+        }
+
         if (key != CODED) return;
 
         requestLevel(switch (keyCode) {
@@ -190,7 +598,48 @@ public class App extends PApplet {
     }
 
     /**
-     * Puts through a level request to the engine and then calls the {@link BoardManager#reset()} Method to reset the graphics.
+     * Starts editing the current level in its initial state, or stops editing and discards all unsaved changes.
+     */
+    private void toggleEditor() {
+        editor = editor == null ? new LevelEditor(levels.getLevel(levelID)) : null;
+        boardManager.reset();
+    }
+
+    /**
+     * Saves the edited level into the level pack and stops editing.
+     * <p>
+     * The levels are replaced right away, which also reloads the current level within the engine.
+     * The pack is then written to the {@link #levelPack} file, so the {@link #watcher} finds it unchanged,
+     * or to {@link #EDITED_LEVEL_PACK} if the level pack is not a file.
+     */
+    private void saveEditedLevel() {
+        List<LevelData> edited = new ArrayList<>();
+        for (int i = 0; i < levels.size(); i++)
+            edited.add(i == levelID ? editor.toData() : levels.getLevel(i));
+
+        StringWriter text = new StringWriter();
+        try {
+            new LevelPack(edited).write(text);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+
+        editor = null;
+        engine.reloadLevels(levels.update(text.toString()));
+        boardManager.reset();
+
+        Path file = Path.of(sketchPath(levelPack));
+        if (!Files.isRegularFile(file)) file = Path.of(sketchPath(EDITED_LEVEL_PACK));
+
+        try {
+            Files.writeString(file, text.toString());
+        } catch (IOException e) {
+            System.err.println("The edited level could not be saved: " + e);
+        }
+    }
+
+    /**
+     * Puts through a level request to the engine. The graphics are reset once the engine reports the level change.
      *
      * @param shift the request shift.
      *              <p>
@@ -198,25 +647,34 @@ public class App extends PApplet {
      */
     private void requestLevel(int shift) {
         engine.requestLevel(shift);
-        boardManager.reset();
     }
 
     /**
-     * Gets and passes on the tile map.
+     * Gets and passes on the tile map, taken from the {@link #editor} while editing.
      *
      * @return a fresh copy of the tile map.
      */
     protected Map<Pair<Integer, Integer>, Tile> fetchTiles() {
-        return engine.getCopyOfTiles();
+        return editor != null ? editor.getCopyOfTiles() : engine.getCopyOfTiles();
+    }
+
+    /**
+     * Gets and passes on a single tile, taken from the {@link #editor} while editing.
+     *
+     * @param pos the position of the tile.
+     * @return a fresh copy of the tile, or null if there is none.
+     */
+    protected Tile fetchTile(Pair<Integer, Integer> pos) {
+        return editor != null ? editor.getCopyOfTile(pos) : engine.getCopyOfTile(pos);
     }
 
     /**
-     * Gets and passes on the laser set.
+     * Gets and passes on the laser set, previewed by the {@link #editor} while editing.
      *
      * @return the laser set.
      */
     protected Set<Laser> fetchLasers() {
-        return engine.getLasers();
+        return editor != null ? editor.getLasers() : engine.getLasers();
     }
 
     /**
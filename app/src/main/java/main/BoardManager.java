@@ -3,6 +3,7 @@ package main;
 import engine.Laser;
 import engine.Pair;
 import engine.Tile;
+import processing.core.PImage;
 import processing.core.PVector;
 
 import java.util.*;
@@ -16,17 +17,24 @@ import static processing.core.PApplet.*;
  */
 final class BoardManager {
 
+    /**
+     * The default tile size (in pixels) below which the board is drawn in the level of detail mode.
+     *
+     * @see #setLodTileSize(float)
+     */
+    static final float DEFAULT_LOD_TILE_SIZE = 8;
+
     /**
      * The App instance. Used to be an instance of PGraphics but due to compatibility issues and the need of fetching the tile map this has been changed.
      */
     private final App g;
 
     /**
-     * The stored mirror rotations. This is purely visual and allows mirrors to have animations as they turn.
+     * The mirror animator, storing the mirror rotations. This is purely visual and allows mirrors to have animations as they turn.
      *
-     * @see #updateMirrors()
+     * @see #updateTiles(Set)
      */
-    private Map<Pair<Integer, Integer>, Float> mirrorRotations;
+    private final MirrorAnimator mirrors = new MirrorAnimator();
 
     /**
      * The stored laser paths. This is purely visual and allows lasers to appear as if they fade in and out when their path has changed.
@@ -41,6 +49,10 @@ final class BoardManager {
 
     /**
      * The locally stored version of the tileMap, used to prevent repeated calls to other instances within a single draw cycle.
+     * <p>
+     * Loaded entirely upon {@link #reset()}, afterwards only the tiles reported as changed are updated.
+     *
+     * @see #updateTiles(Set)
      */
     private Map<Pair<Integer, Integer>, Tile> tileMap;
 
@@ -53,6 +65,56 @@ final class BoardManager {
      */
     private Pair<Integer, Integer> maxTiles;
 
+    /**
+     * The locally stored set of lasers, as last reported by the engine.
+     *
+     * @see #updateLasers(Set)
+     */
+    private Set<Laser> lasers;
+
+    /**
+     * The camera, storing zoom and pan of the board.
+     */
+    private final Camera camera = new Camera();
+
+    /**
+     * The range of tile positions that are at least partially visible on the board canvas, as lowest and highest position.
+     * <p>
+     * Updated in every execute (draw) cycle.
+     *
+     * @see #updateVisibleRange()
+     */
+    private Pair<Integer, Integer> visibleMin, visibleMax;
+
+    /**
+     * The tile size (in pixels) below which the board is drawn in the level of detail mode.
+     *
+     * @see #drawOverview()
+     */
+    private float lodTileSize = DEFAULT_LOD_TILE_SIZE;
+
+    /**
+     * The pixel buffer the board is drawn into in the level of detail mode. Recreated whenever the board canvas changes its size.
+     *
+     * @see #drawOverview()
+     */
+    private PImage overview;
+
+    /**
+     * The tile column shown by every pixel column of the {@link #overview}, as of its last rebuild.
+     */
+    private int[] overviewColumns = new int[0];
+
+    /**
+     * The tile position shown in the top left corner of the {@link #overview} and the tile size, as of its last rebuild.
+     */
+    private float overviewX, overviewY, overviewTileSize;
+
+    /**
+     * True, if the tiles have changed since the {@link #overview} was last rebuilt.
+     */
+    private boolean overviewStale = true;
+
     /**
      * The current edges of the game board.
      * <p>
@@ -75,7 +137,8 @@ final class BoardManager {
     /**
      * The key method of this class. Using the given coordinates, draws the board and lasers.
      * <p>
-     * Additionally, it updates the laser and mirror animations.
+     * Additionally, it updates the laser and mirror animations. Only the part of the board visible through the {@link Camera} is drawn.
+     * Each phase is timed by a {@link RenderPhaseEvent}.
      *
      * @param x1 the left border of the board
      * @param y1 the top border of the board
@@ -88,17 +151,161 @@ final class BoardManager {
         this.x2 = x2;
         this.y2 = y2;
 
-        storeLasers(g.fetchLasers());
-        tileMap = g.fetchTiles();
-        updateMirrors();
+        RenderPhaseEvent event = RenderPhaseEvent.start();
+        camera.setBaseSize(min((x2 - x1) / (float) maxTiles.x(), (y2 - y1) / (float) maxTiles.y(), 50));
+        updateVisibleRange();
+
+        storeLasers(lasers);
+        event.commit("layout", getTileSize());
+
+        event = RenderPhaseEvent.start();
+        if (getTileSize() < lodTileSize) {
+            mirrors.finish(tileMap);
+            event.commit("animation", getTileSize());
+
+            event = RenderPhaseEvent.start();
+            drawOverview();
+            event.commit("overview", getTileSize());
+        } else {
+            mirrors.step(tileMap);
+            event.commit("animation", getTileSize());
+
+            event = RenderPhaseEvent.start();
+            drawBoard();
+            event.commit("board", getTileSize());
+        }
+    }
 
-        drawBoard();
+    /**
+     * Setter for the tile size below which the board is drawn in the level of detail mode.
+     *
+     * @param lodTileSize the tile size in pixels. 0 disables the level of detail mode.
+     */
+    protected void setLodTileSize(float lodTileSize) {
+        this.lodTileSize = lodTileSize;
+    }
+
+    /**
+     * Draws the board in the level of detail mode, used when the tiles are too small for their images to be recognisable.
+     * <p>
+     * Every pixel of the board canvas is coloured after the tile it shows (see {@link #colorOf(Tile)}), and lasers are drawn as thin lines.
+     * The pixels are kept between frames and only rebuilt once the camera, the size of the board canvas or the tiles have changed.
+     */
+    private void drawOverview() {
+        int w = x2 - x1, h = y2 - y1;
+        if (w <= 0 || h <= 0) return;
+
+        if (overview == null || overview.width != w || overview.height != h) {
+            overview = g.createImage(w, h, ARGB);
+            overviewColumns = new int[w];
+            overviewStale = true;
+        }
+
+        float m = getTileSize();
+        PVector origin = camera.toBoard(new PVector(-w / 2f, -h / 2f));
+
+        if (overviewStale || origin.x != overviewX || origin.y != overviewY || m != overviewTileSize) {
+            overviewX = origin.x;
+            overviewY = origin.y;
+            overviewTileSize = m;
+            overviewStale = false;
+            rebuildOverview(w, h);
+        }
+
+        g.image(overview, x1 + w / 2f, y1 + h / 2f, w, h);
+
+        g.imageMode(CORNER);
+        g.clip(x1, y1, w, h);
+        g.imageMode(CENTER);
+
+        g.pushMatrix();
+        g.translate(x1 + w / 2f, y1 + h / 2f);
+        g.strokeWeight(1);
+
+        // Draws only the most recent lasers, without fading
+        lasers.forEach(l -> {
+            g.stroke(laserColorOf(l), 255);
+            drawLaserPath(l);
+        });
+
+        g.popMatrix();
+        g.noClip();
+    }
+
+    /**
+     * Colours every pixel of the {@link #overview} after the tile it shows, as seen from the stored camera position.
+     * <p>
+     * A tile is only looked up once per run of pixels within a row, and pixel rows showing the same tile row as the row above
+     * are copied from it, so every tile is looked up at most once per rebuild.
+     *
+     * @param w the width of the overview, in pixels.
+     * @param h the height of the overview, in pixels.
+     */
+    private void rebuildOverview(int w, int h) {
+        int[] columns = overviewColumns;
+        for (int px = 0; px < w; px++)
+            columns[px] = floor(overviewX + (px + 0.5f) / overviewTileSize + 0.5f);
+
+        overview.loadPixels();
+        int[] pixels = overview.pixels;
+
+        for (int py = 0, previous = 0; py < h; py++) {
+            int y = floor(overviewY + (py + 0.5f) / overviewTileSize + 0.5f);
+
+            if (py > 0 && y == previous) {
+                System.arraycopy(pixels, (py - 1) * w, pixels, py * w, w);
+                continue;
+            }
+
+            int color = 0;
+            for (int px = 0; px < w; px++) {
+                if (px == 0 || columns[px] != columns[px - 1])
+                    color = colorOf(tileMap.get(Pair.of(columns[px], y)));
+
+                pixels[py * w + px] = color;
+            }
+            previous = y;
+        }
+
+        overview.updatePixels();
+    }
+
+    /**
+     * Determines the colour a tile is drawn with in the level of detail mode.
+     *
+     * @param tile the tile. May be null.
+     * @return the colour as an ARGB value. Transparent, if there is no tile.
+     */
+    private int colorOf(Tile tile) {
+        if (tile == null) return 0;
+
+        return switch (tile.getType()) {
+            case FLOOR -> g.color(66);
+            case STONE, STONE_BROKEN, STONE_CHIPPED -> g.color(120);
+            case REDIRECT -> g.color(160, 160, 200);
+            case STONE_TARGET -> g.color(230);
+            case LASER_RED, SWITCH_RED -> g.color(200, 40, 40);
+            case LASER_GREEN, SWITCH_GREEN -> g.color(40, 200, 40);
+            case LASER_BLUE, SWITCH_BLUE -> g.color(40, 40, 200);
+            case SWITCH_CYAN -> g.color(40, 200, 200);
+            case SWITCH_YELLOW -> g.color(200, 200, 40);
+            case SWITCH_MAGENTA -> g.color(200, 40, 200);
+            case MIRROR -> g.color(180, 220, 255);
+            case TUNNELS_LEFT, TUNNELS_RIGHT -> g.color(150, 110, 70);
+        };
     }
 
     /**
      * Draws the board of tiles as well as the lasers. View the individual steps to learn more about how the textures are layered.
      */
     private void drawBoard() {
+        List<Map.Entry<Pair<Integer, Integer>, Tile>> visibleTiles = getVisibleTiles();
+
+        // Tiles partially outside the board area must not cover the menu box
+        g.imageMode(CORNER);
+        g.clip(x1, y1, x2 - x1, y2 - y1);
+        g.imageMode(CENTER);
+
         g.pushMatrix();
         g.translate(x1 + ((x2 - x1) / 2f), y1 + ((y2 - y1) / 2f));
         // 0, 0 is now the center of the board drawing area
@@ -107,19 +314,19 @@ final class BoardManager {
         g.noStroke();
 
         // Draws grey-ish outline around all tiles
-        tileMap.keySet().forEach(key -> {
+        visibleTiles.stream().map(Map.Entry::getKey).forEach(key -> {
             PVector pos = vectorOfTile(key.x(), key.y());
             g.square(pos.x - getTileSize(), pos.y - getTileSize(), getTileSize() * 2);
         });
 
         // Draws a floor image with a pattern for all transparent tiles
-        tileMap.entrySet().stream().filter(e -> e.getValue().getType().equals(Tile.Type.FLOOR)
+        visibleTiles.stream().filter(e -> e.getValue().getType().equals(Tile.Type.FLOOR)
                 || Image.valueOf(e.getValue().getType().toString()).isTransparent())
                 .map(Map.Entry::getKey)
                 .forEach(key -> Image.FLOOR.draw(vectorOfTile(key.x(), key.y()), (key.x() + key.y()) % 4));
 
         // Draws all tiles once
-        tileMap.entrySet().stream()
+        visibleTiles.stream()
                 .filter(set -> !(set.getValue().getType().equals(Tile.Type.MIRROR)
                         || set.getValue().getType().equals(Tile.Type.FLOOR)))
                 .forEach(set ->
@@ -127,16 +334,19 @@ final class BoardManager {
                                 .draw(vectorOfTile(set.getKey().x(), set.getKey().y()), set.getValue().getState()));
 
         // Extracts lasers from the queue, then draws them.
+        g.strokeWeight(min(g.width / 150f, 4));
         laserStorage.stream()
                 .filter(Objects::nonNull)
                 .flatMap(Collection::stream)
                 .forEach(this::drawLaser);
 
         // Draws all mirrors in their current rotation
-        mirrorRotations.keySet().forEach(this::drawMirror);
+        visibleTiles.stream()
+                .filter(t -> t.getValue().getType().equals(Tile.Type.MIRROR))
+                .forEach(t -> drawMirror(t.getKey()));
 
         // Draws all tiles which have collision to cover the laser
-        tileMap.entrySet().stream()
+        visibleTiles.stream()
                 .filter(t -> t.getValue().hasCollision() && !t.getValue().getType().isLaserSource())
                 .filter(t -> !t.getValue().getType().equals(Tile.Type.STONE_TARGET) && !t.getValue().getType().equals(Tile.Type.MIRROR))
                 .forEach(t -> Image.valueOf(t.getValue().getType().toString())
@@ -144,6 +354,57 @@ final class BoardManager {
 
         // Reloads the previously pushed matrix
         g.popMatrix();
+        g.noClip();
+    }
+
+    /**
+     * Determines the range of tile positions visible through the camera, including a margin of one tile
+     * as tiles (and their outlines) reach into their neighbours.
+     */
+    private void updateVisibleRange() {
+        PVector low = camera.toBoard(new PVector(-(x2 - x1) / 2f, -(y2 - y1) / 2f));
+        PVector high = camera.toBoard(new PVector((x2 - x1) / 2f, (y2 - y1) / 2f));
+
+        visibleMin = Pair.of(max(0, floor(low.x) - 1), max(0, floor(low.y) - 1));
+        visibleMax = Pair.of(min(maxTiles.x(), ceil(high.x) + 1), min(maxTiles.y(), ceil(high.y) + 1));
+    }
+
+    /**
+     * Collects all tiles within the visible range, row by row.
+     * <p>
+     * When zoomed in, the tiles are looked up position by position, so the cost depends on the visible area rather than the board size.
+     * If the visible area holds more positions than there are tiles (e.g. on sparse boards), the tile map is filtered instead.
+     *
+     * @return the visible tiles.
+     */
+    private List<Map.Entry<Pair<Integer, Integer>, Tile>> getVisibleTiles() {
+        long area = (long) (visibleMax.x() - visibleMin.x() + 1) * (visibleMax.y() - visibleMin.y() + 1);
+
+        if (area > tileMap.size())
+            return tileMap.entrySet().stream().filter(e -> isVisible(e.getKey().x(), e.getKey().y())).toList();
+
+        List<Map.Entry<Pair<Integer, Integer>, Tile>> visibleTiles = new ArrayList<>((int) area);
+
+        for (int y = visibleMin.y(); y <= visibleMax.y(); y++)
+            for (int x = visibleMin.x(); x <= visibleMax.x(); x++) {
+                Pair<Integer, Integer> pos = Pair.of(x, y);
+                Tile tile = tileMap.get(pos);
+
+                if (tile != null) visibleTiles.add(Map.entry(pos, tile));
+            }
+
+        return visibleTiles;
+    }
+
+    /**
+     * Determines if a tile position lies within the visible range.
+     *
+     * @param x x-position of the tile (index).
+     * @param y y-position of the tile (index).
+     * @return true, if the position is visible.
+     */
+    private boolean isVisible(int x, int y) {
+        return x >= visibleMin.x() && x <= visibleMax.x() && y >= visibleMin.y() && y <= visibleMax.y();
     }
 
     /**
@@ -157,19 +418,94 @@ final class BoardManager {
     }
 
     /**
-     * Resets the animation features and recalculates max tiles, as well as loading the tileMap once more.
+     * Resets the animation features, the camera and recalculates max tiles, as well as loading the tileMap once more.
      */
     protected void reset() {
         resetDynamicGraphics();
         tileMap = g.fetchTiles();
+        lasers = g.fetchLasers();
+        overviewStale = true;
+        mirrors.reset(tileMap);
         maxTiles = getMaxTiles();
+        camera.reset(maxTiles);
     }
 
     /**
-     * Resets the storages for mirror and laser animation.
+     * Loads the given tiles of the tileMap once more and animates the changed mirrors.
+     * <p>
+     * Fetching all tiles is expensive on large boards, so only the tiles reported by the engine are updated.
+     *
+     * @param cells the positions of all tiles which may have changed, as reported by the engine.
+     */
+    protected void updateTiles(Set<Pair<Integer, Integer>> cells) {
+        cells.forEach(pos -> tileMap.put(pos, g.fetchTile(pos)));
+        mirrors.schedule(cells, tileMap);
+        if (!cells.isEmpty()) overviewStale = true;
+    }
+
+    /**
+     * Loads the given tiles of the tileMap once more without any animation, e.g. after they have been edited.
+     * Tiles may have been added or removed, so the board grows with tiles placed beyond its bounds.
+     *
+     * @param cells the positions of all tiles which have been replaced.
+     */
+    protected void replaceTiles(Set<Pair<Integer, Integer>> cells) {
+        for (Pair<Integer, Integer> pos : cells) {
+            Tile tile = g.fetchTile(pos);
+
+            if (tile == null) tileMap.remove(pos);
+            else tileMap.put(pos, tile);
+
+            mirrors.replace(pos, tile);
+            maxTiles = Pair.of(Integer.max(maxTiles.x(), pos.x()), Integer.max(maxTiles.y(), pos.y()));
+        }
+
+        overviewStale = true;
+    }
+
+    /**
+     * Replaces the locally stored lasers.
+     *
+     * @param lasers the new lasers, as reported by the engine.
+     */
+    protected void updateLasers(Set<Laser> lasers) {
+        this.lasers = lasers;
+    }
+
+    /**
+     * Getter for a single tile of the locally stored tileMap.
+     *
+     * @param pos the position of the tile.
+     * @return the tile at this position, or null if there is none.
+     */
+    protected Tile getTile(Pair<Integer, Integer> pos) {
+        return tileMap.get(pos);
+    }
+
+    /**
+     * Zooms the board in or out.
+     *
+     * @param steps the amount of zoom steps. Positive values zoom in, negative values zoom out.
+     * @param pos   the absolute position on the canvas that stays in place, usually the mouse position.
+     */
+    protected void zoom(float steps, PVector pos) {
+        camera.zoom(steps, new PVector(pos.x - (x1 + (x2 - x1) / 2f), pos.y - (y1 + (y2 - y1) / 2f)));
+    }
+
+    /**
+     * Moves the visible part of the board.
+     *
+     * @param dX the distance to move the board by in the x direction, in pixels.
+     * @param dY the distance to move the board by in the y direction, in pixels.
+     */
+    protected void pan(float dX, float dY) {
+        camera.pan(dX, dY);
+    }
+
+    /**
+     * Resets the storage for laser animation.
      */
     private void resetDynamicGraphics() {
-        mirrorRotations = new HashMap<>();
         laserStorage = new LinkedList<>();
 
         for (int i = 0; i < 4; i++)
@@ -183,10 +519,10 @@ final class BoardManager {
      * there are some assertions to ensure expected behavior.
      *
      * @param pos the position of the mirror to draw.
-     *            Throws an exception if given position does not have a mirror stored in the mirrorRotations map (set up by the {@link #reset()} method) or there is no mirror present at this position.
+     *            Throws an exception if given position does not have a mirror stored in the {@link MirrorAnimator} (set up by the {@link #reset()} method) or there is no mirror present at this position.
      */
     private void drawMirror(Pair<Integer, Integer> pos) {
-        if (mirrorRotations.get(pos) == null)
+        if (mirrors.getRotation(pos) == null)
             throw new IllegalArgumentException("Tried to access undefined mirror position");
 
         if (tileMap.get(pos) == null || !tileMap.get(pos).getType().equals(Tile.Type.MIRROR))
@@ -196,64 +532,66 @@ final class BoardManager {
 
         g.pushMatrix();
         g.translate(p.x, p.y);
-        g.rotate(radians(mirrorRotations.get(pos)));
+        g.rotate(radians(mirrors.getRotation(pos)));
 
         Image.MIRROR.draw(new PVector(0, 0), 0);
 
         g.popMatrix();
     }
 
-    /**
-     * Rotationally moves mirrors as appropriate.
-     * <p>
-     * Mirrors that are not yet facing the direction that their state declares are moved by 22.5 degrees each turn in the direction closest to their target.
-     */
-    private void updateMirrors() {
-        tileMap.entrySet().stream()
-                .filter(set -> set.getValue().getType().equals(Tile.Type.MIRROR))
-                .forEach(set -> mirrorRotations.put(set.getKey(), mirrorRotations.getOrDefault(set.getKey(), set.getValue().getState() * 90f)));
-
-        mirrorRotations.entrySet().stream()
-                .filter(set -> set.getValue() != tileMap.get(set.getKey()).getState() * 90f)
-                .forEach(set -> {
-                    float delta = (360f + (tileMap.get(set.getKey()).getState() * 90f - set.getValue())) % 360f;
-
-                    if (delta > 180)
-                        set.setValue(abs(delta) < 22.5f ? tileMap.get(set.getKey()).getState() * 90f : set.getValue() - 22.5f);
-                    else
-                        set.setValue(abs(delta) < 22.5f ? tileMap.get(set.getKey()).getState() * 90f : set.getValue() + 22.5f);
-                });
-    }
-
     /**
      * Determines if all mirrors have finished visually rotating to their target position.
      *
      * @return true, if all mirrors have finished their animations.
      */
     protected boolean mirrorsFinished() {
-        return mirrorRotations.entrySet().stream()
-                .filter(set -> set.getValue() != tileMap.get(set.getKey()).getState() * 90f)
-                .findAny().isEmpty();
+        return !mirrors.isRunning();
     }
 
     /**
-     * Draws a specific laser along the points, with the specified color.
+     * Draws a specific laser along the points, with the specified color and a flickering transparency.
      *
      * @param l the {@link Laser}.
      */
     private void drawLaser(Laser l) {
-        switch (l.color()) {
-            case RED -> g.stroke(255, 0, 0, 30 + g.random(30));
-            case BLUE -> g.stroke(0, 0, 255, 30 + g.random(30));
-            case GREEN -> g.stroke(0, 255, 0, 30 + g.random(30));
-        }
+        g.stroke(laserColorOf(l), 30 + g.random(30));
+        drawLaserPath(l);
+    }
+
+    /**
+     * Determines the colour of a laser.
+     *
+     * @param l the {@link Laser}.
+     * @return the opaque colour as an RGB value.
+     */
+    private int laserColorOf(Laser l) {
+        return switch (l.color()) {
+            case RED -> g.color(255, 0, 0);
+            case BLUE -> g.color(0, 0, 255);
+            case GREEN -> g.color(0, 255, 0);
+        };
+    }
+
+    /**
+     * Draws the path of a laser as lines along its points, using the current stroke.
+     * <p>
+     * Segments which lie entirely outside the visible range are skipped.
+     *
+     * @param l the {@link Laser}.
+     */
+    private void drawLaserPath(Laser l) {
+        List<Pair<Integer, Integer>> points = l.points();
+
+        for (int i = 0; i < points.size() - 1; i++) {
+            Pair<Integer, Integer> from = points.get(i), to = points.get(i + 1);
 
-        PVector[] a = l.points().stream()
-                .map(v -> vectorOfTile(v.x(), v.y()))
-                .toArray(PVector[]::new);
+            if (max(from.x(), to.x()) < visibleMin.x() || min(from.x(), to.x()) > visibleMax.x()
+                    || max(from.y(), to.y()) < visibleMin.y() || min(from.y(), to.y()) > visibleMax.y())
+                continue;
 
-        for (int i = 0; i < a.length - 1; i++)
-            g.line(a[i].x, a[i].y, a[i + 1].x, a[i + 1].y);
+            PVector a = vectorOfTile(from.x(), from.y()), b = vectorOfTile(to.x(), to.y());
+            g.line(a.x, a.y, b.x, b.y);
+        }
     }
 
     /**
@@ -261,52 +599,42 @@ final class BoardManager {
      * Does not require the position to contain a tile.
      * <p>
      * This method will return the vector needed to draw on the smaller board canvas, not the entire canvas!
-     * It also assumes the center to be 0, 0. In short, don't use this anywhere else.
+     * It also assumes the center to be 0, 0 and takes the {@link Camera} into account. In short, don't use this anywhere else.
      *
      * @param x x-position of the tile (index).
      * @param y y-position of the tile (index).
      * @return The {@link PVector} pointing to the center of the given tile position.
      */
     private PVector vectorOfTile(int x, int y) {
-        float m = getTileSize();
-
-        return new PVector((x - maxTiles.x() * 0.5f) * m, (y - maxTiles.y() * 0.5f) * m);
+        return camera.toCanvas(x, y);
     }
 
     /**
      * Converts an absolute position on the canvas into the tile position (index) which it is pointing to.
      * <p>
-     * This method assumes the vector given is one from the larger canvas - not just the board canvas.
-     * It is mostly used to calculate mouse interaction.
+     * This method assumes the position given is one from the larger canvas - not just the board canvas.
+     * It is used to calculate mouse interaction, once per frame, so it does not allocate while the mouse stays on a tile.
      *
-     * @param pos relative position from which to get the tile index.
-     * @return the pair representing the position which the given {@link PVector} points to.
+     * @param x the x-position on the canvas.
+     * @param y the y-position on the canvas.
+     * @return the pair representing the position which the given position points to, or null if it lies outside the board canvas.
      * @see App#mouseReleased()
+     * @see Camera#tileAt(float, float)
      */
-    protected Pair<Integer, Integer> tileOfVector(PVector pos) {
-        if (pos == null || pos.x < x1 || pos.x > x2 || pos.y < y1 || pos.y > y2)
+    protected Pair<Integer, Integer> tileAt(float x, float y) {
+        if (x < x1 || x > x2 || y < y1 || y > y2)
             return null;
 
-        float m = getTileSize();
-
-        PVector zero = vectorOfTile(0, 0);
-
-        float cX = x1 + ((x2 - x1) / 2f);
-        float cY = y1 + ((y2 - y1) / 2f);
-
-        float rX = pos.x - (zero.x + cX) + m / 2f;
-        float rY = pos.y - (zero.y + cY) + m / 2f;
-
-        return Pair.of(floor(rX / m), floor(rY / m));
+        return camera.tileAt(x - (x1 + (x2 - x1) / 2f), y - (y1 + (y2 - y1) / 2f));
     }
 
     /**
-     * Calculates the size of tiles for the given (physical) board size as well as the amount of tiles in both the x- and y-dimension.
+     * Calculates the size of tiles for the given (physical) board size, the amount of tiles in both the x- and y-dimension and the zoom of the {@link Camera}.
      *
-     * @return the tile size for the current board size and level.
+     * @return the tile size for the current board size, level and zoom.
      */
     protected float getTileSize() {
-        return min((x2 - x1) / maxTiles.x(), (y2 - y1) / maxTiles.y(), 50);
+        return camera.getTileSize();
     }
 
     /**
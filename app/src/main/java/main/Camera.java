@@ -0,0 +1,160 @@
+package main;
+
+import engine.Pair;
+import processing.core.PVector;
+
+import static processing.core.PApplet.*;
+
+/**
+ * The Camera class. Stores which part of the board is visible and converts between tile positions and the board canvas.
+ * <p>
+ * At a zoom of 1, the whole board fits into the board canvas. Zooming in enlarges the tiles around a fixed point,
+ * and panning moves the visible part of the board. All vectors handled by this class are relative to the center of the board canvas.
+ */
+final class Camera {
+    /**
+     * The largest size a tile may be zoomed to, in pixels.
+     */
+    private static final float MAX_TILE_SIZE = 200;
+
+    /**
+     * The factor by which a single step of the mouse wheel zooms in or out.
+     */
+    private static final float ZOOM_STEP = 1.15f;
+
+    /**
+     * The tile size at a zoom of 1, which fits the whole board into the board canvas.
+     *
+     * @see #setBaseSize(float)
+     */
+    private float baseSize = 1;
+
+    /**
+     * The current zoom factor. Never smaller than 1.
+     */
+    private float zoom = 1;
+
+    /**
+     * The tile position (which may lie between tiles) shown in the center of the board canvas.
+     */
+    private float centerX, centerY;
+
+    /**
+     * The highest tile position in both the x and y direction. The center is never moved beyond it.
+     */
+    private Pair<Integer, Integer> maxTiles = Pair.of(0, 0);
+
+    /**
+     * The tile position most recently returned by {@link #tileAt(float, float)}. Reused while the pointer stays on the same tile,
+     * as the pointer is looked up every frame.
+     */
+    private Pair<Integer, Integer> lastTile = Pair.of(0, 0);
+
+    /**
+     * Resets zoom and pan, so the whole board is visible.
+     *
+     * @param maxTiles the highest tile position in both the x and y direction.
+     */
+    void reset(Pair<Integer, Integer> maxTiles) {
+        this.maxTiles = maxTiles;
+        zoom = 1;
+        centerX = maxTiles.x() * 0.5f;
+        centerY = maxTiles.y() * 0.5f;
+    }
+
+    /**
+     * Setter for the tile size at a zoom of 1. Updated whenever the board canvas changes its size.
+     *
+     * @param baseSize the size of a tile if the whole board is visible.
+     */
+    void setBaseSize(float baseSize) {
+        this.baseSize = max(baseSize, Float.MIN_NORMAL);
+    }
+
+    /**
+     * Getter for the current tile size.
+     *
+     * @return the size of a single tile on the board canvas, in pixels.
+     */
+    float getTileSize() {
+        return baseSize * zoom;
+    }
+
+    /**
+     * Zooms in or out, keeping the tile below the anchor in place.
+     *
+     * @param steps  the amount of zoom steps. Positive values zoom in, negative values zoom out.
+     * @param anchor the point that stays in place, relative to the center of the board canvas.
+     */
+    void zoom(float steps, PVector anchor) {
+        PVector fixed = toBoard(anchor);
+
+        zoom = constrain(zoom * pow(ZOOM_STEP, steps), 1, max(1, MAX_TILE_SIZE / baseSize));
+        centerX = fixed.x - anchor.x / getTileSize();
+        centerY = fixed.y - anchor.y / getTileSize();
+
+        constrainCenter();
+    }
+
+    /**
+     * Moves the visible part of the board.
+     *
+     * @param dX the distance to move the board by in the x direction, in pixels.
+     * @param dY the distance to move the board by in the y direction, in pixels.
+     */
+    void pan(float dX, float dY) {
+        centerX -= dX / getTileSize();
+        centerY -= dY / getTileSize();
+
+        constrainCenter();
+    }
+
+    /**
+     * Converts a tile position into its position on the board canvas.
+     *
+     * @param x x-position of the tile (index).
+     * @param y y-position of the tile (index).
+     * @return the {@link PVector} pointing to the center of the tile, relative to the center of the board canvas.
+     */
+    PVector toCanvas(float x, float y) {
+        float m = getTileSize();
+
+        return new PVector((x - centerX) * m, (y - centerY) * m);
+    }
+
+    /**
+     * Converts a position on the board canvas into a tile position. The inverse of {@link #toCanvas(float, float)}.
+     *
+     * @param pos the position relative to the center of the board canvas.
+     * @return the tile position, which is a whole number at the center of each tile.
+     */
+    PVector toBoard(PVector pos) {
+        float m = getTileSize();
+
+        return new PVector(pos.x / m + centerX, pos.y / m + centerY);
+    }
+
+    /**
+     * Converts a position on the board canvas into the position of the tile it lies on. Does not allocate,
+     * unless the position lies on another tile than the last time.
+     *
+     * @param x the x-position relative to the center of the board canvas.
+     * @param y the y-position relative to the center of the board canvas.
+     * @return the tile position (index), which may lie outside the board.
+     */
+    Pair<Integer, Integer> tileAt(float x, float y) {
+        float m = getTileSize();
+        int tileX = floor(x / m + centerX + 0.5f), tileY = floor(y / m + centerY + 0.5f);
+
+        if (lastTile.x() != tileX || lastTile.y() != tileY) lastTile = Pair.of(tileX, tileY);
+        return lastTile;
+    }
+
+    /**
+     * Keeps the center within the board, so it cannot be panned out of sight.
+     */
+    private void constrainCenter() {
+        centerX = constrain(centerX, 0, maxTiles.x());
+        centerY = constrain(centerY, 0, maxTiles.y());
+    }
+}
@@ -1,17 +1,28 @@
 package main;
 
+import engine.Tile;
 import processing.core.PImage;
 import processing.core.PVector;
 
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static processing.core.PConstants.CENTER;
 
 /**
  * Handles storage, initialisation and drawing of all Images.
  * Each Image can have multiple states, representing rotation or a boolean-like state.
  * Images are initialised with the static method initialise(), which will use the instance
  * of App to load all Images into memory.
+ * <p>
+ * Loading happens in the background on a pool of threads, starting with the images the current level needs.
+ * Until an image has arrived, a plain placeholder is drawn in its place.
  */
 enum Image {
     /**
@@ -101,6 +112,11 @@ enum Image {
      */
     static private final String IMAGE_PATH = "src/main/resources/img/";
 
+    /**
+     * The grey value of the placeholder drawn in place of images which have not been loaded yet.
+     */
+    static private final int PLACEHOLDER_COLOR = 80;
+
     /**
      * The App. Is stored to later enable usage of draw().
      */
@@ -119,9 +135,9 @@ enum Image {
     private final String[] filenames;
 
     /**
-     * Storage of all images relating to that instance, once they have been initialized.
+     * Storage of all images relating to that instance, one per filename. Each slot stays null until its image has been loaded.
      */
-    private final List<PImage> images = new ArrayList<>();
+    private final AtomicReferenceArray<PImage> images;
 
     /**
      * When initialising an image with four image paths, the tile-state is considered the four directions, or in case of the medal image, these are instead considered as gold - silver - bronze - none.
@@ -135,37 +151,74 @@ enum Image {
     Image(boolean isTransparent, String... paths) {
         this.isTransparent = isTransparent;
         filenames = paths;
+        images = new AtomicReferenceArray<>(paths.length);
     }
 
     /**
-     * Initialises all images and stores the PImages in the images ArrayList.
+     * Starts loading all images in the background. Returns immediately.
+     * <p>
+     * Images are requested in order of importance: those of the info box and the floor first, then those of the given tile types, then all others.
      *
-     * @param a instance of the app, needed to load images.
+     * @param a     instance of the app, needed to load images.
+     * @param types the tile types used by the current level.
      */
-    public static void initialise(App a) {
+    public static void initialise(App a, Collection<Tile.Type> types) {
         app = a;
-        Arrays.stream(Image.values())
-                .forEach(i -> Arrays.stream(i.filenames)
-                        .forEach(s -> i.images.add(app.loadImage(IMAGE_PATH + s))));
+
+        ExecutorService loader = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), r -> {
+            Thread thread = new Thread(r, "image-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        loadOrder(types).forEach(i -> IntStream.range(0, i.filenames.length)
+                .forEach(k -> loader.execute(() -> i.images.set(k, app.loadImage(IMAGE_PATH + i.filenames[k])))));
+        loader.shutdown();
+    }
+
+    /**
+     * Determines the order in which images are loaded.
+     *
+     * @param types the tile types used by the current level.
+     * @return every image exactly once, the most important ones first.
+     */
+    private static List<Image> loadOrder(Collection<Tile.Type> types) {
+        return Stream.of(Stream.of(MEDAL, FLOOR), types.stream().map(t -> valueOf(t.toString())), Arrays.stream(values()))
+                .flatMap(s -> s)
+                .distinct()
+                .toList();
     }
 
     /**
-     * Draws an image at a specific position with a specific state.
+     * Draws an image at a specific position with a specific state, or a placeholder if it has not been loaded yet.
      *
      * @param p     Position on canvas.
      * @param state value of the state to draw.
      */
     public void draw(PVector p, int state) {
-        app.image(images.get(state % images.size()), p.x, p.y, app.getTileSize(), app.getTileSize());
+        PImage image = getImage(state);
+
+        if (image != null) {
+            app.image(image, p.x, p.y, app.getTileSize(), app.getTileSize());
+            return;
+        }
+
+        app.pushStyle();
+        app.noStroke();
+        app.fill(PLACEHOLDER_COLOR);
+        app.rectMode(CENTER);
+        app.square(p.x, p.y, app.getTileSize());
+        app.popStyle();
     }
 
     /**
-     * Gets the list of images for this specific instance.
+     * Gets the image of a specific state.
      *
-     * @return the list of images.
+     * @param state value of the state.
+     * @return the image, or null if it has not been loaded yet.
      */
-    public List<PImage> getImages() {
-        return images;
+    public PImage getImage(int state) {
+        return images.get(state % images.length());
     }
 
     /**
@@ -0,0 +1,135 @@
+package main;
+
+import engine.Pair;
+import engine.Tile;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import static processing.core.PApplet.abs;
+
+/**
+ * The MirrorAnimator class. Stores the visual rotation of all mirrors and moves them towards the rotation their state declares.
+ * <p>
+ * Only mirrors which are still turning are kept in the {@link #active} set. Mirrors are scheduled when the engine reports
+ * their tile as changed, so a frame without any turning mirror costs nothing, no matter the size of the board.
+ */
+final class MirrorAnimator {
+    /**
+     * The angle (in degrees) a mirror turns by per frame.
+     */
+    private static final float STEP = 22.5f;
+
+    /**
+     * The visual rotation (in degrees) of every mirror on the board.
+     */
+    private final Map<Pair<Integer, Integer>, Float> rotations = new HashMap<>();
+
+    /**
+     * The positions of all mirrors whose visual rotation does not yet match their state.
+     */
+    private final Set<Pair<Integer, Integer>> active = new HashSet<>();
+
+    /**
+     * Forgets all mirrors and stores the given ones in their final rotation, without any animation.
+     *
+     * @param tiles the tiles of the new board.
+     */
+    void reset(Map<Pair<Integer, Integer>, Tile> tiles) {
+        rotations.clear();
+        active.clear();
+
+        tiles.forEach((pos, tile) -> {
+            if (tile.getType().equals(Tile.Type.MIRROR)) rotations.put(pos, targetOf(tile));
+        });
+    }
+
+    /**
+     * Schedules the animation of all mirrors among the given positions whose visual rotation does not match their state.
+     *
+     * @param changed the positions of tiles which may have changed.
+     * @param tiles   the tiles in their current state.
+     */
+    void schedule(Set<Pair<Integer, Integer>> changed, Map<Pair<Integer, Integer>, Tile> tiles) {
+        changed.stream()
+                .filter(rotations::containsKey)
+                .filter(pos -> rotations.get(pos) != targetOf(tiles.get(pos)))
+                .forEach(active::add);
+    }
+
+    /**
+     * Replaces a single tile without any animation, storing it in its final rotation if it is a mirror.
+     *
+     * @param pos  the position of the tile.
+     * @param tile the new tile, or null if the tile has been removed.
+     */
+    void replace(Pair<Integer, Integer> pos, Tile tile) {
+        active.remove(pos);
+
+        if (tile != null && tile.getType().equals(Tile.Type.MIRROR)) rotations.put(pos, targetOf(tile));
+        else rotations.remove(pos);
+    }
+
+    /**
+     * Moves all active mirrors by one step in the direction closest to their target. Mirrors reaching their target are removed from the active set.
+     *
+     * @param tiles the tiles in their current state.
+     */
+    void step(Map<Pair<Integer, Integer>, Tile> tiles) {
+        for (Iterator<Pair<Integer, Integer>> i = active.iterator(); i.hasNext(); ) {
+            Pair<Integer, Integer> pos = i.next();
+            float target = targetOf(tiles.get(pos));
+            float rotation = rotations.get(pos);
+            float delta = (360f + (target - rotation)) % 360f;
+
+            if (abs(delta) < STEP) rotation = target;
+            else if (delta > 180) rotation -= STEP;
+            else rotation += STEP;
+
+            rotations.put(pos, rotation);
+            if (rotation == target) i.remove();
+        }
+    }
+
+    /**
+     * Moves all active mirrors to their target at once.
+     *
+     * @param tiles the tiles in their current state.
+     */
+    void finish(Map<Pair<Integer, Integer>, Tile> tiles) {
+        active.forEach(pos -> rotations.put(pos, targetOf(tiles.get(pos))));
+        active.clear();
+    }
+
+    /**
+     * Determines if any mirror is still turning.
+     *
+     * @return true, if at least one mirror has not yet reached its target.
+     */
+    boolean isRunning() {
+        return !active.isEmpty();
+    }
+
+    /**
+     * Getter for the visual rotation of a mirror.
+     *
+     * @param pos the position of the mirror.
+     * @return the rotation in degrees, or null if there is no mirror at this position.
+     */
+    Float getRotation(Pair<Integer, Integer> pos) {
+        return rotations.get(pos);
+    }
+
+    /**
+     * Calculates the rotation a mirror should visually have.
+     *
+     * @param tile the mirror.
+     * @return the rotation in degrees matching the state of the mirror.
+     */
+    private static float targetOf(Tile tile) {
+        return tile.getState() * 90f;
+    }
+}
@@ -0,0 +1,52 @@
+package main;
+
+import jdk.jfr.*;
+
+/**
+ * The RenderPhaseEvent class. A JDK Flight Recorder event spanning one phase of drawing the board, see {@link BoardManager#execute(int, int, int, int)}.
+ * <p>
+ * Disabled unless a recording enables {@code lasergame.RenderPhase}, in which case frames can be correlated with the
+ * events of the engine and garbage collection in the same recording.
+ */
+@Name("lasergame.RenderPhase")
+@Label("Render Phase")
+@Category({"Laser Game", "Rendering"})
+@Description("A phase of drawing the board within a single frame")
+final class RenderPhaseEvent extends Event {
+    /**
+     * The name of the phase.
+     */
+    @Label("Phase")
+    String phase;
+
+    /**
+     * The tile size the board was drawn with.
+     */
+    @Label("Tile Size")
+    float tileSize;
+
+    /**
+     * Creates a new event and starts timing it.
+     *
+     * @return the event.
+     */
+    static RenderPhaseEvent start() {
+        RenderPhaseEvent event = new RenderPhaseEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Fills in the phase and commits the event, if it is enabled and long enough to be recorded.
+     *
+     * @param phase    the name of the phase.
+     * @param tileSize the tile size the board was drawn with.
+     */
+    void commit(String phase, float tileSize) {
+        if (!shouldCommit()) return;
+
+        this.phase = phase;
+        this.tileSize = tileSize;
+        commit();
+    }
+}
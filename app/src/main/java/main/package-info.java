@@ -1,6 +1,6 @@
 /**
  * The Main (Frontend) package is used to visually display the game and to register interactions.
  * <p>
- * It does not pass any arguments to the engine package other than the JSONArray storing all the level information.
+ * It does not pass any arguments to the engine package other than the level pack storing all the level information.
  */
 package main;
\ No newline at end of file
@@ -0,0 +1,61 @@
+package main;
+
+import com.sun.management.ThreadMXBean;
+import engine.Pair;
+import org.junit.jupiter.api.Test;
+import processing.core.PVector;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class CameraTest {
+    /**
+     * Creates a camera showing a board of 10 x 10 tiles with a tile size of 20 pixels.
+     *
+     * @return the camera.
+     */
+    static Camera create() {
+        Camera camera = new Camera();
+        camera.reset(Pair.of(9, 9));
+        camera.setBaseSize(20);
+        return camera;
+    }
+
+    @Test
+    void tileAt() {
+        Camera camera = create();
+
+        assertEquals(Pair.of(4, 4), camera.tileAt(-10.5f, -10.5f));
+        assertEquals(Pair.of(5, 5), camera.tileAt(0, 0));
+        assertEquals(Pair.of(0, 9), camera.tileAt(-99, 99));
+        assertEquals(Pair.of(-1, 10), camera.tileAt(-101, 101), "Positions beyond the board were not converted");
+
+        camera.zoom(1, new PVector(0, 0));
+        assertEquals(Pair.of(5, 5), camera.tileAt(0, 0), "The anchor of the zoom moved");
+        assertEquals(Pair.of(4, 4), camera.tileAt(-20, -20), "Zoom did not enlarge the tiles");
+    }
+
+    @Test
+    void tileAtDoesNotAllocate() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean, "Allocations cannot be measured on this JVM");
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled(),
+                "Allocations cannot be measured on this JVM");
+
+        Camera camera = create();
+        float[] pointer = {0};
+
+        // the pointer is looked up every frame, mostly without leaving its tile
+        Runnable frame = () -> camera.tileAt(pointer[0] = (pointer[0] + 0.25f) % 10, 0);
+        for (int i = 0; i < 5_000; i++) frame.run();
+
+        long id = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(id);
+        for (int i = 0; i < 2_000; i++) frame.run();
+
+        long allocated = threads.getThreadAllocatedBytes(id) - before;
+        assertEquals(0, allocated, "Looking up the tile below the pointer allocated " + allocated + " bytes in 2000 frames");
+    }
+}
@@ -0,0 +1,93 @@
+package bench;
+
+import engine.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The Bench class. Measures the engine on large, generated boards, using nothing but its public API.
+ * <p>
+ * The boards are the {@link StressLevels} of every kind, generated with a fixed seed so all runs measure the same input.
+ * Every interaction toggles the {@link StressLevels#GATE} in front of the first laser, cutting off or restoring its path.
+ * These figures are reported per kind and board size:
+ * <ul>
+ *     <li>setup: loading the level and settling all lasers for the first time</li>
+ *     <li>interaction: toggling the gate, including the settlement that follows</li>
+ *     <li>batch: toggling the gate as part of a batch, which is settled only once (per interaction)</li>
+ *     <li>async: toggling the gate with the settlement running in the background, as the app does. As the next interaction
+ *     waits for the previous settlement to be published, back-to-back interactions include it</li>
+ *     <li>lasers: fetching the current lasers, as the frontend does every frame</li>
+ * </ul>
+ */
+public final class Bench {
+    /**
+     * The amount of untimed runs per measurement, so the JIT compiler can warm up.
+     */
+    private static final int WARMUP = 3;
+
+    /**
+     * The amount of timed runs per measurement.
+     */
+    private static final int RUNS = 10;
+
+    /**
+     * The seed of the stress levels.
+     */
+    private static final long SEED = 0;
+
+    /**
+     * The amount of interactions per batch.
+     */
+    private static final int BATCH_SIZE = 100;
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args the board sizes (edge lengths) to measure. Defaults to 100, 250 and 500.
+     */
+    public static void main(String[] args) {
+        int[] sizes = args.length > 0
+                ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+                : new int[]{100, 250, 500};
+
+        System.out.printf("%-16s %8s %14s %14s %14s %14s %14s%n",
+                "kind", "size", "setup (ms)", "interact (ms)", "batch (ms)", "async (ms)", "lasers (ms)");
+
+        for (int size : sizes)
+            for (StressLevels.Kind kind : StressLevels.Kind.values()) {
+                LevelPack pack = new LevelPack(List.of(StressLevels.generate(kind, size, SEED)));
+
+                double setup = measure(() -> new GameEngine(pack));
+
+                GameEngine engine = new GameEngine(pack);
+                double interaction = measure(() -> engine.registerInteraction(StressLevels.GATE, Button.LEFT));
+                double lasers = measure(engine::getLasers);
+
+                List<Interaction> batch = Collections.nCopies(BATCH_SIZE, new Interaction(StressLevels.GATE, Button.LEFT));
+                double batched = measure(() -> engine.registerInteractions(batch)) / BATCH_SIZE;
+
+                GameEngine asyncEngine = new GameEngine(pack, true);
+                double async = measure(() -> asyncEngine.registerInteraction(StressLevels.GATE, Button.LEFT));
+
+                System.out.printf("%-16s %8d %14.3f %14.3f %14.3f %14.3f %14.3f%n",
+                        kind, size, setup, interaction, batched, async, lasers);
+            }
+    }
+
+    /**
+     * Measures the average duration of a task.
+     *
+     * @param task the task to measure.
+     * @return the average duration of a single run, in milliseconds.
+     */
+    private static double measure(Runnable task) {
+        for (int i = 0; i < WARMUP; i++) task.run();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) task.run();
+
+        return (System.nanoTime() - start) / 1e6 / RUNS;
+    }
+}
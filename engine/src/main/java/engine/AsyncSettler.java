@@ -0,0 +1,203 @@
+package engine;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The AsyncSettler class. Settles the lasers of a level on a background thread, so interactions never wait for it.
+ * <p>
+ * The settler owns a copy of the board (the back buffer), which only the worker thread touches. Interactions are queued
+ * and applied to it in order; whenever the queue runs dry, the board is settled and the result is published atomically.
+ * A settlement still running when a newer interaction arrives is cancelled, and all queued interactions are settled together instead.
+ * Results are numbered by the last interaction they include, so results superseded by newer interactions can be recognised.
+ * Such results are never taken; their changed tiles are merged into the next result instead.
+ * <p>
+ * Whether an interaction completes the level is only known once it has been settled, so the engine {@link #await() waits}
+ * for the outstanding result before accepting the next interaction, just as it would in synchronous mode.
+ */
+final class AsyncSettler {
+    /**
+     * The worker thread shared by all settlers. A daemon, so it never keeps the application alive.
+     */
+    private static final ExecutorService WORKER = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "laser-settlement");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * The back buffer. Only accessed by the worker thread.
+     */
+    private final Board board;
+
+    /**
+     * The interactions which have not yet been applied to the {@link #board}.
+     */
+    private final Queue<Queued> pending = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The number of the most recently submitted interaction.
+     */
+    private final AtomicLong submitted = new AtomicLong();
+
+    /**
+     * The most recently published result, until it is taken by {@link #poll()}.
+     */
+    private final AtomicReference<Result> published = new AtomicReference<>();
+
+    /**
+     * The number of the last interaction included in a taken result.
+     */
+    private volatile long taken;
+
+    /**
+     * True, once the settler is no longer needed. Cancels all outstanding work.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Instantiates a new settler.
+     *
+     * @param board the back buffer. Must be a settled, independent copy of the board the interactions are applied to, and is not to be accessed anymore by the caller.
+     */
+    AsyncSettler(Board board) {
+        this.board = board;
+        board.trackChanges();
+        board.drainChanges();
+    }
+
+    /**
+     * Queues an interaction and starts settling it in the background.
+     *
+     * @param pos    position of the tile to be interacted with.
+     * @param button the mouse button used for the interaction.
+     */
+    void submit(Pair<Integer, Integer> pos, Button button) {
+        pending.add(new Queued(new Interaction(pos, button), submitted.incrementAndGet()));
+        WORKER.execute(this::run);
+    }
+
+    /**
+     * Takes the most recently published result, unless it has been superseded by newer interactions.
+     *
+     * @return the result, or null if there is no up-to-date result.
+     */
+    Result poll() {
+        Result result = published.get();
+
+        if (result == null || result.generation() != submitted.get() || !published.compareAndSet(result, null))
+            return null;
+
+        taken = result.generation();
+        return result;
+    }
+
+    /**
+     * Determines if there is work which has not yet been taken.
+     *
+     * @return true, if the result of the most recently submitted interaction has not been taken yet.
+     */
+    boolean isBusy() {
+        return taken != submitted.get();
+    }
+
+    /**
+     * Cancels all outstanding work. Results published afterwards are never taken.
+     */
+    void close() {
+        closed = true;
+
+        synchronized (this) {
+            notifyAll();
+        }
+    }
+
+    /**
+     * Waits until the result of the most recently submitted interaction has been published, so {@link #poll()} takes it.
+     * Returns immediately if it has already been taken, or once the settler has been closed.
+     * <p>
+     * Interrupts are deferred until the result has been published, as the interactions have already been submitted.
+     */
+    synchronized void await() {
+        boolean interrupted = false;
+
+        while (!closed && isBusy() && !isPublished()) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+
+    /**
+     * Determines if the result of the most recently submitted interaction has been published, but not yet taken.
+     *
+     * @return true, if {@link #poll()} would return a result.
+     */
+    private boolean isPublished() {
+        Result result = published.get();
+        return result != null && result.generation() == submitted.get();
+    }
+
+    /**
+     * Applies all queued interactions, then settles and publishes the result. Runs on the worker thread.
+     * <p>
+     * Runs finding the queue empty return immediately, as their interactions have already been handled by an earlier run.
+     */
+    private void run() {
+        if (closed || pending.isEmpty()) return;
+
+        long generation = 0;
+        for (Queued q; (q = pending.poll()) != null; generation = q.generation())
+            board.interact(q.interaction().pos(), q.interaction().button());
+
+        FlightEvents.Settlement event = new FlightEvents.Settlement();
+        event.begin();
+        long start = System.nanoTime();
+        if (!board.settle(() -> closed || !pending.isEmpty())) return;
+        EngineMetrics.get().settled(System.nanoTime() - start);
+        event.commit(board, true);
+
+        Set<Pair<Integer, Integer>> changed = board.drainChanges();
+        Result superseded = published.getAndSet(null);
+        if (superseded != null) changed.addAll(superseded.tiles().keySet());
+
+        Map<Pair<Integer, Integer>, Tile> tiles = new HashMap<>();
+        changed.forEach(pos -> tiles.put(pos, board.copyOfTile(pos)));
+
+        published.set(new Result(generation, tiles, board.getLasers(), board.isCompleted()));
+        synchronized (this) {
+            notifyAll();
+        }
+    }
+
+    /**
+     * A queued interaction.
+     *
+     * @param interaction the interaction itself.
+     * @param generation  the number of this interaction.
+     */
+    private record Queued(Interaction interaction, long generation) {
+    }
+
+    /**
+     * The result of a settlement.
+     *
+     * @param generation the number of the last interaction included.
+     * @param tiles      copies of all tiles which may have changed since the previous result.
+     * @param lasers     the settled lasers.
+     * @param completed  true, if all lasers end on a target.
+     */
+    record Result(long generation, Map<Pair<Integer, Integer>, Tile> tiles, Set<Laser> lasers, boolean completed) {
+    }
+}
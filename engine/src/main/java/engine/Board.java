@@ -0,0 +1,359 @@
+package engine;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * The Board class. Stores the tiles of a single play-through and settles the lasers on top of them.
+ * <p>
+ * Unlike the {@link GameEngine}, a board does not know about moves, medals or other levels.
+ * This allows tools such as the {@link Solver} to simulate levels without any game data attached.
+ */
+final class Board {
+    /**
+     * The map of tiles in their current state.
+     */
+    private final Map<Pair<Integer, Integer>, Tile> tiles;
+    /**
+     * The positions of all switches, grouped by their type. Built once per board so that toggling a switch group
+     * (or resetting the laser switches) only visits the members of that group instead of the entire board.
+     *
+     * @see #getSwitchGroup(Tile.Type)
+     */
+    private final Map<Tile.Type, List<Pair<Integer, Integer>>> switchGroups;
+    /**
+     * The positions of all laser sources. Sources never change, so they are only searched for once.
+     */
+    private final List<Pair<Integer, Integer>> sources;
+    /**
+     * The jump table used to skip tiles without collision when tracing lasers.
+     * Kept up to date whenever the collision of a tile may have changed (see {@link #refresh(Pair)}).
+     * <p>
+     * Null, if the board is too sparse for a table to be worthwhile.
+     */
+    private final JumpTable jumps;
+    /**
+     * The currently stored version of the lasers.
+     *
+     * @see #settle()
+     */
+    private Set<Laser> lasers = Set.of();
+    /**
+     * The occupancy index of the {@link #lasers}. Built lazily, as only the frontend queries it.
+     *
+     * @see #getOccupancy()
+     */
+    private LaserOccupancy occupancy;
+    /**
+     * True, if all lasers ended on a target during the last {@link #settle()}.
+     */
+    private boolean completed;
+    /**
+     * The amount of times all lasers were traced during the last {@link #settle()}.
+     */
+    private int passes;
+    /**
+     * The steps taken by the laser tracer during the last {@link #settle()}, summed over all passes.
+     */
+    private final LongAdder steps = new LongAdder();
+    /**
+     * The positions of all tiles which may have changed since the changes were last drained.
+     * <p>
+     * Null, unless change tracking has been enabled, so simulations (like the {@link Solver}) do not pay for it.
+     *
+     * @see #trackChanges()
+     */
+    private Set<Pair<Integer, Integer>> changes;
+
+    /**
+     * Instantiates a new board. The given tiles are used (and modified) directly.
+     *
+     * @param tiles the tiles of this board.
+     */
+    Board(Map<Pair<Integer, Integer>, Tile> tiles) {
+        this(tiles, tiles.entrySet().stream()
+                .filter(e -> e.getValue().getType().isSwitch())
+                .collect(Collectors.groupingBy(e -> e.getValue().getType(),
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toUnmodifiableList()))),
+                tiles.entrySet().stream()
+                        .filter(e -> e.getValue().getType().isLaserSource())
+                        .map(Map.Entry::getKey)
+                        .toList(),
+                JumpTable.of(tiles));
+    }
+
+    /**
+     * Instantiates a new board with already computed indices and jump table. Used for copying boards.
+     *
+     * @param tiles        the tiles of this board.
+     * @param switchGroups the switch group index, which must match the given tiles.
+     * @param sources      the positions of all laser sources within the given tiles.
+     * @param jumps        the jump table, which must match the given tiles. May be null.
+     */
+    private Board(Map<Pair<Integer, Integer>, Tile> tiles, Map<Tile.Type, List<Pair<Integer, Integer>>> switchGroups,
+                  List<Pair<Integer, Integer>> sources, JumpTable jumps) {
+        this.tiles = tiles;
+        this.switchGroups = switchGroups;
+        this.sources = sources;
+        this.jumps = jumps;
+    }
+
+    /**
+     * Checks if there is a tile at the given position.
+     *
+     * @param pos the position to check.
+     * @return true, if the position contains a tile.
+     */
+    boolean hasTile(Pair<Integer, Integer> pos) {
+        return tiles.get(pos) != null;
+    }
+
+    /**
+     * Checks if the tile at the given position can be interacted with manually. Such interactions never fail.
+     *
+     * @param pos the position to check.
+     * @return true, if the position contains a tile whose type can be interacted with.
+     */
+    boolean canInteract(Pair<Integer, Integer> pos) {
+        Tile tile = tiles.get(pos);
+        return tile != null && tile.getType().canInteract();
+    }
+
+    /**
+     * Interacts with the tile at the given position. Lasers are not updated, see {@link #settle()}.
+     *
+     * @param pos         position of the tile to be interacted with.
+     * @param button      the mouse button used for the interaction.
+     * @throws IllegalArgumentException if the position does not contain a tile or the tile cannot be interacted with.
+     */
+    void interact(Pair<Integer, Integer> pos, Button button) {
+        Tile tile = tiles.get(pos);
+
+        if (tile == null)
+            throw new IllegalArgumentException("This position does not contain a tile.");
+
+        List<Pair<Integer, Integer>> group = getSwitchGroup(tile.getType());
+        tile.interactWithGroup(button, group.stream().map(tiles::get).toList());
+
+        refresh(pos);
+        group.forEach(this::refresh);
+    }
+
+    /**
+     * Resets every tile to its initial state and settles the lasers again, so the board can be played from the start.
+     */
+    void reset() {
+        tiles.forEach((pos, tile) -> {
+            if (tile.getType().canInteract()) {
+                tile.resetState();
+                refresh(pos);
+            }
+        });
+
+        settle();
+    }
+
+    /**
+     * Updates the lasers and the {@link #completed} variable.
+     * <p>
+     * This needs to be done multiple times (see the for loop) as otherwise switches may not be updated in time.
+     */
+    void settle() {
+        settle(() -> false);
+    }
+
+    /**
+     * Updates the lasers and the {@link #completed} variable, unless cancelled.
+     * <p>
+     * Cancellation is checked between the passes of the settlement. A cancelled board is left in an intermediate state,
+     * which is corrected by the next settlement, as every settlement starts by resetting all laser switches.
+     *
+     * @param cancelled returns true, if the settlement should be given up.
+     * @return true, if the settlement was completed. False, if it was cancelled.
+     */
+    boolean settle(BooleanSupplier cancelled) {
+        Arrays.stream(Laser.Color.values())
+                .flatMap(c -> getSwitchGroup(Tile.Type.getSwitchByColor(c)).stream())
+                .forEach(p -> {
+                    tiles.get(p).resetState();
+                    refresh(p);
+                });
+        steps.reset();
+        lasers = Laser.getLasers(tiles, sources, jumps, steps);
+        passes = 1;
+
+        for (int i = 0; i < lasers.size(); i++) {
+            if (cancelled.getAsBoolean()) return false;
+
+            lasers.stream().filter(Laser::isComplete)
+                    .forEach(l -> getSwitchGroup(Tile.Type.getSwitchByColor(l.color()))
+                            .forEach(p -> {
+                                tiles.get(p).interactWithGroup(Button.NONE, List.of());
+                                refresh(p);
+                            }));
+
+            Set<Laser> previous = lasers;
+            lasers = Laser.getLasers(tiles, sources, jumps, steps);
+            passes++;
+
+            // activating switches is idempotent, so unchanged lasers would only lead to the same lasers again
+            if (lasers.equals(previous)) break;
+        }
+
+        completed = lasers.stream().filter(Laser::isComplete).count() == lasers.size();
+        return true;
+    }
+
+    /**
+     * Overwrites tiles and the settlement result with those of another board, e.g. one settled in the background.
+     *
+     * @param changed   copies of all tiles which have changed on the other board.
+     * @param lasers    the lasers of the other board.
+     * @param completed the completion state of the other board.
+     */
+    void apply(Map<Pair<Integer, Integer>, Tile> changed, Set<Laser> lasers, boolean completed) {
+        changed.forEach((pos, tile) -> {
+            tiles.put(pos, tile.clone());
+            refresh(pos);
+        });
+
+        this.lasers = lasers;
+        this.completed = completed;
+    }
+
+    /**
+     * Looks up the positions of a switch group using the precomputed {@link #switchGroups} index.
+     *
+     * @param type the switch type of the group.
+     * @return the positions of all tiles of the given type. Empty, if the type is not a switch or not present on this board.
+     */
+    private List<Pair<Integer, Integer>> getSwitchGroup(Tile.Type type) {
+        return switchGroups.getOrDefault(type, List.of());
+    }
+
+    /**
+     * Updates the {@link #jumps jump table} and the tracked {@link #changes} after a tile may have changed.
+     *
+     * @param pos the position of the tile.
+     */
+    private void refresh(Pair<Integer, Integer> pos) {
+        if (jumps != null) jumps.update(pos, !tiles.get(pos).hasCollision());
+        if (changes != null) changes.add(pos);
+    }
+
+    /**
+     * Enables change tracking. From now on, the positions of all tiles which may change are collected until they are drained.
+     *
+     * @see #drainChanges()
+     */
+    void trackChanges() {
+        if (changes == null) changes = new HashSet<>();
+    }
+
+    /**
+     * Returns the positions of all tiles which may have changed since the last call, and forgets them.
+     * <p>
+     * Laser switches are reset and activated again during every {@link #settle()}, so they may be included without having changed.
+     *
+     * @return the positions of possibly changed tiles. Empty, if change tracking is not enabled.
+     */
+    Set<Pair<Integer, Integer>> drainChanges() {
+        if (changes == null) return Set.of();
+
+        Set<Pair<Integer, Integer>> output = changes;
+        changes = new HashSet<>();
+        return output;
+    }
+
+    /**
+     * Getter for a single tile. The tile itself is returned, so it must not be modified by the caller.
+     *
+     * @param pos the position of the tile.
+     * @return the tile, or null if there is no tile at this position.
+     */
+    Tile getTile(Pair<Integer, Integer> pos) {
+        return tiles.get(pos);
+    }
+
+    /**
+     * Copies a single tile and returns it.
+     *
+     * @param pos the position of the tile.
+     * @return copy of the tile, or null if there is no tile at this position.
+     */
+    Tile copyOfTile(Pair<Integer, Integer> pos) {
+        Tile tile = tiles.get(pos);
+        return tile == null ? null : tile.clone();
+    }
+
+    /**
+     * Copies the tile map and returns it.
+     *
+     * @return copy of the tile map
+     */
+    Map<Pair<Integer, Integer>, Tile> copyOfTiles() {
+        Map<Pair<Integer, Integer>, Tile> output = new HashMap<>();
+        tiles.forEach((key, value) -> output.put(key, value.clone()));
+        return output;
+    }
+
+    /**
+     * Copies the entire board, including the lasers of the last {@link #settle()}.
+     *
+     * @return an independent copy of this board.
+     */
+    Board copy() {
+        Board board = new Board(copyOfTiles(), switchGroups, sources, jumps == null ? null : jumps.copy());
+        board.lasers = lasers;
+        board.completed = completed;
+        return board;
+    }
+
+    /**
+     * Getter for the laser set.
+     *
+     * @return the lasers as of the last {@link #settle()}.
+     */
+    Set<Laser> getLasers() {
+        return lasers;
+    }
+
+    /**
+     * Getter for the occupancy index of the laser set, which is rebuilt once the lasers have changed.
+     *
+     * @return the index of the lasers as of the last {@link #settle()}.
+     */
+    LaserOccupancy getOccupancy() {
+        if (occupancy == null || occupancy.getLasers() != lasers) occupancy = LaserOccupancy.of(lasers);
+        return occupancy;
+    }
+
+    /**
+     * Getter for the amount of passes of the last settlement.
+     *
+     * @return the amount of times all lasers were traced during the last {@link #settle()}.
+     */
+    int getPasses() {
+        return passes;
+    }
+
+    /**
+     * Getter for the amount of tracer steps of the last settlement.
+     *
+     * @return the steps taken by the laser tracer during all passes of the last {@link #settle()}.
+     */
+    long getSteps() {
+        return steps.sum();
+    }
+
+    /**
+     * Getter for the completion state.
+     *
+     * @return true, if all lasers ended on a target during the last {@link #settle()}.
+     */
+    boolean isCompleted() {
+        return completed;
+    }
+}
@@ -0,0 +1,25 @@
+package engine;
+
+/**
+ * The Button enum. Describes which (mouse) button was used to interact with a tile.
+ * <p>
+ * The engine does not depend on any frontend, so frontends need to translate their own button codes into these values.
+ */
+public enum Button {
+    /**
+     * No button at all. Used when a tile is activated by a laser rather than by the player.
+     */
+    NONE,
+    /**
+     * The left button. Rotates mirrors to the left.
+     */
+    LEFT,
+    /**
+     * The right button. Rotates mirrors to the right.
+     */
+    RIGHT,
+    /**
+     * The center button. Behaves like the right button.
+     */
+    CENTER
+}
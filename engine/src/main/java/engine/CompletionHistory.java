@@ -0,0 +1,94 @@
+package engine;
+
+import java.util.List;
+
+/**
+ * The CompletionHistory class. Tells whether a level was completed after each interaction of a batch.
+ * <p>
+ * As a batch is only settled once, nothing is known about the states in between. They are determined lazily instead:
+ * only when asked for, the batch is replayed on a copy of the board taken before the batch, settling after each step,
+ * and only as far as needed to answer the question. Not thread-safe.
+ *
+ * @see Engine#registerInteractionsWithHistory(List)
+ */
+public final class CompletionHistory {
+    /**
+     * The board the replay is performed on. Starts as a copy of the board before the batch.
+     */
+    private final Board board;
+
+    /**
+     * The interactions of the batch.
+     */
+    private final List<Interaction> interactions;
+
+    /**
+     * The completion state after each interaction, as far as it has been evaluated.
+     */
+    private final boolean[] completed;
+
+    /**
+     * The amount of interactions which have been replayed so far.
+     */
+    private int evaluated;
+
+    /**
+     * Instantiates a new history.
+     *
+     * @param board        an independent copy of the board before the batch. It is modified by the replay.
+     * @param interactions the interactions of the batch.
+     */
+    CompletionHistory(Board board, List<Interaction> interactions) {
+        this.board = board;
+        this.interactions = List.copyOf(interactions);
+        this.completed = new boolean[interactions.size()];
+    }
+
+    /**
+     * Getter for the size of the batch.
+     *
+     * @return the amount of interactions in the batch.
+     */
+    public int size() {
+        return interactions.size();
+    }
+
+    /**
+     * Determines if the level was completed after a specific interaction of the batch.
+     *
+     * @param index the index of the interaction within the batch.
+     * @return true, if all lasers ended on a target right after this interaction.
+     * @throws IndexOutOfBoundsException if there is no interaction with this index.
+     */
+    public boolean isCompletedAfter(int index) {
+        if (index < 0 || index >= completed.length)
+            throw new IndexOutOfBoundsException("There is no interaction with index " + index + ".");
+
+        while (evaluated <= index) replay();
+
+        return completed[index];
+    }
+
+    /**
+     * Finds the first interaction after which the level was completed.
+     *
+     * @return the index of this interaction within the batch, or -1 if the level was never completed.
+     */
+    public int firstCompletion() {
+        for (int i = 0; i < completed.length; i++)
+            if (isCompletedAfter(i)) return i;
+
+        return -1;
+    }
+
+    /**
+     * Replays the next interaction and stores whether it completed the level.
+     */
+    private void replay() {
+        Interaction interaction = interactions.get(evaluated);
+
+        board.interact(interaction.pos(), interaction.button());
+        board.settle();
+        completed[evaluated++] = board.isCompleted();
+    }
+}
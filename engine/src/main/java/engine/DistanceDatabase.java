@@ -0,0 +1,210 @@
+package engine;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * The DistanceDatabase class. Stores the perfect-play distance of every state of every level in a pack.
+ * <p>
+ * The database is built offline (see {@link #main(String[])}) by a retrograde search over the full state space of each level.
+ * Levels with more states than allowed are left out, and answer every query with {@link #UNKNOWN}.
+ * At runtime, the database file is memory-mapped, so loading it costs nothing and lookups only touch the pages they need.
+ * <p>
+ * The file starts with {@link #MAGIC} and the amount of levels. Each level follows as its amount of handles
+ * (-1 if it was left out), the x, y, period and initial state of every handle, and finally the amount of states
+ * followed by one byte per state. All numbers are big-endian ints.
+ */
+public final class DistanceDatabase {
+    /**
+     * The value returned for levels which are not part of the database.
+     */
+    public static final int UNKNOWN = -1;
+
+    /**
+     * The default amount of states from which on a level is left out of the database.
+     */
+    public static final int DEFAULT_MAX_STATES = 1 << 24;
+
+    /**
+     * The first four bytes of every database file.
+     */
+    private static final int MAGIC = 0x4C444442; // "LDDB"
+
+    /**
+     * The table of every level, or null for levels which were left out.
+     */
+    private final List<DistanceTable> tables;
+
+    /**
+     * Instantiates a new database.
+     *
+     * @param tables the table of every level, or null for levels which were left out.
+     */
+    private DistanceDatabase(List<DistanceTable> tables) {
+        this.tables = tables;
+    }
+
+    /**
+     * Builds the database of a level pack and writes it to a file. The pack is rewritten with the verified min moves.
+     * <p>
+     * Arguments (all optional, in this order): level pack, output file, max states per level.
+     *
+     * @param args the launch arguments.
+     * @throws IOException if a file cannot be read or written.
+     */
+    public static void main(String[] args) throws IOException {
+        Path packPath = Path.of(args.length > 0 ? args[0] : "levels.json");
+        Path output = Path.of(args.length > 1 ? args[1] : "levels.dist");
+        int maxStates = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_MAX_STATES;
+
+        long start = System.nanoTime();
+        LevelPack pack = LevelPack.read(packPath);
+        DistanceDatabase database = build(pack, maxStates);
+        database.write(output);
+        database.verify(pack).write(packPath);
+
+        System.out.printf("Tabulated %d of %d levels in %d ms%n", database.tables.stream().filter(Objects::nonNull).count(),
+                pack.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Builds the database of all levels of a source, in parallel on the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param source    the levels.
+     * @param maxStates the amount of states from which on a level is left out.
+     * @return the database.
+     */
+    public static DistanceDatabase build(LevelSource source, int maxStates) {
+        DistanceTable[] tables = new DistanceTable[source.size()];
+
+        IntStream.range(0, tables.length).parallel()
+                .forEach(i -> tables[i] = Solver.tabulate(Level.of(source.getLevel(i)).tiles(), maxStates));
+
+        return new DistanceDatabase(Arrays.asList(tables));
+    }
+
+    /**
+     * Memory-maps a database file.
+     *
+     * @param path the path of the file.
+     * @return the database, backed by the mapped file.
+     * @throws IOException              if the file cannot be read.
+     * @throws IllegalArgumentException if the file is not a valid database.
+     */
+    public static DistanceDatabase read(Path path) throws IOException {
+        ByteBuffer buffer;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        return read(buffer);
+    }
+
+    /**
+     * Reads a database from a buffer. The distances are not copied, but remain backed by the buffer.
+     *
+     * @param buffer the buffer, positioned at the start of the database.
+     * @return the database.
+     * @throws IllegalArgumentException if the buffer does not contain a valid database.
+     */
+    static DistanceDatabase read(ByteBuffer buffer) {
+        try {
+            if (buffer.getInt() != MAGIC)
+                throw new IllegalArgumentException("Not a distance database.");
+
+            int count = buffer.getInt();
+            if (count < 0)
+                throw new IllegalArgumentException("Invalid amount of levels: " + count);
+
+            List<DistanceTable> tables = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                if (buffer.getInt(buffer.position()) == -1) {
+                    buffer.getInt();
+                    tables.add(null);
+                } else tables.add(DistanceTable.read(buffer));
+            }
+
+            return new DistanceDatabase(tables);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("The distance database is truncated.", e);
+        }
+    }
+
+    /**
+     * Writes the database to a file.
+     *
+     * @param path the path of the file. An existing file is overwritten.
+     * @throws IOException if the file cannot be written.
+     */
+    public void write(Path path) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(tables.size());
+
+            for (DistanceTable table : tables) {
+                if (table == null) out.writeInt(-1);
+                else table.write(out);
+            }
+        }
+    }
+
+    /**
+     * Replaces the min moves of all levels in the database with their verified optimum.
+     *
+     * @param pack the pack the database was built for.
+     * @return the pack with verified min moves. Levels left out of the database are kept as they are.
+     */
+    public LevelPack verify(LevelPack pack) {
+        return new LevelPack(IntStream.range(0, pack.size())
+                .mapToObj(i -> {
+                    LevelData level = pack.getLevel(i);
+                    int optimum = getOptimalMoves(i);
+
+                    return optimum < 0 ? level : new LevelData(level.description(), optimum, level.tiles());
+                })
+                .toList());
+    }
+
+    /**
+     * Getter for the amount of levels.
+     *
+     * @return the amount of levels, including those left out of the database.
+     */
+    public int size() {
+        return tables.size();
+    }
+
+    /**
+     * Determines the least amount of moves needed to complete a level from its initial state.
+     *
+     * @param levelID the index of the level.
+     * @return the amount of moves, or {@link #UNKNOWN} if the level is not part of the database or cannot be completed.
+     */
+    public int getOptimalMoves(int levelID) {
+        DistanceTable table = get(levelID);
+        return table == null ? UNKNOWN : table.initialDistance();
+    }
+
+    /**
+     * Getter for the table of a level.
+     *
+     * @param levelID the index of the level.
+     * @return the table, or null if the level is not part of the database.
+     */
+    DistanceTable get(int levelID) {
+        return levelID >= 0 && levelID < tables.size() ? tables.get(levelID) : null;
+    }
+}
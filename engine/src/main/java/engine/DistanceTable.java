@@ -0,0 +1,188 @@
+package engine;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The DistanceTable class. Stores the least amount of moves needed to complete a level from every state it can be in.
+ * <p>
+ * A state is described by the click count of every handle (see {@link Solver}), relative to the initial state of the level.
+ * Each state is stored as a single byte, indexed by a mixed radix with one digit per handle, so a lookup takes as long
+ * as reading the states of the handles. The bytes may be backed by a memory-mapped file, see {@link DistanceDatabase}.
+ */
+final class DistanceTable {
+    /**
+     * The stored distance of states from which the level cannot be completed.
+     */
+    static final int UNREACHABLE = 0xFF;
+
+    /**
+     * The positions which are clicked to change the state. Contains one position per clickable switch colour.
+     */
+    private final List<Pair<Integer, Integer>> handles;
+
+    /**
+     * The amount of states each handle can be in, matching {@link #handles} by index.
+     */
+    private final int[] periods;
+
+    /**
+     * The state of each handle in the initial state of the level, matching {@link #handles} by index.
+     */
+    private final int[] initialStates;
+
+    /**
+     * The distance of every state, indexed by {@link #indexOf(Board)}.
+     */
+    private final ByteBuffer distances;
+
+    /**
+     * Instantiates a new table.
+     *
+     * @param handles       the positions which are clicked to change the state.
+     * @param periods       the amount of states each handle can be in.
+     * @param initialStates the initial state of each handle.
+     * @param distances     the distance of every state, one byte per state.
+     * @throws IllegalArgumentException if the amount of distances does not match the amount of states.
+     */
+    DistanceTable(List<Pair<Integer, Integer>> handles, int[] periods, int[] initialStates, ByteBuffer distances) {
+        if (Arrays.stream(periods).asLongStream().reduce(1, (a, b) -> a * b) != distances.remaining())
+            throw new IllegalArgumentException("The amount of distances does not match the amount of states.");
+
+        this.handles = List.copyOf(handles);
+        this.periods = periods.clone();
+        this.initialStates = initialStates.clone();
+        this.distances = distances.slice();
+    }
+
+    /**
+     * Determines the least amount of moves needed to complete the level from the current state of a board.
+     *
+     * @param board a board of the level this table was built for.
+     * @return the amount of moves, or {@link Solver#UNSOLVABLE} if the level cannot be completed anymore.
+     */
+    int distance(Board board) {
+        return distanceAt(indexOf(board));
+    }
+
+    /**
+     * Determines the least amount of moves needed to complete the level from its initial state.
+     *
+     * @return the amount of moves, or {@link Solver#UNSOLVABLE} if the level cannot be completed at all.
+     */
+    int initialDistance() {
+        return distanceAt(0);
+    }
+
+    /**
+     * Finds an interaction which brings the board one move closer to completion.
+     *
+     * @param board a board of the level this table was built for.
+     * @return the interaction, or null if the level is completed or cannot be completed anymore.
+     */
+    Interaction hint(Board board) {
+        int index = indexOf(board);
+        int distance = distanceAt(index);
+        if (distance <= 0) return null;
+
+        for (int i = 0, radix = 1; i < handles.size(); radix *= periods[i++]) {
+            int count = index / radix % periods[i];
+
+            for (Button button : new Button[]{Button.RIGHT, Button.LEFT}) {
+                int step = button == Button.LEFT && periods[i] == 4 ? 3 : 1; // only mirrors can be turned back
+                int neighbour = index + ((count + step) % periods[i] - count) * radix;
+
+                if (distanceAt(neighbour) == distance - 1) return new Interaction(handles.get(i), button);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Writes the table to a stream.
+     *
+     * @param out the stream to write to.
+     * @throws IOException if the stream cannot be written to.
+     * @see #read(ByteBuffer)
+     */
+    void write(DataOutputStream out) throws IOException {
+        out.writeInt(handles.size());
+
+        for (int i = 0; i < handles.size(); i++) {
+            out.writeInt(handles.get(i).x());
+            out.writeInt(handles.get(i).y());
+            out.writeInt(periods[i]);
+            out.writeInt(initialStates[i]);
+        }
+
+        byte[] bytes = new byte[distances.capacity()];
+        distances.get(0, bytes);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a table written by {@link #write(DataOutputStream)}. The distances are not copied, but remain backed by the buffer.
+     *
+     * @param buffer the buffer to read from, positioned at the start of the table. Afterwards, it is positioned right behind it.
+     * @return the table.
+     * @throws IllegalArgumentException if the buffer does not contain a valid table.
+     */
+    static DistanceTable read(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        if (count < 0 || count > Solver.MAX_HANDLES)
+            throw new IllegalArgumentException("Invalid amount of handles: " + count);
+
+        List<Pair<Integer, Integer>> handles = new ArrayList<>(count);
+        int[] periods = new int[count];
+        int[] initialStates = new int[count];
+
+        for (int i = 0; i < count; i++) {
+            handles.add(Pair.of(buffer.getInt(), buffer.getInt()));
+            periods[i] = buffer.getInt();
+            initialStates[i] = buffer.getInt();
+
+            if (periods[i] != 2 && periods[i] != 4)
+                throw new IllegalArgumentException("Invalid period: " + periods[i]);
+        }
+
+        int size = buffer.getInt();
+        if (size < 0 || size > buffer.remaining())
+            throw new IllegalArgumentException("Invalid amount of distances: " + size);
+
+        DistanceTable table = new DistanceTable(handles, periods, initialStates, buffer.slice(buffer.position(), size));
+        buffer.position(buffer.position() + size);
+        return table;
+    }
+
+    /**
+     * Reads the distance of a state.
+     *
+     * @param index the index of the state.
+     * @return the distance, or {@link Solver#UNSOLVABLE} if the level cannot be completed from this state.
+     */
+    private int distanceAt(int index) {
+        int distance = distances.get(index) & 0xFF;
+        return distance == UNREACHABLE ? Solver.UNSOLVABLE : distance;
+    }
+
+    /**
+     * Calculates the index of the current state of a board.
+     *
+     * @param board a board of the level this table was built for.
+     * @return the index of its state.
+     */
+    private int indexOf(Board board) {
+        int index = 0;
+
+        for (int i = handles.size() - 1; i >= 0; i--)
+            index = index * periods[i] + Math.floorMod(board.getTile(handles.get(i)).getState() - initialStates[i], periods[i]);
+
+        return index;
+    }
+}
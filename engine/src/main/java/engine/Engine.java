@@ -0,0 +1,178 @@
+package engine;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The interface through which the frontend may interact with the logic of the game.
+ */
+public interface Engine {
+    /**
+     * Registers the interaction with one specific tile.
+     *
+     * @param pos         position of the tile to be interacted with.
+     * @param button      the mouse button used for the interaction.
+     * @throws IllegalArgumentException  if the tile at this position cannot be interacted with.
+     * @throws IndexOutOfBoundsException if there is no tile at this position.
+     */
+    void registerInteraction(Pair<Integer, Integer> pos, Button button);
+
+    /**
+     * Registers a batch of interactions at once, settling the lasers only once at the end.
+     * <p>
+     * All interactions are validated first, so either all or none of them are applied. Each one counts as a move.
+     *
+     * @param interactions the interactions, in the order they are to be applied.
+     * @throws IllegalArgumentException if any of the tiles cannot be interacted with.
+     * @throws IllegalStateException    if the game is complete.
+     */
+    void registerInteractions(List<Interaction> interactions);
+
+    /**
+     * Registers a batch of interactions at once, and keeps track of whether the level was completed in between.
+     *
+     * @param interactions the interactions, in the order they are to be applied.
+     * @return the history of the batch, which settles the states in between lazily, once queried.
+     * @throws IllegalArgumentException if any of the tiles cannot be interacted with.
+     * @throws IllegalStateException    if the game is complete.
+     * @see #registerInteractions(List)
+     */
+    CompletionHistory registerInteractionsWithHistory(List<Interaction> interactions);
+
+    /**
+     * Registers a listener which is notified of all future changes to the game state.
+     *
+     * @param listener the listener.
+     * @see EngineEvent
+     */
+    void addListener(EngineListener listener);
+
+    /**
+     * Removes a previously registered listener.
+     *
+     * @param listener the listener.
+     */
+    void removeListener(EngineListener listener);
+
+    /**
+     * Delivers the results of background work finished since the last call, notifying the listeners on the calling thread.
+     * <p>
+     * Frontends using an asynchronous engine should call this once per frame. Does nothing if the engine works synchronously.
+     */
+    void dispatchPendingEvents();
+
+    /**
+     * Copies a single tile and returns it. Used together with {@link EngineEvent.TilesChanged} to update only the affected tiles.
+     *
+     * @param pos the position of the tile.
+     * @return copy of the tile, or null if there is no tile at this position.
+     */
+    Tile getCopyOfTile(Pair<Integer, Integer> pos);
+
+    /**
+     * Getter for the current move amount.
+     *
+     * @return the current amount of moves taken in this round.
+     */
+    int getMoves();
+
+    /**
+     * Getter for the optimal move amount for this level.
+     *
+     * @return the optimal amount of moves for the current level.
+     */
+    int getOptimalMoves();
+
+    /**
+     * Getter for the least amount of moves needed to complete the level from its current state.
+     *
+     * @return the amount of moves, or -1 if it is unknown or the level cannot be completed anymore.
+     */
+    int getRemainingMoves();
+
+    /**
+     * Determines if a gold medal can still be achieved in this round.
+     *
+     * @return true, if the level can still be completed within the optimal amount of moves.
+     */
+    boolean isGoldPossible();
+
+    /**
+     * Getter for an interaction which brings the level one move closer to completion.
+     *
+     * @return the interaction, or null if none is known.
+     */
+    Interaction getHint();
+
+    /**
+     * Getter for the level description.
+     *
+     * @return the description for the current level.
+     */
+    String getLevelDescription();
+
+    /**
+     * Getter for a copy of the current level tile map.
+     *
+     * @return all tiles for this level and their current state.
+     */
+    Map<Pair<Integer, Integer>, Tile> getCopyOfTiles();
+
+    /**
+     * Getter for the current laser set.
+     *
+     * @return all active lasers including positional and color information.
+     */
+    Set<Laser> getLasers();
+
+    /**
+     * Getter for the occupancy index of the current laser set, answering which lasers pass a cell without walking their paths.
+     *
+     * @return the index of all active lasers.
+     */
+    LaserOccupancy getLaserOccupancy();
+
+    /**
+     * Getter for the best achieved medal of this level.
+     *
+     * @return the ID representing the medal currently obtained on this level.
+     */
+    int getMedalID();
+
+    /**
+     * Getter for the level ID of the current level.
+     *
+     * @return the index / ID of the current level.
+     */
+    int getLevelID();
+
+    /**
+     * Getter for the completion state of the current round.
+     *
+     * @return true, if the current level is completed.
+     */
+    boolean isCompleted();
+
+    /**
+     * Requests a level using a direction-based system.
+     * <p>
+     * Calling the method with "1" would make the engine load the next level (or reload the current one if no such level exists).
+     * Similarly, calling the method using "-1" would load the previous level if it exists.
+     * <p>
+     * This enables to also move in greater steps, especially for testing.
+     *
+     * @param direction the value which will be added to the current index (will not cause {@link IndexOutOfBoundsException})
+     */
+    void requestLevel(int direction);
+
+    /**
+     * Applies changes to the levels of the level source, e.g. after it has been reloaded by a {@link LevelPackWatcher}.
+     * <p>
+     * The medals of the changed levels are discarded, while those of all other levels are kept.
+     * The current level is reloaded if it has changed (or no longer exists).
+     *
+     * @param levelIDs the IDs of all levels which have been changed, added or removed.
+     */
+    void reloadLevels(Set<Integer> levelIDs);
+}
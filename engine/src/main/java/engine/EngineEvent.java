@@ -0,0 +1,63 @@
+package engine;
+
+import java.util.Set;
+
+/**
+ * The EngineEvent interface. Describes a change of the game state, as pushed to all {@link EngineListener EngineListeners}.
+ * <p>
+ * Events are sent on the thread that caused the change, right after it happened.
+ */
+public interface EngineEvent {
+
+    /**
+     * Sent when tiles may have changed, e.g. after an interaction or when laser switches were (de)activated.
+     *
+     * @param cells the positions of all tiles which may have changed.
+     */
+    record TilesChanged(Set<Pair<Integer, Integer>> cells) implements EngineEvent {
+    }
+
+    /**
+     * Sent when the lasers have changed.
+     *
+     * @param lasers the new lasers.
+     */
+    record LasersChanged(Set<Laser> lasers) implements EngineEvent {
+    }
+
+    /**
+     * Sent when an interaction has been applied, before the move count is updated. Batches send one event per interaction.
+     *
+     * @param interaction the interaction.
+     */
+    record Interacted(Interaction interaction) implements EngineEvent {
+    }
+
+    /**
+     * Sent when a move has been taken.
+     *
+     * @param moves the amount of moves taken in this round.
+     */
+    record MovesChanged(int moves) implements EngineEvent {
+    }
+
+    /**
+     * Sent when a level has been (re)loaded. All previous game state is invalid, moves are reset to 0.
+     * <p>
+     * Followed by the events of the initial laser settlement, which may include {@link Completed}.
+     *
+     * @param levelID      the ID of the new level.
+     * @param description  the description of the new level.
+     * @param optimalMoves the optimal amount of moves for the new level.
+     */
+    record LevelChanged(int levelID, String description, int optimalMoves) implements EngineEvent {
+    }
+
+    /**
+     * Sent when the current round has been completed.
+     *
+     * @param medalID the medal ID of the level after completion. 0 - gold, 1 - silver, 2 - bronze, 3 - none.
+     */
+    record Completed(int medalID) implements EngineEvent {
+    }
+}
@@ -0,0 +1,16 @@
+package engine;
+
+/**
+ * The EngineListener interface. Allows the frontend to be notified of changes instead of polling the {@link Engine} every frame.
+ *
+ * @see Engine#addListener(EngineListener)
+ */
+@FunctionalInterface
+public interface EngineListener {
+    /**
+     * Called whenever the game state has changed.
+     *
+     * @param event the event describing the change.
+     */
+    void onEvent(EngineEvent event);
+}
@@ -0,0 +1,318 @@
+package engine;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * The EngineMetrics class. Collects live statistics of all engines within the application, to be watched through JMX.
+ * <p>
+ * The counters are updated on the hot path, by the game thread and the settlement thread alike, so they are {@link LongAdder}s
+ * which never block and rarely contend. Settlement latencies are counted in a histogram with one bucket per power of two nanoseconds,
+ * from which the percentiles are calculated whenever they are read.
+ * <p>
+ * The metrics are collected whether or not they are registered, see {@link #register()}.
+ */
+public final class EngineMetrics implements EngineMetricsMXBean {
+    /**
+     * The name the metrics are registered under.
+     */
+    public static final String NAME = "lasergame:type=EngineMetrics";
+
+    /**
+     * The metrics of this application.
+     */
+    private static final EngineMetrics INSTANCE = new EngineMetrics();
+
+    /**
+     * The least time, in nanoseconds, over which the interaction rate is calculated.
+     */
+    private static final long RATE_INTERVAL = 1_000_000_000L;
+
+    /**
+     * The counters of interactions, settlements, steps traced, snapshot copies, frames rendered and frames skipped.
+     */
+    private final LongAdder interactions = new LongAdder(), settlements = new LongAdder(), steps = new LongAdder(),
+            copies = new LongAdder(), frames = new LongAdder(), skippedFrames = new LongAdder();
+
+    /**
+     * The settlement latencies. Bucket i counts latencies below 2^i nanoseconds (and at least 2^(i - 1)).
+     */
+    private final LongAdder[] latencies = IntStream.range(0, Long.SIZE).mapToObj(i -> new LongAdder()).toArray(LongAdder[]::new);
+
+    /**
+     * The interaction count and time at which the interaction rate was last calculated, as well as the rate itself.
+     */
+    private final AtomicReference<Rate> rate = new AtomicReference<>(new Rate(0, System.nanoTime(), 0));
+
+    /**
+     * The ID and tile count of the level most recently loaded.
+     */
+    private volatile int levelID, tileCount;
+
+    /**
+     * Instantiates new, empty metrics. Only used by tests, the engine uses {@link #get()}.
+     */
+    EngineMetrics() {
+    }
+
+    /**
+     * Getter for the metrics of this application.
+     *
+     * @return the metrics shared by all engines.
+     */
+    public static EngineMetrics get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Registers the metrics of this application with the platform MBean server under {@link #NAME}. Does nothing if they already are.
+     *
+     * @throws JMException if the metrics cannot be registered.
+     */
+    public static void register() throws JMException {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(INSTANCE, objectName());
+        } catch (InstanceAlreadyExistsException e) {
+            // registered before, e.g. by another frontend within the same application
+        }
+    }
+
+    /**
+     * Getter for the object name of the metrics.
+     *
+     * @return the object name matching {@link #NAME}.
+     * @throws MalformedObjectNameException never, as the name is constant.
+     */
+    static ObjectName objectName() throws MalformedObjectNameException {
+        return new ObjectName(NAME);
+    }
+
+    /**
+     * Counts an interaction.
+     */
+    void interacted() {
+        interactions.increment();
+    }
+
+    /**
+     * Counts a completed settlement.
+     *
+     * @param nanos the time the settlement took, in nanoseconds.
+     */
+    void settled(long nanos) {
+        settlements.increment();
+        latencies[bucketOf(nanos)].increment();
+    }
+
+    /**
+     * Counts the steps taken while tracing a single laser.
+     *
+     * @param steps the amount of tiles entered and runs of tiles skipped, see {@link #getLaserStepsTraced()}.
+     */
+    void traced(long steps) {
+        this.steps.add(steps);
+    }
+
+    /**
+     * Counts a copy of the tile map or a single tile.
+     */
+    void copied() {
+        copies.increment();
+    }
+
+    /**
+     * Stores the level which has just been loaded.
+     *
+     * @param levelID   the ID of the level.
+     * @param tileCount the amount of tiles of the level.
+     */
+    void loaded(int levelID, int tileCount) {
+        this.levelID = levelID;
+        this.tileCount = tileCount;
+    }
+
+    /**
+     * Counts a frame drawn by the frontend.
+     *
+     * @param skipped the amount of frames skipped since the previous frame, as it took longer than the target frame time.
+     */
+    public void rendered(int skipped) {
+        frames.increment();
+        if (skipped > 0) skippedFrames.add(skipped);
+    }
+
+    /**
+     * Calculates the histogram bucket of a latency.
+     *
+     * @param nanos the latency in nanoseconds.
+     * @return the bucket, i.e. the amount of bits needed to represent the latency.
+     */
+    static int bucketOf(long nanos) {
+        return Math.min(Long.SIZE - Long.numberOfLeadingZeros(Math.max(nanos, 0)), Long.SIZE - 1);
+    }
+
+    /**
+     * Calculates a percentile of the settlement latencies from the histogram.
+     *
+     * @param percentile the percentile, between 0 and 1.
+     * @return the upper bound of the bucket containing the percentile, in microseconds. 0, if nothing has been settled yet.
+     */
+    double getSettleLatencyMicros(double percentile) {
+        long[] counts = new long[latencies.length];
+        long total = 0;
+
+        for (int i = 0; i < counts.length; i++)
+            total += counts[i] = latencies[i].sum();
+
+        long rank = Math.max(1, (long) Math.ceil(percentile * total));
+        for (int i = 0; i < counts.length; i++)
+            if ((rank -= counts[i]) <= 0)
+                return (1L << i) / 1000.0;
+
+        return 0;
+    }
+
+    /**
+     * Getter for the amount of interactions.
+     *
+     * @return the amount of interactions registered with any engine.
+     */
+    @Override
+    public long getInteractions() {
+        return interactions.sum();
+    }
+
+    /**
+     * Getter for the recent interaction rate.
+     *
+     * @return the interactions per second since this rate was last calculated, at least one second ago.
+     */
+    @Override
+    public double getInteractionsPerSecond() {
+        Rate previous = rate.get();
+        long now = System.nanoTime();
+        if (now - previous.time() < RATE_INTERVAL) return previous.perSecond();
+
+        long count = interactions.sum();
+        Rate current = new Rate(count, now, (count - previous.count()) * 1e9 / (now - previous.time()));
+
+        // another client calculating the rate at the same time is just as accurate
+        return rate.compareAndSet(previous, current) ? current.perSecond() : rate.get().perSecond();
+    }
+
+    /**
+     * Getter for the amount of settlements.
+     *
+     * @return the amount of completed settlements of the lasers, in the foreground or background.
+     */
+    @Override
+    public long getSettlements() {
+        return settlements.sum();
+    }
+
+    /**
+     * Getter for the median settlement latency.
+     *
+     * @return the latency in microseconds, rounded up to the next power of two nanoseconds. 0, if nothing has been settled yet.
+     */
+    @Override
+    public double getSettleLatencyP50Micros() {
+        return getSettleLatencyMicros(0.5);
+    }
+
+    /**
+     * Getter for the 90th percentile of the settlement latency.
+     *
+     * @return the latency in microseconds, rounded up to the next power of two nanoseconds. 0, if nothing has been settled yet.
+     */
+    @Override
+    public double getSettleLatencyP90Micros() {
+        return getSettleLatencyMicros(0.9);
+    }
+
+    /**
+     * Getter for the 99th percentile of the settlement latency.
+     *
+     * @return the latency in microseconds, rounded up to the next power of two nanoseconds. 0, if nothing has been settled yet.
+     */
+    @Override
+    public double getSettleLatencyP99Micros() {
+        return getSettleLatencyMicros(0.99);
+    }
+
+    /**
+     * Getter for the amount of laser steps traced.
+     *
+     * @return the steps taken by the laser tracer of any engine or simulation, one per tile entered or run of tiles without collision skipped.
+     */
+    @Override
+    public long getLaserStepsTraced() {
+        return steps.sum();
+    }
+
+    /**
+     * Getter for the amount of snapshot copies.
+     *
+     * @return the amount of tile map and single tile copies handed out by any engine.
+     */
+    @Override
+    public long getSnapshotCopies() {
+        return copies.sum();
+    }
+
+    /**
+     * Getter for the amount of frames rendered.
+     *
+     * @return the amount of frames drawn by the frontend.
+     */
+    @Override
+    public long getFramesRendered() {
+        return frames.sum();
+    }
+
+    /**
+     * Getter for the amount of frames skipped.
+     *
+     * @return the amount of frames the frontend fell behind its target frame rate by.
+     */
+    @Override
+    public long getFramesSkipped() {
+        return skippedFrames.sum();
+    }
+
+    /**
+     * Getter for the current level.
+     *
+     * @return the ID of the level most recently loaded by any engine.
+     */
+    @Override
+    public int getLevelID() {
+        return levelID;
+    }
+
+    /**
+     * Getter for the tile count of the current level.
+     *
+     * @return the amount of tiles of the level most recently loaded by any engine.
+     */
+    @Override
+    public int getTileCount() {
+        return tileCount;
+    }
+
+    /**
+     * The interaction rate as calculated at one point in time.
+     *
+     * @param count     the amount of interactions at that time.
+     * @param time      the time, as given by {@link System#nanoTime()}.
+     * @param perSecond the interactions per second since the previous calculation.
+     */
+    private record Rate(long count, long time, double perSecond) {
+    }
+}
@@ -0,0 +1,92 @@
+package engine;
+
+/**
+ * The management interface of the {@link EngineMetrics}, shown in JConsole and other JMX clients under {@link EngineMetrics#NAME}.
+ * <p>
+ * All counters are cumulative since the start of the application. Latencies are given in microseconds.
+ */
+public interface EngineMetricsMXBean {
+    /**
+     * Getter for the amount of interactions.
+     *
+     * @return the amount of interactions registered with any engine.
+     */
+    long getInteractions();
+
+    /**
+     * Getter for the recent interaction rate.
+     *
+     * @return the interactions per second since this rate was last calculated, at least one second ago.
+     */
+    double getInteractionsPerSecond();
+
+    /**
+     * Getter for the amount of settlements.
+     *
+     * @return the amount of completed settlements of the lasers, in the foreground or background.
+     */
+    long getSettlements();
+
+    /**
+     * Getter for the median settlement latency.
+     *
+     * @return the latency in microseconds, rounded up to the next power of two nanoseconds. 0, if nothing has been settled yet.
+     */
+    double getSettleLatencyP50Micros();
+
+    /**
+     * Getter for the 90th percentile of the settlement latency.
+     *
+     * @return the latency in microseconds, rounded up to the next power of two nanoseconds. 0, if nothing has been settled yet.
+     */
+    double getSettleLatencyP90Micros();
+
+    /**
+     * Getter for the 99th percentile of the settlement latency.
+     *
+     * @return the latency in microseconds, rounded up to the next power of two nanoseconds. 0, if nothing has been settled yet.
+     */
+    double getSettleLatencyP99Micros();
+
+    /**
+     * Getter for the amount of laser steps traced.
+     *
+     * @return the steps taken by the laser tracer of any engine or simulation, one per tile entered or run of tiles without collision skipped.
+     */
+    long getLaserStepsTraced();
+
+    /**
+     * Getter for the amount of snapshot copies.
+     *
+     * @return the amount of tile map and single tile copies handed out by any engine.
+     */
+    long getSnapshotCopies();
+
+    /**
+     * Getter for the amount of frames rendered.
+     *
+     * @return the amount of frames drawn by the frontend.
+     */
+    long getFramesRendered();
+
+    /**
+     * Getter for the amount of frames skipped.
+     *
+     * @return the amount of frames the frontend fell behind its target frame rate by.
+     */
+    long getFramesSkipped();
+
+    /**
+     * Getter for the current level.
+     *
+     * @return the ID of the level most recently loaded by any engine.
+     */
+    int getLevelID();
+
+    /**
+     * Getter for the tile count of the current level.
+     *
+     * @return the amount of tiles of the level most recently loaded by any engine.
+     */
+    int getTileCount();
+}
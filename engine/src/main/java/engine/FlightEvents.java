@@ -0,0 +1,184 @@
+package engine;
+
+import jdk.jfr.*;
+
+/**
+ * The FlightEvents class. Holds the custom JDK Flight Recorder events of the engine, so its work shows up as named phases
+ * in the same recording as garbage collection and other JVM activity.
+ * <p>
+ * All events are disabled unless a recording enables them, e.g. with {@code -XX:StartFlightRecording} and the
+ * {@code lasergame.*} event names in the recording settings. While disabled, {@link Event#shouldCommit()} is false,
+ * so none of the event fields are calculated.
+ */
+final class FlightEvents {
+    /**
+     * The category of all engine events.
+     */
+    private static final String CATEGORY = "Laser Game";
+
+    /**
+     * Not to be instantiated.
+     */
+    private FlightEvents() {
+    }
+
+    /**
+     * An interaction registered with the engine, spanning the interaction and, in synchronous mode, the settlement of the lasers.
+     */
+    @Name("lasergame.Interaction")
+    @Label("Interaction")
+    @Category({CATEGORY, "Engine"})
+    @Description("An interaction with a tile, including the settlement of the lasers unless they are settled in the background")
+    static final class Interaction extends Event {
+        /**
+         * The x-coordinate of the tile.
+         */
+        @Label("X")
+        int x;
+
+        /**
+         * The y-coordinate of the tile.
+         */
+        @Label("Y")
+        int y;
+
+        /**
+         * The mouse button used.
+         */
+        @Label("Button")
+        String button;
+
+        /**
+         * The time spent settling the lasers.
+         */
+        @Label("Settle Duration")
+        @Description("Zero, if the lasers are settled in the background")
+        @Timespan(Timespan.NANOSECONDS)
+        long settleDuration;
+
+        /**
+         * The passes needed to settle the lasers.
+         */
+        @Label("Passes")
+        @Description("The amount of times all lasers were traced, or -1 if they are settled in the background")
+        int passes = -1;
+
+        /**
+         * Fills in the interaction and commits the event, if it is enabled and long enough to be recorded.
+         *
+         * @param pos    the position of the tile.
+         * @param button the mouse button used.
+         */
+        void commit(Pair<Integer, Integer> pos, Button button) {
+            if (!shouldCommit()) return;
+
+            x = pos.x();
+            y = pos.y();
+            this.button = button.name();
+            commit();
+        }
+    }
+
+    /**
+     * A settlement of the lasers on a board, see {@link Board#settle()}.
+     */
+    @Name("lasergame.Settlement")
+    @Label("Laser Settlement")
+    @Category({CATEGORY, "Engine"})
+    @Description("The lasers of a board being traced until all laser switches are settled")
+    static final class Settlement extends Event {
+        /**
+         * The amount of lasers.
+         */
+        @Label("Lasers")
+        int lasers;
+
+        /**
+         * The steps taken by the laser tracer during all passes.
+         */
+        @Label("Laser Steps")
+        @Description("The steps taken by the laser tracer during all passes, one per tile entered or run of tiles without collision skipped")
+        long steps;
+
+        /**
+         * The passes needed to settle the lasers.
+         */
+        @Label("Passes")
+        @Description("The amount of times all lasers were traced")
+        int passes;
+
+        /**
+         * True, if the settlement ran on the background thread.
+         */
+        @Label("Background")
+        boolean background;
+
+        /**
+         * True, if all lasers ended on a target.
+         */
+        @Label("Completed")
+        boolean completed;
+
+        /**
+         * Fills in the result of the settlement and commits the event, if it is enabled and long enough to be recorded.
+         *
+         * @param board      the settled board.
+         * @param background true, if the board was settled on the background thread.
+         */
+        void commit(Board board, boolean background) {
+            if (!shouldCommit()) return;
+
+            lasers = board.getLasers().size();
+            steps = board.getSteps();
+            passes = board.getPasses();
+            this.background = background;
+            completed = board.isCompleted();
+            commit();
+        }
+    }
+
+    /**
+     * A level being loaded by the engine, spanning the conversion of its data into tiles and the setup of its board.
+     */
+    @Name("lasergame.LevelLoad")
+    @Label("Level Load")
+    @Category({CATEGORY, "Engine"})
+    @Description("A level being parsed into tiles and set up as a board, excluding the first settlement of its lasers")
+    static final class LevelLoad extends Event {
+        /**
+         * The time spent parsing the level data into tiles.
+         */
+        @Label("Parse Duration")
+        @Description("The part of the event spent parsing the level data, the rest is spent setting up the board")
+        @Timespan(Timespan.NANOSECONDS)
+        long parseDuration;
+
+        /**
+         * The ID of the level.
+         */
+        @Label("Level ID")
+        int levelID;
+
+        /**
+         * The amount of tiles of the level.
+         */
+        @Label("Tiles")
+        int tiles;
+
+        /**
+         * Fills in the level and commits the event, if it is enabled and long enough to be recorded.
+         *
+         * @param levelID       the ID of the level.
+         * @param level         the parsed level.
+         * @param parseDuration the time spent parsing the level, in nanoseconds.
+         */
+        void commit(int levelID, Level level, long parseDuration) {
+            if (!shouldCommit()) return;
+
+            this.levelID = levelID;
+            tiles = level.tiles().size();
+            this.parseDuration = parseDuration;
+            commit();
+        }
+    }
+}
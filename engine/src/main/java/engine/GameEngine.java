@@ -0,0 +1,587 @@
+package engine;
+
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The main Engine running the game.
+ * <p>
+ * Handles interactions and storage of tile data, and hands important information
+ * to the frontend.
+ * <p>
+ * Also handles storage of game data such as the current moves taken and achieved medals. Medals are stored for the entirety of a session.
+ * <p>
+ * In asynchronous mode, interactions are applied at once but the lasers are settled on a background thread (see {@link AsyncSettler}).
+ * The board then acts as the front buffer, which is only updated by {@link #dispatchPendingEvents()}.
+ */
+public final class GameEngine implements Engine {
+    /**
+     * The level source. Used for loading all levels and later storing medal data.
+     */
+    private final LevelSource levels;
+    private final Map<Integer, Integer> medals;
+    /**
+     * True, if the current game has been completed. Used to display game over popups in frontend.
+     */
+    private boolean completed;
+    /**
+     * The amount of moves taken in this round.
+     */
+    private int moves,
+    /**
+     * The current level ID.
+     *
+     * @see #requestLevel(int)
+     */
+    levelID = 0;
+    /**
+     * The current level.
+     *
+     * @see #levelSetup()
+     */
+    private Level level;
+    /**
+     * The board of the current round, storing the tiles and lasers in their current state.
+     *
+     * @see #levelSetup()
+     */
+    private Board board;
+    /**
+     * The registered listeners, notified of every change.
+     *
+     * @see #fire(EngineEvent)
+     */
+    private final List<EngineListener> listeners = new CopyOnWriteArrayList<>();
+    /**
+     * True, if lasers are settled on a background thread after interactions.
+     */
+    private final boolean async;
+    /**
+     * The settler of the current level, holding the back buffer. Null, unless in asynchronous mode.
+     *
+     * @see #levelSetup()
+     */
+    private AsyncSettler settler;
+    /**
+     * The perfect-play distances of all levels. May be null.
+     */
+    private final DistanceDatabase distances;
+    /**
+     * The IDs of all levels which have been changed since the engine was created. Their distances are out of date.
+     *
+     * @see #reloadLevels(Set)
+     */
+    private final Set<Integer> changedLevels = new HashSet<>();
+
+    /**
+     * Instantiates the Engine, settling lasers synchronously.
+     *
+     * @param levels the {@link LevelSource} supplying the level data
+     */
+    public GameEngine(LevelSource levels) {
+        this(levels, false);
+    }
+
+    /**
+     * Instantiates the Engine.
+     *
+     * @param levels the {@link LevelSource} supplying the level data
+     * @param async  true, if lasers should be settled on a background thread after interactions.
+     *               Level changes are always settled synchronously.
+     */
+    public GameEngine(LevelSource levels, boolean async) {
+        this(levels, async, null);
+    }
+
+    /**
+     * Instantiates the Engine with perfect-play distances, which verify the optimal moves and answer
+     * {@link #getRemainingMoves()}, {@link #isGoldPossible()} and {@link #getHint()}.
+     *
+     * @param levels    the {@link LevelSource} supplying the level data
+     * @param async     true, if lasers should be settled on a background thread after interactions.
+     * @param distances the distances built for the same levels, or null.
+     */
+    public GameEngine(LevelSource levels, boolean async, DistanceDatabase distances) {
+        this.levels = levels;
+        this.async = async;
+        this.distances = distances;
+        medals = new HashMap<>();
+        levelSetup();
+    }
+
+    /**
+     * Sets up the current level and resets game data.
+     */
+    private void levelSetup() {
+        FlightEvents.LevelLoad event = new FlightEvents.LevelLoad();
+        event.begin();
+        long parseStart = System.nanoTime();
+        level = Level.of(levels.getLevel(levelID));
+        long parseDuration = System.nanoTime() - parseStart;
+        board = new Board(level.tiles());
+        board.trackChanges();
+        event.commit(levelID, level, parseDuration);
+        EngineMetrics.get().loaded(levelID, level.tiles().size());
+        completed = false;
+        moves = 0;
+        fire(new EngineEvent.LevelChanged(levelID, level.description(), getOptimalMoves()));
+        update();
+
+        if (settler != null) settler.close();
+        settler = async ? new AsyncSettler(board.copy()) : null;
+    }
+
+    /**
+     * Updates lasers and medal, if appropriate, and notifies the listeners of all resulting changes.
+     */
+    public void update() {
+        Set<Laser> previousLasers = board.getLasers();
+        boolean wasCompleted = completed;
+
+        updateLasers();
+
+        if (completed) updateMedal();
+
+        fireChanges(previousLasers, wasCompleted);
+    }
+
+    /**
+     * Publishes the result of the most recent background settlement, if it is up to date, and notifies the listeners of the resulting changes.
+     * Does nothing in synchronous mode.
+     */
+    public void dispatchPendingEvents() {
+        AsyncSettler.Result result = settler == null ? null : settler.poll();
+        if (result == null) return;
+
+        Set<Laser> previousLasers = board.getLasers();
+        boolean wasCompleted = completed;
+
+        board.apply(result.tiles(), result.lasers(), result.completed());
+        completed = board.isCompleted();
+
+        if (completed) updateMedal();
+
+        fireChanges(previousLasers, wasCompleted);
+    }
+
+    /**
+     * Waits for the background settlement of all submitted interactions, if there is one, and publishes it.
+     * Does nothing in synchronous mode.
+     */
+    private void awaitSettlement() {
+        if (settler == null || !settler.isBusy()) return;
+
+        settler.await();
+        dispatchPendingEvents();
+    }
+
+    /**
+     * Determines if a background settlement has not yet been published.
+     *
+     * @return true, if the lasers do not yet reflect the most recent interaction.
+     */
+    boolean isSettling() {
+        return settler != null && settler.isBusy();
+    }
+
+    /**
+     * Notifies the listeners of all changes caused by a settlement.
+     *
+     * @param previousLasers the lasers before the settlement.
+     * @param wasCompleted   the completion state before the settlement.
+     */
+    private void fireChanges(Set<Laser> previousLasers, boolean wasCompleted) {
+        Set<Pair<Integer, Integer>> changed = board.drainChanges();
+        if (!changed.isEmpty()) fire(new EngineEvent.TilesChanged(changed));
+        if (!board.getLasers().equals(previousLasers)) fire(new EngineEvent.LasersChanged(board.getLasers()));
+        if (completed && !wasCompleted) fire(new EngineEvent.Completed(getMedalID()));
+    }
+
+    /**
+     * Registers a listener which is notified of all future changes to the game state.
+     *
+     * @param listener the listener.
+     */
+    public void addListener(EngineListener listener) {
+        listeners.add(Objects.requireNonNull(listener));
+    }
+
+    /**
+     * Removes a previously registered listener.
+     *
+     * @param listener the listener.
+     */
+    public void removeListener(EngineListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Notifies all listeners of a change.
+     *
+     * @param event the event describing the change.
+     */
+    private void fire(EngineEvent event) {
+        listeners.forEach(l -> l.onEvent(event));
+    }
+
+    /**
+     * If possible, registers an interaction with a tile and updates the move count and lasers.
+     * <p>
+     * In asynchronous mode, the lasers are updated once the background settlement has been published by {@link #dispatchPendingEvents()}.
+     * If the previous interaction has not been settled yet, this waits for its settlement and publishes it first,
+     * as it may have completed the level.
+     *
+     * @param pos         position of the tile to be interacted with.
+     * @param button      the mouse button used for the interaction.
+     * @throws IllegalArgumentException if the given position does not contain a tile
+     * @throws IllegalStateException    if the game is complete
+     */
+    public void registerInteraction(Pair<Integer, Integer> pos, Button button) {
+        if (!board.hasTile(pos))
+            throw new IllegalArgumentException("This position does not contain a tile.");
+
+        awaitSettlement();
+        if (completed)
+            throw new IllegalStateException("The game cannot register interactions when completed.");
+
+        FlightEvents.Interaction event = new FlightEvents.Interaction();
+        event.begin();
+
+        board.interact(pos, button);
+        EngineMetrics.get().interacted();
+        fire(new EngineEvent.Interacted(new Interaction(pos, button)));
+        moves++; // only done up if interact didn't throw an exception
+        fire(new EngineEvent.MovesChanged(moves));
+
+        if (settler == null) {
+            long start = System.nanoTime();
+            update();
+            event.settleDuration = System.nanoTime() - start;
+            event.passes = board.getPasses();
+        } else {
+            Set<Pair<Integer, Integer>> changed = board.drainChanges();
+            if (!changed.isEmpty()) fire(new EngineEvent.TilesChanged(changed));
+            settler.submit(pos, button);
+        }
+
+        event.commit(pos, button);
+    }
+
+    /**
+     * Registers a batch of interactions at once, settling the lasers only once after the last one.
+     * <p>
+     * The batch is atomic: all interactions are validated before the first one is applied, so an invalid batch leaves the game untouched.
+     * Each interaction counts as one move. As the lasers in between are never settled, a level completed partway through
+     * does not stop the batch; see {@link #registerInteractionsWithHistory(List)} to find out about it.
+     *
+     * @param interactions the interactions, in the order they are to be applied.
+     * @throws IllegalArgumentException if any of the interactions targets a tile which cannot be interacted with manually
+     * @throws IllegalStateException    if the game is complete
+     */
+    public void registerInteractions(List<Interaction> interactions) {
+        validate(interactions);
+        apply(interactions);
+    }
+
+    /**
+     * Registers a batch of interactions at once, just like {@link #registerInteractions(List)}, and keeps track of the states in between.
+     * <p>
+     * This costs a copy of the board before the batch is applied. The states in between are only settled when queried.
+     *
+     * @param interactions the interactions, in the order they are to be applied.
+     * @return the history, telling whether the level was completed after each of the interactions.
+     * @throws IllegalArgumentException if any of the interactions targets a tile which cannot be interacted with manually
+     * @throws IllegalStateException    if the game is complete
+     */
+    public CompletionHistory registerInteractionsWithHistory(List<Interaction> interactions) {
+        validate(interactions);
+
+        CompletionHistory history = new CompletionHistory(board.copy(), interactions);
+        apply(interactions);
+
+        return history;
+    }
+
+    /**
+     * Ensures that every interaction of a batch can be applied without failing.
+     *
+     * @param interactions the interactions to check.
+     * @throws IllegalArgumentException if any of the interactions targets a tile which cannot be interacted with manually
+     * @throws IllegalStateException    if the game is complete
+     */
+    private void validate(List<Interaction> interactions) {
+        awaitSettlement();
+        if (completed)
+            throw new IllegalStateException("The game cannot register interactions when completed.");
+
+        interactions.stream()
+                .filter(i -> !board.canInteract(i.pos()))
+                .findFirst()
+                .ifPresent(i -> {
+                    throw new IllegalArgumentException("The tile at " + i.pos() + " cannot be interacted with.");
+                });
+    }
+
+    /**
+     * Applies a validated batch of interactions, then updates the move count and lasers once.
+     *
+     * @param interactions the interactions, in the order they are to be applied.
+     */
+    private void apply(List<Interaction> interactions) {
+        if (interactions.isEmpty()) return;
+
+        interactions.forEach(i -> {
+            board.interact(i.pos(), i.button());
+            EngineMetrics.get().interacted();
+            fire(new EngineEvent.Interacted(i));
+        });
+        moves += interactions.size();
+        fire(new EngineEvent.MovesChanged(moves));
+
+        if (settler == null) {
+            update();
+        } else {
+            Set<Pair<Integer, Integer>> changed = board.drainChanges();
+            if (!changed.isEmpty()) fire(new EngineEvent.TilesChanged(changed));
+            interactions.forEach(i -> settler.submit(i.pos(), i.button()));
+        }
+    }
+
+    /**
+     * Getter for the move count.
+     *
+     * @return the amount of moves taken in this round
+     */
+    public int getMoves() {
+        return moves;
+    }
+
+    /**
+     * Getter for the optimal amount of moves for this level.
+     *
+     * @return the optimal amount of moves (verified by the distances if available, otherwise determined when creating the levels)
+     */
+    public int getOptimalMoves() {
+        DistanceTable table = getDistanceTable();
+        int verified = table == null ? DistanceDatabase.UNKNOWN : table.initialDistance();
+        return verified < 0 ? level.minMoves() : verified;
+    }
+
+    /**
+     * Looks up the least amount of moves needed to complete the level from its current state.
+     *
+     * @return the amount of moves, or {@link DistanceDatabase#UNKNOWN} if there are no distances for this level or it cannot be completed anymore.
+     */
+    public int getRemainingMoves() {
+        DistanceTable table = getDistanceTable();
+        return table == null ? DistanceDatabase.UNKNOWN : table.distance(board);
+    }
+
+    /**
+     * Determines if a gold medal can still be achieved in this round.
+     * <p>
+     * Without distances, at least one more move is assumed to be needed until the level is completed.
+     *
+     * @return true, if the level can still be completed within the optimal amount of moves.
+     */
+    public boolean isGoldPossible() {
+        if (completed) return moves - getOptimalMoves() <= Medal.GOLD.maxMistakes;
+
+        int remaining = getRemainingMoves();
+        if (remaining == DistanceDatabase.UNKNOWN) {
+            if (getDistanceTable() != null) return false; // cannot be completed anymore
+            remaining = 1;
+        }
+
+        return moves + remaining - getOptimalMoves() <= Medal.GOLD.maxMistakes;
+    }
+
+    /**
+     * Looks up an interaction which brings the level one move closer to completion.
+     *
+     * @return the interaction, or null if the level is completed, cannot be completed anymore or there are no distances for it.
+     */
+    public Interaction getHint() {
+        DistanceTable table = getDistanceTable();
+        return table == null ? null : table.hint(board);
+    }
+
+    /**
+     * Getter for the distances of the current level.
+     *
+     * @return the distance table, or null if there are no distances for this level or it has been changed since.
+     */
+    private DistanceTable getDistanceTable() {
+        return distances == null || changedLevels.contains(levelID) ? null : distances.get(levelID);
+    }
+
+    /**
+     * Getter for the level description.
+     *
+     * @return the level description
+     */
+    public String getLevelDescription() {
+        return level.description();
+    }
+
+    /**
+     * Copies the tile map and returns it.
+     *
+     * @return copy of the tile map
+     */
+    public Map<Pair<Integer, Integer>, Tile> getCopyOfTiles() {
+        EngineMetrics.get().copied();
+        return board.copyOfTiles();
+    }
+
+    /**
+     * Copies a single tile and returns it.
+     *
+     * @param pos the position of the tile.
+     * @return copy of the tile, or null if there is no tile at this position.
+     */
+    public Tile getCopyOfTile(Pair<Integer, Integer> pos) {
+        EngineMetrics.get().copied();
+        return board.copyOfTile(pos);
+    }
+
+    /**
+     * Updates the lasers and the {@link #completed} variable.
+     *
+     * @see Board#settle()
+     */
+    public void updateLasers() {
+        FlightEvents.Settlement event = new FlightEvents.Settlement();
+        event.begin();
+        long start = System.nanoTime();
+        board.settle();
+        EngineMetrics.get().settled(System.nanoTime() - start);
+        event.commit(board, false);
+        completed = board.isCompleted();
+    }
+
+    /**
+     * Requests a specific level
+     *
+     * @param shift the position offset the new level is located at.
+     *              <p>
+     *              1 would be the next, -1 the previous, and 0 the same level reloaded.
+     */
+    public void requestLevel(int shift) {
+        if (shift >= levels.size() || levelID + shift >= levels.size()) levelID = levels.size() - 1;
+        else if (levelID + shift <= 0) levelID = 0;
+        else levelID += shift;
+
+        levelSetup();
+    }
+
+    /**
+     * Applies changes to the levels of the level source. Distances of changed levels are no longer used.
+     *
+     * @param levelIDs the IDs of all levels which have been changed, added or removed.
+     */
+    public void reloadLevels(Set<Integer> levelIDs) {
+        changedLevels.addAll(levelIDs);
+        medals.keySet().removeAll(levelIDs);
+
+        if (levelIDs.contains(levelID) || levelID >= levels.size()) {
+            levelID = Math.max(0, Math.min(levelID, levels.size() - 1));
+            levelSetup();
+        }
+    }
+
+    /**
+     * Getter for the laser set.
+     *
+     * @return the laser set
+     */
+    public Set<Laser> getLasers() {
+        return board.getLasers();
+    }
+
+    /**
+     * Getter for the occupancy index of the current laser set.
+     *
+     * @return the index, built once per laser set.
+     */
+    @Override
+    public LaserOccupancy getLaserOccupancy() {
+        return board.getOccupancy();
+    }
+
+    /**
+     * Getter for the completion state.
+     *
+     * @return true, if current round is completed
+     */
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    /**
+     * Getter for the medal ID of the current level.
+     * <p>
+     * 0 - gold, 1 - silver, 2 - bronze, 3 - none.
+     *
+     * @return the medal ID.
+     */
+    public int getMedalID() {
+        return medals.getOrDefault(levelID, 3);
+    }
+
+    /**
+     * Getter for the current level ID.
+     *
+     * @return the current level ID
+     */
+    public int getLevelID() {
+        return levelID;
+    }
+
+    /**
+     * Updates the current medal and stores it.
+     */
+    private void updateMedal() {
+        medals.put(levelID, Arrays.stream(Medal.values())
+                .filter(m -> moves - getOptimalMoves() <= m.maxMistakes)
+                .mapToInt(Enum::ordinal)
+                .filter(m -> m <= medals.getOrDefault(levelID, 3))
+                .findFirst().orElse(medals.getOrDefault(levelID, 3)));
+    }
+
+    /**
+     * The Medal enum.
+     */
+    private enum Medal {
+        /**
+         * Gold medal.
+         */
+        GOLD(0),
+        /**
+         * Silver medal.
+         */
+        SILVER(4),
+        /**
+         * Bronze medal.
+         */
+        BRONZE(9),
+        /**
+         * No medal. What a pity.
+         */
+        NONE(Integer.MAX_VALUE);
+
+        /**
+         * The max mistakes allowed to achieve this medal.
+         */
+        public final int maxMistakes;
+
+        /**
+         * Instantiates a new medal.
+         *
+         * @param maxMistakes the max mistakes
+         */
+        Medal(int maxMistakes) {
+            this.maxMistakes = maxMistakes;
+        }
+    }
+}
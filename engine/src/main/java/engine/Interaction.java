@@ -0,0 +1,11 @@
+package engine;
+
+/**
+ * The Interaction record. Describes a single click on a tile, e.g. as part of a batch.
+ *
+ * @param pos    position of the tile to be interacted with.
+ * @param button the mouse button used for the interaction.
+ * @see Engine#registerInteractions(java.util.List)
+ */
+public record Interaction(Pair<Integer, Integer> pos, Button button) {
+}
@@ -0,0 +1,343 @@
+package engine;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A minimal JSON parser, so the engine can read level packs without depending on any frontend library.
+ * <p>
+ * Objects are parsed into {@link Map Maps} (keeping the order of their keys), arrays into {@link List Lists},
+ * numbers into {@link Long} or {@link Double}, and literals into {@link Boolean} or null.
+ */
+final class Json {
+    /**
+     * The text to parse.
+     */
+    private final String text;
+    /**
+     * The current position within the text.
+     */
+    private int pos;
+
+    /**
+     * Instantiates a new parser.
+     *
+     * @param text the text to parse.
+     */
+    private Json(String text) {
+        this.text = text;
+    }
+
+    /**
+     * Parses a JSON document.
+     *
+     * @param text the JSON document.
+     * @return the parsed value.
+     * @throws IllegalArgumentException if the text is not valid JSON.
+     */
+    static Object parse(String text) {
+        Json json = new Json(text);
+        Object value = json.readValue();
+        json.skipWhitespace();
+
+        if (json.pos != text.length()) throw json.error("Unexpected trailing content");
+
+        return value;
+    }
+
+    /**
+     * Splits a JSON array into the text of its elements, without parsing them.
+     * <p>
+     * Elements are only scanned for their end, so their content is not validated until they are parsed themselves.
+     *
+     * @param text the JSON array.
+     * @return the text of every element, without surrounding whitespace.
+     * @throws IllegalArgumentException if the text is not an array, or an element is not terminated.
+     */
+    static List<String> splitArray(String text) {
+        Json json = new Json(text);
+        List<String> elements = new ArrayList<>();
+
+        json.skipWhitespace();
+        json.expect('[');
+        json.skipWhitespace();
+
+        if (!json.consume(']')) {
+            do {
+                json.skipWhitespace();
+                int start = json.pos;
+                json.skipValue();
+                elements.add(text.substring(start, json.pos));
+                json.skipWhitespace();
+            } while (json.consume(','));
+
+            json.expect(']');
+        }
+
+        json.skipWhitespace();
+        if (json.pos != text.length()) throw json.error("Unexpected trailing content");
+
+        return elements;
+    }
+
+    /**
+     * Converts a string into a JSON string literal, escaping quotes, backslashes and control characters.
+     *
+     * @param s the string.
+     * @return the quoted and escaped string.
+     */
+    static String quote(String s) {
+        StringBuilder output = new StringBuilder("\"");
+
+        for (char c : s.toCharArray()) {
+            switch (c) {
+                case '"' -> output.append("\\\"");
+                case '\\' -> output.append("\\\\");
+                case '\n' -> output.append("\\n");
+                case '\r' -> output.append("\\r");
+                case '\t' -> output.append("\\t");
+                default -> {
+                    if (c < 0x20) output.append(String.format("\\u%04x", (int) c));
+                    else output.append(c);
+                }
+            }
+        }
+
+        return output.append('"').toString();
+    }
+
+    /**
+     * Reads any value at the current position.
+     *
+     * @return the parsed value.
+     */
+    private Object readValue() {
+        skipWhitespace();
+        if (pos >= text.length()) throw error("Unexpected end of input");
+
+        return switch (text.charAt(pos)) {
+            case '{' -> readObject();
+            case '[' -> readArray();
+            case '"' -> readString();
+            case 't' -> readLiteral("true", Boolean.TRUE);
+            case 'f' -> readLiteral("false", Boolean.FALSE);
+            case 'n' -> readLiteral("null", null);
+            default -> readNumber();
+        };
+    }
+
+    /**
+     * Skips any value at the current position, only keeping track of strings and nesting.
+     */
+    private void skipValue() {
+        int start = pos, depth = 0;
+
+        for (; pos < text.length(); pos++) {
+            char c = text.charAt(pos);
+            if (depth == 0 && (c == ',' || c == ']' || Character.isWhitespace(c))) break;
+
+            switch (c) {
+                case '{', '[' -> depth++;
+                case '}', ']' -> {
+                    if (--depth < 0) throw error("Unexpected '" + c + "'");
+                }
+                case '"' -> skipString();
+                default -> {
+                }
+            }
+        }
+
+        if (depth > 0) throw error("Unexpected end of input");
+        if (pos == start) throw error("Expected value");
+    }
+
+    /**
+     * Skips a string at the current position, leaving the position at its closing quote.
+     */
+    private void skipString() {
+        for (pos++; pos < text.length() && text.charAt(pos) != '"'; pos++)
+            if (text.charAt(pos) == '\\') pos++;
+
+        if (pos >= text.length()) throw error("Unterminated string");
+    }
+
+    /**
+     * Reads an object at the current position.
+     *
+     * @return the parsed object.
+     */
+    private Map<String, Object> readObject() {
+        Map<String, Object> object = new LinkedHashMap<>();
+        pos++;
+
+        skipWhitespace();
+        if (peek() == '}') {
+            pos++;
+            return object;
+        }
+
+        do {
+            skipWhitespace();
+            if (peek() != '"') throw error("Expected key");
+            String key = readString();
+
+            skipWhitespace();
+            expect(':');
+            object.put(key, readValue());
+            skipWhitespace();
+        } while (consume(','));
+
+        expect('}');
+        return object;
+    }
+
+    /**
+     * Reads an array at the current position.
+     *
+     * @return the parsed array.
+     */
+    private List<Object> readArray() {
+        List<Object> array = new ArrayList<>();
+        pos++;
+
+        skipWhitespace();
+        if (peek() == ']') {
+            pos++;
+            return array;
+        }
+
+        do {
+            array.add(readValue());
+            skipWhitespace();
+        } while (consume(','));
+
+        expect(']');
+        return array;
+    }
+
+    /**
+     * Reads a string at the current position.
+     *
+     * @return the parsed string, without quotes and with escape sequences resolved.
+     */
+    private String readString() {
+        StringBuilder output = new StringBuilder();
+        pos++;
+
+        while (true) {
+            if (pos >= text.length()) throw error("Unterminated string");
+            char c = text.charAt(pos++);
+
+            if (c == '"') return output.toString();
+            if (c != '\\') {
+                output.append(c);
+                continue;
+            }
+
+            if (pos >= text.length()) throw error("Unterminated string");
+            char escaped = text.charAt(pos++);
+            switch (escaped) {
+                case 'b' -> output.append('\b');
+                case 'f' -> output.append('\f');
+                case 'n' -> output.append('\n');
+                case 'r' -> output.append('\r');
+                case 't' -> output.append('\t');
+                case 'u' -> {
+                    if (pos + 4 > text.length()) throw error("Invalid unicode escape");
+                    try {
+                        output.append((char) Integer.parseInt(text.substring(pos, pos + 4), 16));
+                    } catch (NumberFormatException e) {
+                        throw error("Invalid unicode escape");
+                    }
+                    pos += 4;
+                }
+                default -> output.append(escaped);
+            }
+        }
+    }
+
+    /**
+     * Reads a number at the current position.
+     *
+     * @return the parsed number, as a {@link Long} if it has no fraction or exponent, otherwise as a {@link Double}.
+     */
+    private Number readNumber() {
+        int start = pos;
+
+        while (pos < text.length() && "+-0123456789.eE".indexOf(text.charAt(pos)) >= 0) pos++;
+
+        String number = text.substring(start, pos);
+        try {
+            if (number.matches("-?\\d+")) return Long.parseLong(number);
+            return Double.parseDouble(number);
+        } catch (NumberFormatException e) {
+            pos = start;
+            throw error("Invalid value");
+        }
+    }
+
+    /**
+     * Reads a literal (true, false or null) at the current position.
+     *
+     * @param literal the expected literal.
+     * @param value   the value it represents.
+     * @return the value.
+     */
+    private Object readLiteral(String literal, Object value) {
+        if (!text.startsWith(literal, pos)) throw error("Invalid value");
+
+        pos += literal.length();
+        return value;
+    }
+
+    /**
+     * Skips all whitespace at the current position.
+     */
+    private void skipWhitespace() {
+        while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) pos++;
+    }
+
+    /**
+     * Returns the character at the current position without consuming it.
+     *
+     * @return the current character, or 0 at the end of the input.
+     */
+    private char peek() {
+        return pos < text.length() ? text.charAt(pos) : 0;
+    }
+
+    /**
+     * Consumes the given character, if it is at the current position.
+     *
+     * @param c the character.
+     * @return true, if the character was consumed.
+     */
+    private boolean consume(char c) {
+        if (peek() != c) return false;
+
+        pos++;
+        return true;
+    }
+
+    /**
+     * Consumes the given character.
+     *
+     * @param c the character.
+     * @throws IllegalArgumentException if the character is not at the current position.
+     */
+    private void expect(char c) {
+        if (!consume(c)) throw error("Expected '" + c + "'");
+    }
+
+    /**
+     * Creates an exception describing a syntax error at the current position.
+     *
+     * @param message the description of the error.
+     * @return the exception.
+     */
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at position " + pos + ".");
+    }
+}
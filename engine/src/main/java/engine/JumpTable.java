@@ -0,0 +1,186 @@
+package engine;
+
+import java.util.Map;
+
+/**
+ * The JumpTable class. Stores, for every cell and direction, the next cell a laser would not simply pass through.
+ * <p>
+ * Lasers pass through all tiles without collision (such as floor, open tunnels and retracted switches) in a straight line.
+ * Using this table, a laser can skip such a run in a single step instead of walking it tile by tile,
+ * so tracing scales with the amount of deflections rather than the length of the path.
+ * <p>
+ * The table covers the bounding box of the tiles. Whenever the collision of a tile changes, {@link #update(Pair, boolean)}
+ * only recalculates the cells in the same row and column which lead up to it.
+ */
+final class JumpTable {
+    /**
+     * The amount of cells the bounding box may contain per tile. Sparser boards are not worth a table.
+     */
+    private static final int MAX_CELLS_PER_TILE = 4;
+
+    /**
+     * The top left corner of the bounding box.
+     */
+    private final int minX, minY;
+    /**
+     * The size of the bounding box.
+     */
+    private final int width, height;
+    /**
+     * True, if the cell (indexed row by row) contains a tile which lasers pass through.
+     */
+    private final boolean[] passable;
+    /**
+     * For every direction (0 = north, 1 = east, ...) and cell, the coordinate along that direction of the next cell which is not passable.
+     * <p>
+     * For north and south this is a y-coordinate, for east and west an x-coordinate. It may lie outside the bounding box.
+     */
+    private final int[][] next;
+
+    /**
+     * Instantiates a new table with the given bounding box. All cells are initially passable, but no jumps are calculated.
+     *
+     * @param minX   the smallest x-coordinate.
+     * @param minY   the smallest y-coordinate.
+     * @param width  the width of the bounding box.
+     * @param height the height of the bounding box.
+     */
+    private JumpTable(int minX, int minY, int width, int height) {
+        this.minX = minX;
+        this.minY = minY;
+        this.width = width;
+        this.height = height;
+        this.passable = new boolean[width * height];
+        this.next = new int[4][width * height];
+    }
+
+    /**
+     * Copy constructor.
+     *
+     * @param other the table to copy.
+     */
+    private JumpTable(JumpTable other) {
+        this(other.minX, other.minY, other.width, other.height);
+        System.arraycopy(other.passable, 0, passable, 0, passable.length);
+
+        for (int d = 0; d < 4; d++)
+            System.arraycopy(other.next[d], 0, next[d], 0, next[d].length);
+    }
+
+    /**
+     * Builds the table for the given tiles.
+     *
+     * @param tiles the tiles in their current state.
+     * @return the table, or null if the tiles are too sparse (or too many) for a table to be worthwhile.
+     */
+    static JumpTable of(Map<Pair<Integer, Integer>, Tile> tiles) {
+        if (tiles.isEmpty()) return null;
+
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
+        for (Pair<Integer, Integer> pos : tiles.keySet()) {
+            minX = Math.min(minX, pos.x());
+            minY = Math.min(minY, pos.y());
+            maxX = Math.max(maxX, pos.x());
+            maxY = Math.max(maxY, pos.y());
+        }
+
+        long cells = ((long) maxX - minX + 1) * ((long) maxY - minY + 1);
+        if (cells > (long) tiles.size() * MAX_CELLS_PER_TILE || cells > Integer.MAX_VALUE / 4) return null;
+
+        JumpTable table = new JumpTable(minX, minY, maxX - minX + 1, maxY - minY + 1);
+        tiles.forEach((pos, tile) -> table.passable[table.index(pos.x(), pos.y())] = !tile.hasCollision());
+
+        for (int y = minY; y <= maxY; y++) {
+            table.next[1][table.index(maxX, y)] = maxX + 1;
+            for (int x = maxX - 1; x >= minX; x--) table.next[1][table.index(x, y)] = table.stopAt(x + 1, y, 1);
+
+            table.next[3][table.index(minX, y)] = minX - 1;
+            for (int x = minX + 1; x <= maxX; x++) table.next[3][table.index(x, y)] = table.stopAt(x - 1, y, 3);
+        }
+
+        for (int x = minX; x <= maxX; x++) {
+            table.next[2][table.index(x, maxY)] = maxY + 1;
+            for (int y = maxY - 1; y >= minY; y--) table.next[2][table.index(x, y)] = table.stopAt(x, y + 1, 2);
+
+            table.next[0][table.index(x, minY)] = minY - 1;
+            for (int y = minY + 1; y <= maxY; y++) table.next[0][table.index(x, y)] = table.stopAt(x, y - 1, 0);
+        }
+
+        return table;
+    }
+
+    /**
+     * Copies the table.
+     *
+     * @return an independent copy of this table.
+     */
+    JumpTable copy() {
+        return new JumpTable(this);
+    }
+
+    /**
+     * Returns the next cell, seen from the given position, which a laser travelling in the given direction would not pass through.
+     *
+     * @param pos      the current position. Must lie within the bounding box.
+     * @param rotation the direction the laser is travelling in.
+     * @return the next position which either does not contain a tile, or contains a tile with collision.
+     */
+    Pair<Integer, Integer> jump(Pair<Integer, Integer> pos, int rotation) {
+        int stop = next[rotation][index(pos.x(), pos.y())];
+
+        return rotation % 2 == 0 ? Pair.of(pos.x(), stop) : Pair.of(stop, pos.y());
+    }
+
+    /**
+     * Updates the table after the collision of a tile has (possibly) changed.
+     * <p>
+     * Only the cells leading up to the given position in its row and column are recalculated,
+     * up to the first cell which is not passable itself.
+     *
+     * @param pos      the position of the tile.
+     * @param passable true, if lasers now pass through the tile.
+     */
+    void update(Pair<Integer, Integer> pos, boolean passable) {
+        int x = pos.x(), y = pos.y();
+
+        if (this.passable[index(x, y)] == passable) return;
+        this.passable[index(x, y)] = passable;
+
+        for (int i = x - 1; i >= minX && (i == x - 1 || this.passable[index(i + 1, y)]); i--)
+            next[1][index(i, y)] = stopAt(x, y, 1);
+
+        for (int i = x + 1; i < minX + width && (i == x + 1 || this.passable[index(i - 1, y)]); i++)
+            next[3][index(i, y)] = stopAt(x, y, 3);
+
+        for (int i = y - 1; i >= minY && (i == y - 1 || this.passable[index(x, i + 1)]); i--)
+            next[2][index(x, i)] = stopAt(x, y, 2);
+
+        for (int i = y + 1; i < minY + height && (i == y + 1 || this.passable[index(x, i - 1)]); i++)
+            next[0][index(x, i)] = stopAt(x, y, 0);
+    }
+
+    /**
+     * Determines where a laser entering the given cell in the given direction would stop.
+     *
+     * @param x        the x-position of the cell, within the bounding box.
+     * @param y        the y-position of the cell, within the bounding box.
+     * @param rotation the direction the laser is travelling in.
+     * @return the cell itself if it is not passable, or its own next stop otherwise (as a coordinate along the direction).
+     */
+    private int stopAt(int x, int y, int rotation) {
+        if (passable[index(x, y)]) return next[rotation][index(x, y)];
+
+        return rotation % 2 == 0 ? y : x;
+    }
+
+    /**
+     * Converts a position into its index within the arrays.
+     *
+     * @param x the x-position.
+     * @param y the y-position.
+     * @return the index of the cell.
+     */
+    private int index(int x, int y) {
+        return (y - minY) * width + (x - minX);
+    }
+}
@@ -0,0 +1,211 @@
+package engine;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+import static engine.Tile.Type.*;
+
+/**
+ * The Laser record. Stores information about lasers (such as their position and colour).
+ */
+public record Laser(Color color, List<Pair<Integer, Integer>> points, boolean isComplete) {
+
+    /**
+     * The amount of laser sources from which on they are traced in parallel.
+     */
+    static final int PARALLEL_SOURCES = 64;
+
+    /**
+     * The amount of tiles from which on laser sources are traced in parallel, as long as there are at least two of them.
+     */
+    static final int PARALLEL_TILES = 250_000;
+
+    /**
+     * Determines and creates all lasers of a given tile map.
+     *
+     * @param tiles tile map used to search for and initialize lasers.
+     * @return Set of all lasers.
+     */
+    public static Set<Laser> getLasers(Map<Pair<Integer, Integer>, Tile> tiles) {
+        return getLasers(tiles, tiles.entrySet().stream()
+                .filter(tile -> tile.getValue().getType().isLaserSource())
+                .map(Map.Entry::getKey)
+                .toList(), null);
+    }
+
+    /**
+     * Determines and creates the lasers of the given sources, skipping tiles without collision using a {@link JumpTable}.
+     *
+     * @param tiles   tile map used to initialize lasers.
+     * @param sources positions of all laser sources within the tile map.
+     * @param jumps   jump table matching the current state of the tile map. May be null to walk tile by tile.
+     * @return Set of all lasers, iterating in the order of their sources.
+     * @see #trace(Map, List, JumpTable)
+     */
+    static Set<Laser> getLasers(Map<Pair<Integer, Integer>, Tile> tiles, List<Pair<Integer, Integer>> sources, JumpTable jumps) {
+        return getLasers(tiles, sources, jumps, null);
+    }
+
+    /**
+     * Determines and creates the lasers of the given sources, adding the steps taken by the tracer to a counter.
+     *
+     * @param tiles   tile map used to initialize lasers.
+     * @param sources positions of all laser sources within the tile map.
+     * @param jumps   jump table matching the current state of the tile map. May be null to walk tile by tile.
+     * @param steps   counter the steps of all traces are added to. May be null.
+     * @return Set of all lasers, iterating in the order of their sources.
+     * @see #trace(Map, List, JumpTable, LongAdder)
+     */
+    static Set<Laser> getLasers(Map<Pair<Integer, Integer>, Tile> tiles, List<Pair<Integer, Integer>> sources, JumpTable jumps,
+                                LongAdder steps) {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(trace(tiles, sources, jumps, steps))));
+    }
+
+    /**
+     * Traces the lasers of the given sources.
+     * <p>
+     * Each trace only reads the tile map, so on boards with many sources (see {@link #PARALLEL_SOURCES})
+     * or many tiles (see {@link #PARALLEL_TILES}), the sources are traced in parallel on the common {@link java.util.concurrent.ForkJoinPool}.
+     * Either way, every laser is stored at the index of its source, so the result does not depend on scheduling.
+     *
+     * @param tiles   tile map used to initialize lasers. Must not be modified while tracing.
+     * @param sources positions of all laser sources within the tile map.
+     * @param jumps   jump table matching the current state of the tile map. May be null to walk tile by tile.
+     * @return the lasers, in the same order as their sources.
+     */
+    static Laser[] trace(Map<Pair<Integer, Integer>, Tile> tiles, List<Pair<Integer, Integer>> sources, JumpTable jumps) {
+        return trace(tiles, sources, jumps, null);
+    }
+
+    /**
+     * Traces the lasers of the given sources, adding the steps taken by the tracer to a counter.
+     * <p>
+     * The counter may be added to from several threads, if the sources are traced in parallel.
+     *
+     * @param tiles   tile map used to initialize lasers. Must not be modified while tracing.
+     * @param sources positions of all laser sources within the tile map.
+     * @param jumps   jump table matching the current state of the tile map. May be null to walk tile by tile.
+     * @param steps   counter the steps of all traces are added to. May be null.
+     * @return the lasers, in the same order as their sources.
+     * @see #trace(Map, List, JumpTable)
+     */
+    static Laser[] trace(Map<Pair<Integer, Integer>, Tile> tiles, List<Pair<Integer, Integer>> sources, JumpTable jumps,
+                         LongAdder steps) {
+        Laser[] lasers = new Laser[sources.size()];
+        IntStream indices = IntStream.range(0, lasers.length);
+
+        if (lasers.length > 1 && (lasers.length >= PARALLEL_SOURCES || tiles.size() >= PARALLEL_TILES))
+            indices = indices.parallel();
+
+        indices.forEach(i -> lasers[i] = determinePath(sources.get(i), tiles.get(sources.get(i)).getState(), tiles, jumps, steps));
+
+        return lasers;
+    }
+
+    /**
+     * Creates a Laser instance using a given starting position and rotation as well as the tile map the Laser is navigating through.
+     *
+     * @param pos      starting position.
+     * @param rotation starting rotation (0 = north, 1 = east, ...)
+     * @param tiles    the tile map.
+     * @param jumps    the jump table, may be null.
+     * @param steps    the counter of tracer steps, may be null.
+     * @return instance of Laser generated using the given parameters.
+     */
+    private static Laser determinePath(Pair<Integer, Integer> pos, int rotation, Map<Pair<Integer, Integer>, Tile> tiles,
+                                       JumpTable jumps, LongAdder steps) {
+        if (tiles.get(pos) == null || !tiles.get(pos).getType().isLaserSource())
+            throw new IllegalArgumentException("Laser source does not exist!");
+
+        Color color = Map.of(LASER_RED, Color.RED, LASER_BLUE, Color.BLUE, LASER_GREEN, Color.GREEN)
+                .get(tiles.get(pos).getType());
+
+        List<Pair<Integer, Integer>> points = new ArrayList<>(List.of(pos));
+
+        if (tiles.get(pos).getLaserStep(pos, rotation) != null)
+            pos = pathFinder(pos, rotation, tiles, jumps, points, steps);
+
+        boolean isComplete = tiles.get(pos) != null && tiles.get(pos).getType().equals(STONE_TARGET);
+
+        return new Laser(color, points, isComplete);
+    }
+
+    /**
+     * The pathfinder method will set up the points list of the laser by walking through the tiles and rotating / stopping as needed.
+     * <p>
+     * If a jump table is given, runs of tiles without collision are skipped in a single step, as the laser passes straight through them.
+     * The steps are counted by the {@link EngineMetrics} and, if given, the step counter.
+     *
+     * @param pos      the starting position of the Laser.
+     * @param rotation the initial direction the laser is facing.
+     * @param tiles    the tile map.
+     * @param jumps    the jump table, may be null.
+     * @param points   the points list. This list will be appended to during the method execution.
+     * @param counter  the counter of tracer steps, may be null.
+     * @return the position the laser stopped at.
+     */
+    private static Pair<Integer, Integer> pathFinder(Pair<Integer, Integer> pos, int rotation,
+                                                     Map<Pair<Integer, Integer>, Tile> tiles, JumpTable jumps,
+                                                     List<Pair<Integer, Integer>> points, LongAdder counter) {
+
+        Pair<Integer, Integer> newPos;
+        Tile tile;
+        long steps = 0;
+
+        while ((tile = tiles.get(pos)) != null) {
+            steps++;
+
+            if (jumps != null && !tile.hasCollision()) {
+                pos = jumps.jump(pos, rotation);
+                continue;
+            }
+
+            if ((newPos = tile.getLaserStep(pos, rotation)) == null) break;
+
+            if (getRotation(pos, newPos) != rotation) {
+                rotation = getRotation(pos, newPos);
+                points.add(pos);
+            }
+            pos = newPos;
+        }
+
+        points.add(pos);
+        EngineMetrics.get().traced(steps);
+        if (counter != null) counter.add(steps);
+        return pos;
+    }
+
+    /**
+     * Gets the rotation of a laser going from start to stop.
+     * <p>
+     * Start and stop must be neighbors.
+     *
+     * @param start the start position
+     * @param stop  the stop position
+     * @return the value encoding the calculated direction
+     */
+    static int getRotation(Pair<Integer, Integer> start, Pair<Integer, Integer> stop) {
+        Pair<Integer, Integer> step = Pair.of(stop.x() - start.x(), stop.y() - start.y());
+
+        return List.of(Pair.of(0, -1), Pair.of(1, 0), Pair.of(0, 1), Pair.of(-1, 0)).indexOf(step);
+    }
+
+    /**
+     * Enum for the various colors a laser can have.
+     */
+    public enum Color {
+        /**
+         * The color red!
+         */
+        RED,
+        /**
+         * The color blue!
+         */
+        BLUE,
+        /**
+         * You guessed it, the color green!
+         */
+        GREEN
+    }
+}
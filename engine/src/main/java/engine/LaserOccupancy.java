@@ -0,0 +1,209 @@
+package engine;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The LaserOccupancy class. Stores, for every cell, which colours of lasers pass it and in which directions.
+ * <p>
+ * Lasers are only stored as their corner points, so finding the lasers passing a cell would mean walking every segment
+ * of every laser. This index walks them once and packs the result for each cell into a single byte:
+ * one bit per {@link Laser.Color} (see {@link #colorBit(Laser.Color)}) and one bit per direction of travel
+ * (see {@link #directionBit(int)}). Queries, e.g. for the cell under the mouse, then only look up that byte.
+ * <p>
+ * The index covers the bounding box of all laser points and is never modified once built.
+ */
+public final class LaserOccupancy {
+    /**
+     * The amount of colour bits, which precede the direction bits.
+     */
+    private static final int COLOR_BITS = Laser.Color.values().length;
+
+    /**
+     * An index without any lasers.
+     */
+    private static final LaserOccupancy EMPTY = new LaserOccupancy(Set.of(), 0, 0, 0, 0);
+
+    /**
+     * The lasers this index was built from.
+     */
+    private final Set<Laser> lasers;
+
+    /**
+     * The top left corner of the bounding box.
+     */
+    private final int minX, minY;
+
+    /**
+     * The size of the bounding box.
+     */
+    private final int width, height;
+
+    /**
+     * The colour and direction bits of every cell, indexed row by row.
+     */
+    private final byte[] cells;
+
+    /**
+     * Instantiates a new index with the given bounding box. No cell is occupied initially.
+     *
+     * @param lasers the lasers the index is built from.
+     * @param minX   the smallest x-coordinate.
+     * @param minY   the smallest y-coordinate.
+     * @param width  the width of the bounding box.
+     * @param height the height of the bounding box.
+     */
+    private LaserOccupancy(Set<Laser> lasers, int minX, int minY, int width, int height) {
+        this.lasers = lasers;
+        this.minX = minX;
+        this.minY = minY;
+        this.width = width;
+        this.height = height;
+        this.cells = new byte[width * height];
+    }
+
+    /**
+     * Builds the index for the given lasers.
+     * <p>
+     * Every cell of a segment, including both of its ends, is marked with the colour of the laser and the direction of the segment.
+     * Cells the laser turns at are therefore marked with both the direction it enters and the one it leaves in.
+     *
+     * @param lasers the lasers, e.g. as settled by the engine.
+     * @return the index.
+     */
+    public static LaserOccupancy of(Set<Laser> lasers) {
+        if (lasers.isEmpty()) return EMPTY;
+
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
+        for (Laser laser : lasers)
+            for (Pair<Integer, Integer> point : laser.points()) {
+                minX = Math.min(minX, point.x());
+                minY = Math.min(minY, point.y());
+                maxX = Math.max(maxX, point.x());
+                maxY = Math.max(maxY, point.y());
+            }
+
+        LaserOccupancy occupancy = new LaserOccupancy(lasers, minX, minY, maxX - minX + 1, maxY - minY + 1);
+        lasers.forEach(occupancy::mark);
+
+        return occupancy;
+    }
+
+    /**
+     * Marks all cells covered by a laser.
+     *
+     * @param laser the laser.
+     */
+    private void mark(Laser laser) {
+        List<Pair<Integer, Integer>> points = laser.points();
+        int color = colorBit(laser.color());
+
+        Pair<Integer, Integer> first = points.get(0);
+        cells[index(first.x(), first.y())] |= color;
+
+        for (int i = 1; i < points.size(); i++) {
+            Pair<Integer, Integer> from = points.get(i - 1), to = points.get(i);
+            int dX = Integer.signum(to.x() - from.x()), dY = Integer.signum(to.y() - from.y());
+            if (dX == 0 && dY == 0) continue;
+
+            int bits = color | directionBit(Laser.getRotation(from, Pair.of(from.x() + dX, from.y() + dY)));
+
+            for (int x = from.x(), y = from.y(); ; x += dX, y += dY) {
+                cells[index(x, y)] |= bits;
+                if (x == to.x() && y == to.y()) break;
+            }
+        }
+    }
+
+    /**
+     * Calculates the index of a cell within the bounding box.
+     *
+     * @param x the x-coordinate.
+     * @param y the y-coordinate.
+     * @return the index, or -1 if the cell lies outside the bounding box.
+     */
+    private int index(int x, int y) {
+        if (x < minX || y < minY || x >= minX + width || y >= minY + height) return -1;
+        return (y - minY) * width + (x - minX);
+    }
+
+    /**
+     * Getter for the packed bits of a cell.
+     *
+     * @param pos the position of the cell.
+     * @return the colour bits and direction bits of all lasers passing the cell, or 0 if no laser passes it.
+     * @see #colorBit(Laser.Color)
+     * @see #directionBit(int)
+     */
+    public byte getBits(Pair<Integer, Integer> pos) {
+        int index = index(pos.x(), pos.y());
+        return index < 0 ? 0 : cells[index];
+    }
+
+    /**
+     * Determines if any laser passes a cell.
+     *
+     * @param pos the position of the cell.
+     * @return true, if at least one laser passes, starts or ends at the cell.
+     */
+    public boolean isOccupied(Pair<Integer, Integer> pos) {
+        return getBits(pos) != 0;
+    }
+
+    /**
+     * Getter for the colours of the lasers passing a cell.
+     *
+     * @param pos the position of the cell.
+     * @return the colours, empty if no laser passes the cell.
+     */
+    public Set<Laser.Color> getColors(Pair<Integer, Integer> pos) {
+        byte bits = getBits(pos);
+        Set<Laser.Color> colors = EnumSet.noneOf(Laser.Color.class);
+
+        for (Laser.Color color : Laser.Color.values())
+            if ((bits & colorBit(color)) != 0) colors.add(color);
+
+        return colors;
+    }
+
+    /**
+     * Determines if a laser passes a cell in a given direction.
+     *
+     * @param pos      the position of the cell.
+     * @param rotation the direction of travel (0 = north, 1 = east, ...).
+     * @return true, if a laser enters or leaves the cell travelling in this direction.
+     */
+    public boolean hasDirection(Pair<Integer, Integer> pos, int rotation) {
+        return (getBits(pos) & directionBit(rotation)) != 0;
+    }
+
+    /**
+     * Getter for the lasers this index was built from.
+     *
+     * @return the lasers.
+     */
+    public Set<Laser> getLasers() {
+        return lasers;
+    }
+
+    /**
+     * Getter for the bit marking a colour. The colour bits are the lowest three bits.
+     *
+     * @param color the colour.
+     * @return the bit.
+     */
+    public static int colorBit(Laser.Color color) {
+        return 1 << color.ordinal();
+    }
+
+    /**
+     * Getter for the bit marking a direction of travel. The direction bits follow the colour bits.
+     *
+     * @param rotation the direction (0 = north, 1 = east, ...).
+     * @return the bit.
+     */
+    public static int directionBit(int rotation) {
+        return 1 << (COLOR_BITS + rotation);
+    }
+}
@@ -0,0 +1,58 @@
+package engine;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * The Level record. Stores information about Levels which it can retrieve using the {@link #initialize(LevelSource)}-Method.
+ * <p>
+ * Levels can also be converted back into their raw data using the {@link #toData()}-Method.
+ */
+record Level(Map<Pair<Integer, Integer>, Tile> tiles,
+             String description, int minMoves) {
+
+    /**
+     * Reads all levels from the given {@link LevelSource} and returns them in an array.
+     *
+     * @param source {@link LevelSource} supplying the levels.
+     * @return Array of all levels in their initial state.
+     * @throws IllegalArgumentException if a level contains an unknown tile type.
+     */
+    public static Level[] initialize(LevelSource source) {
+        return IntStream.range(0, source.size()).mapToObj(i -> of(source.getLevel(i))).toArray(Level[]::new);
+    }
+
+    /**
+     * Creates a level from its raw data.
+     *
+     * @param data the raw data of the level.
+     * @return the level in its initial state.
+     * @throws IllegalArgumentException if the level contains an unknown tile type.
+     */
+    static Level of(LevelData data) {
+        Map<Pair<Integer, Integer>, Tile> tiles = new HashMap<>();
+
+        for (LevelData.TileData tile : data.tiles())
+            tiles.put(Pair.of(tile.x(), tile.y()), Tile.of(Tile.Type.valueOf(tile.type()), tile.state()));
+
+        return new Level(tiles, data.description(), data.minMoves());
+    }
+
+    /**
+     * Converts the level into its raw data, as stored in a level pack.
+     * <p>
+     * Tiles are written row by row, so the same level always results in the same output.
+     *
+     * @return {@link LevelData} storing this level in its current state.
+     */
+    LevelData toData() {
+        return new LevelData(description, minMoves, tiles.entrySet().stream()
+                .sorted(Comparator.comparing((Map.Entry<Pair<Integer, Integer>, Tile> e) -> e.getKey().y())
+                        .thenComparing(e -> e.getKey().x()))
+                .map(e -> new LevelData.TileData(e.getKey().x(), e.getKey().y(),
+                        e.getValue().getState(), e.getValue().getType().toString()))
+                .toList());
+    }
+}
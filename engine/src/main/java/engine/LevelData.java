@@ -0,0 +1,26 @@
+package engine;
+
+import java.util.List;
+
+/**
+ * The LevelData record. Stores the raw data of a level, exactly as it is described in a level pack.
+ * <p>
+ * Unlike {@link Level}, the tile types are not yet validated, so this record can represent any input.
+ *
+ * @param description the description (name) of the level.
+ * @param minMoves    the optimal amount of moves needed to complete the level.
+ * @param tiles       the tiles of the level.
+ */
+public record LevelData(String description, int minMoves, List<TileData> tiles) {
+
+    /**
+     * The TileData record. Stores the raw data of a single tile.
+     *
+     * @param x     the x-position of the tile.
+     * @param y     the y-position of the tile.
+     * @param state the initial state of the tile (usually rotation, refer to the {@link Tile.Type} enum for more information).
+     * @param type  the name of the {@link Tile.Type}.
+     */
+    public record TileData(int x, int y, int state, String type) {
+    }
+}
@@ -0,0 +1,287 @@
+package engine;
+
+import java.util.*;
+
+/**
+ * The LevelEditor class. Places, rotates and removes the tiles of a level and keeps a live preview of its lasers.
+ * <p>
+ * Every cell crossed by a laser is indexed with the source of that laser. An edit therefore only retraces the lasers
+ * crossing the edited cell (or starting there), so the preview stays cheap no matter the size of the board.
+ * <p>
+ * Laser switches are the exception: while a completed laser opens or closes switches of its colour, lasers affect each other,
+ * so every edit settles the whole board just like the game would (see {@link Board#settle()}).
+ * <p>
+ * Tiles are always edited in their initial state. The edited level can be converted back into its raw data with {@link #toData()}.
+ */
+public final class LevelEditor {
+    /**
+     * The tiles of the level in their initial state.
+     */
+    private final Map<Pair<Integer, Integer>, Tile> tiles;
+
+    /**
+     * The description of the level.
+     */
+    private final String description;
+
+    /**
+     * The min moves of the level, as they were before editing.
+     */
+    private final int minMoves;
+
+    /**
+     * The current laser of every source, in the order the sources were found or placed.
+     */
+    private final Map<Pair<Integer, Integer>, Laser> lasers = new LinkedHashMap<>();
+
+    /**
+     * The sources of all lasers crossing (or ending at) a cell, by cell.
+     */
+    private final Map<Pair<Integer, Integer>, Set<Pair<Integer, Integer>>> crossings = new HashMap<>();
+
+    /**
+     * The amount of laser switches of every colour, used to detect when lasers may affect each other.
+     */
+    private final Map<Tile.Type, Integer> laserSwitches = new EnumMap<>(Tile.Type.class);
+
+    /**
+     * Whether the last time the board was settled as a whole, it ended up with laser switches out of their initial state.
+     * Lasers may then be blocked or let through by switches even though no laser is complete anymore.
+     */
+    private boolean switched;
+
+    /**
+     * The amount of lasers traced by the last edit.
+     */
+    private int retraced;
+
+    /**
+     * Instantiates a new editor and traces all lasers of the level.
+     *
+     * @param level the raw data of the level to edit.
+     * @throws IllegalArgumentException if the level contains an unknown tile type.
+     */
+    public LevelEditor(LevelData level) {
+        Level parsed = Level.of(level);
+        tiles = parsed.tiles();
+        description = parsed.description();
+        minMoves = parsed.minMoves();
+
+        tiles.values().stream()
+                .filter(t -> t.getType().isLaserSwitch())
+                .forEach(t -> laserSwitches.merge(t.getType(), 1, Integer::sum));
+
+        retrace(tiles.entrySet().stream()
+                .filter(e -> e.getValue().getType().isLaserSource())
+                .map(Map.Entry::getKey)
+                .sorted(Comparator.comparing((Pair<Integer, Integer> p) -> p.y()).thenComparing(Pair::x))
+                .toList());
+        if (isSwitching()) settle();
+    }
+
+    /**
+     * Places a tile in its initial state, replacing the tile at its position if there is one.
+     *
+     * @param pos  the position.
+     * @param type the type of the new tile.
+     */
+    public void place(Pair<Integer, Integer> pos, Tile.Type type) {
+        edit(pos, Tile.of(type, 0));
+    }
+
+    /**
+     * Rotates a tile to its next or previous state.
+     *
+     * @param pos    the position of the tile.
+     * @param button {@link Button#LEFT} to rotate backwards, any other button to rotate forwards.
+     * @throws IllegalArgumentException if there is no tile at the given position.
+     */
+    public void rotate(Pair<Integer, Integer> pos, Button button) {
+        Tile tile = tiles.get(pos);
+        if (tile == null)
+            throw new IllegalArgumentException("This position does not contain a tile.");
+
+        int count = tile.getType().getStateCount();
+        edit(pos, Tile.of(tile.getType(), (tile.getState() + (button == Button.LEFT ? count - 1 : 1)) % count));
+    }
+
+    /**
+     * Removes the tile at a position, if there is one.
+     *
+     * @param pos the position.
+     */
+    public void remove(Pair<Integer, Integer> pos) {
+        if (tiles.containsKey(pos)) edit(pos, null);
+    }
+
+    /**
+     * Replaces a tile and updates the lasers.
+     *
+     * @param pos  the position.
+     * @param tile the new tile, or null to remove the tile.
+     */
+    private void edit(Pair<Integer, Integer> pos, Tile tile) {
+        Tile previous = tile == null ? tiles.remove(pos) : tiles.put(pos, tile);
+        boolean settled = switched || isSwitching();
+
+        if (previous != null && previous.getType().isLaserSwitch())
+            laserSwitches.merge(previous.getType(), -1, Integer::sum);
+        if (tile != null && tile.getType().isLaserSwitch())
+            laserSwitches.merge(tile.getType(), 1, Integer::sum);
+
+        if (previous != null && previous.getType().isLaserSource()) forget(pos);
+
+        if (settled) {
+            settle();
+            return;
+        }
+
+        Set<Pair<Integer, Integer>> affected = new LinkedHashSet<>(crossings.getOrDefault(pos, Set.of()));
+        if (tile != null && tile.getType().isLaserSource()) affected.add(pos);
+
+        retrace(List.copyOf(affected));
+        if (isSwitching()) settle();
+    }
+
+    /**
+     * Retraces the lasers of some sources on the tiles in their initial state and replaces them within the index.
+     *
+     * @param sources the positions of the sources.
+     */
+    private void retrace(List<Pair<Integer, Integer>> sources) {
+        Laser[] traced = Laser.trace(tiles, sources, null);
+
+        for (int i = 0; i < traced.length; i++) {
+            forget(sources.get(i));
+            index(sources.get(i), traced[i]);
+        }
+
+        retraced = traced.length;
+    }
+
+    /**
+     * Settles a copy of the board from scratch, activating laser switches like the game would, and rebuilds the index.
+     */
+    private void settle() {
+        Map<Pair<Integer, Integer>, Tile> copy = new HashMap<>();
+        tiles.forEach((pos, tile) -> copy.put(pos, tile.clone()));
+
+        Board board = new Board(copy);
+        board.settle();
+
+        lasers.clear();
+        crossings.clear();
+
+        board.getLasers().forEach(laser -> index(laser.points().get(0), laser));
+
+        switched = tiles.entrySet().stream()
+                .anyMatch(e -> e.getValue().getType().isLaserSwitch() && board.getTile(e.getKey()).getState() != e.getValue().getState());
+        retraced = lasers.size();
+    }
+
+    /**
+     * Adds the laser of a source to the index.
+     *
+     * @param source the position of the source.
+     * @param laser  the laser.
+     */
+    private void index(Pair<Integer, Integer> source, Laser laser) {
+        lasers.put(source, laser);
+        cellsOf(laser).forEach(cell -> crossings.computeIfAbsent(cell, c -> new HashSet<>()).add(source));
+    }
+
+    /**
+     * Removes the laser of a source from the index.
+     *
+     * @param source the position of the source.
+     */
+    private void forget(Pair<Integer, Integer> source) {
+        Laser laser = lasers.remove(source);
+        if (laser == null) return;
+
+        for (Pair<Integer, Integer> cell : cellsOf(laser))
+            crossings.computeIfPresent(cell, (c, sources) -> sources.remove(source) && sources.isEmpty() ? null : sources);
+    }
+
+    /**
+     * Checks if lasers currently affect each other, i.e. a completed laser has switches of its colour to activate.
+     *
+     * @return true, if the lasers have to be settled as a whole.
+     */
+    private boolean isSwitching() {
+        return lasers.values().stream()
+                .anyMatch(l -> l.isComplete() && laserSwitches.getOrDefault(Tile.Type.getSwitchByColor(l.color()), 0) > 0);
+    }
+
+    /**
+     * Lists all cells covered by a laser, from its source to the cell it ended at.
+     *
+     * @param laser the laser.
+     * @return the cells, in the order the laser passes them. Cells passed twice are listed twice.
+     */
+    private static List<Pair<Integer, Integer>> cellsOf(Laser laser) {
+        List<Pair<Integer, Integer>> points = laser.points();
+        List<Pair<Integer, Integer>> cells = new ArrayList<>(List.of(points.get(0)));
+
+        for (int i = 1; i < points.size(); i++) {
+            Pair<Integer, Integer> from = points.get(i - 1), to = points.get(i);
+            int dX = Integer.signum(to.x() - from.x()), dY = Integer.signum(to.y() - from.y());
+
+            for (Pair<Integer, Integer> cell = from; !cell.equals(to); ) {
+                cell = Pair.of(cell.x() + dX, cell.y() + dY);
+                cells.add(cell);
+            }
+        }
+
+        return cells;
+    }
+
+    /**
+     * Getter for the lasers.
+     *
+     * @return the lasers of the edited level, as they would be when it is loaded.
+     */
+    public Set<Laser> getLasers() {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(lasers.values()));
+    }
+
+    /**
+     * Getter for a copy of the tile map.
+     *
+     * @return a copy of all tiles, in their initial state.
+     */
+    public Map<Pair<Integer, Integer>, Tile> getCopyOfTiles() {
+        Map<Pair<Integer, Integer>, Tile> output = new HashMap<>();
+        tiles.forEach((key, value) -> output.put(key, value.clone()));
+        return output;
+    }
+
+    /**
+     * Getter for a copy of a single tile.
+     *
+     * @param pos the position of the tile.
+     * @return a copy of the tile, or null if there is none.
+     */
+    public Tile getCopyOfTile(Pair<Integer, Integer> pos) {
+        Tile tile = tiles.get(pos);
+        return tile == null ? null : tile.clone();
+    }
+
+    /**
+     * Getter for the amount of lasers traced by the last edit.
+     *
+     * @return the amount of lasers, which is the amount of all lasers if the board had to be settled as a whole.
+     */
+    int getRetraced() {
+        return retraced;
+    }
+
+    /**
+     * Converts the edited level into its raw data, as stored in a level pack. The min moves are kept as they were before editing.
+     *
+     * @return the raw data of the edited level.
+     */
+    public LevelData toData() {
+        return new Level(tiles, description, minMoves).toData();
+    }
+}
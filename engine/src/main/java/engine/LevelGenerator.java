@@ -0,0 +1,267 @@
+package engine;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.LongStream;
+
+import static engine.Tile.Type.*;
+
+/**
+ * The LevelGenerator class. Procedurally generates levels and verifies them using the {@link Solver}.
+ * <p>
+ * A candidate is built by walking each laser from its source to a target, placing mirrors wherever it turns.
+ * Decoys are then scattered across the remaining floor and all intractable tiles are scrambled.
+ * Candidates are verified in parallel, and only those whose optimal move count lies within the requested range are kept.
+ * <p>
+ * Generation is deterministic: the same seed and constraints always result in the same levels, no matter the amount of cores.
+ */
+public final class LevelGenerator {
+    /**
+     * The amount of states the solver may visit per candidate before the candidate is discarded.
+     */
+    private static final int MAX_STATES = 50_000;
+
+    /**
+     * The amount of candidates per accepted level after which generation is given up.
+     */
+    private static final int MAX_ATTEMPTS_PER_LEVEL = 2_000;
+
+    /**
+     * The laser sources used, in order of placement.
+     */
+    private static final List<Tile.Type> SOURCES = List.of(LASER_RED, LASER_GREEN, LASER_BLUE);
+
+    /**
+     * The tile types used to block the laser paths. A click is needed to open them.
+     */
+    private static final List<Tile.Type> BLOCKERS = List.of(SWITCH_CYAN, SWITCH_YELLOW, SWITCH_MAGENTA);
+
+    /**
+     * The tile types scattered across the board to distract from the actual solution.
+     */
+    private static final List<Tile.Type> DECOYS = List.of(MIRROR, MIRROR, STONE, STONE_BROKEN, TUNNELS_LEFT, TUNNELS_RIGHT);
+
+    /**
+     * The constraints used for generation.
+     */
+    private final Constraints constraints;
+
+    /**
+     * Instantiates a new generator.
+     *
+     * @param constraints the constraints all generated levels have to fulfil.
+     */
+    public LevelGenerator(Constraints constraints) {
+        this.constraints = Objects.requireNonNull(constraints);
+    }
+
+    /**
+     * Generates a level pack and writes it to a file.
+     * <p>
+     * Arguments (all optional, in this order): output file, level count, width, height, lasers, min moves, max moves, decoys, seed.
+     *
+     * @param args the launch arguments.
+     * @throws IOException if the output file cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        int[] values = {20, 9, 9, 2, 3, 8, 6};
+
+        for (int i = 1; i < Math.min(args.length, values.length + 1); i++)
+            values[i - 1] = Integer.parseInt(args[i]);
+
+        long seed = args.length > values.length + 1 ? Long.parseLong(args[values.length + 1]) : System.nanoTime();
+        LevelGenerator generator = new LevelGenerator(
+                new Constraints(values[1], values[2], values[3], values[4], values[5], values[6]));
+
+        long start = System.nanoTime();
+        LevelPack pack = generator.generate(values[0], seed);
+        pack.write(Path.of(args.length > 0 ? args[0] : "generated_levels.json"));
+
+        System.out.printf("Generated %d levels in %d ms (seed %d)%n", pack.size(), (System.nanoTime() - start) / 1_000_000, seed);
+    }
+
+    /**
+     * Generates verified levels in parallel.
+     * <p>
+     * Candidates are created and solved in batches across all cores of the common {@link ForkJoinPool}.
+     * Accepted levels keep the order of their seeds, so the output does not depend on scheduling.
+     *
+     * @param count the amount of levels to generate.
+     * @param seed  the seed the candidate seeds are derived from.
+     * @return the levels as a {@link LevelPack}.
+     * @throws IllegalStateException if the constraints are too strict to generate enough levels.
+     */
+    public LevelPack generate(int count, long seed) {
+        List<Level> accepted = new ArrayList<>();
+        int batch = Math.max(count, ForkJoinPool.getCommonPoolParallelism() * 4);
+
+        for (long offset = 0; accepted.size() < count; offset += batch) {
+            if (offset > (long) count * MAX_ATTEMPTS_PER_LEVEL)
+                throw new IllegalStateException("Constraints are too strict to generate enough levels.");
+
+            accepted.addAll(LongStream.range(seed + offset, seed + offset + batch).parallel()
+                    .mapToObj(this::generateCandidate)
+                    .flatMap(Optional::stream)
+                    .toList());
+        }
+
+        List<LevelData> levels = new ArrayList<>();
+        for (int i = 0; i < count; i++)
+            levels.add(new Level(accepted.get(i).tiles(), "Generated Level " + (i + 1), accepted.get(i).minMoves())
+                    .toData());
+
+        return new LevelPack(levels);
+    }
+
+    /**
+     * Builds a single candidate and verifies it.
+     *
+     * @param seed the seed of this candidate.
+     * @return the level, if it could be built and its optimal move count fulfils the {@link #constraints}.
+     */
+    Optional<Level> generateCandidate(long seed) {
+        Random random = new Random(seed);
+        Map<Pair<Integer, Integer>, Tile> tiles = new HashMap<>();
+        Set<Pair<Integer, Integer>> path = new HashSet<>();
+
+        for (int x = 0; x < constraints.width(); x++)
+            for (int y = 0; y < constraints.height(); y++)
+                tiles.put(Pair.of(x, y), Tile.of(isBorder(x, y) ? STONE : FLOOR, 0));
+
+        for (int i = 0; i < constraints.lasers(); i++)
+            if (!placeLaser(SOURCES.get(i % SOURCES.size()), tiles, path, random))
+                return Optional.empty();
+
+        List<Pair<Integer, Integer>> free = tiles.entrySet().stream()
+                .filter(e -> e.getValue().getType().equals(FLOOR) && !path.contains(e.getKey()))
+                .map(Map.Entry::getKey)
+                .sorted(Comparator.comparing(Pair<Integer, Integer>::y).thenComparing(Pair::x))
+                .toList();
+
+        for (int i = 0; i < constraints.decoys() && i < free.size(); i++)
+            tiles.put(free.get(random.nextInt(free.size())),
+                    Tile.of(DECOYS.get(random.nextInt(DECOYS.size())), random.nextInt(4)));
+
+        scramble(tiles, random);
+
+        int minMoves;
+        try {
+            minMoves = Solver.solve(tiles, MAX_STATES);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+
+        if (minMoves < constraints.minMoves() || minMoves > constraints.maxMoves())
+            return Optional.empty();
+
+        return Optional.of(new Level(tiles, "", minMoves));
+    }
+
+    /**
+     * Places a laser source on the border and walks its beam through the board until it hits the border again,
+     * where a target is placed. Mirrors are placed (in their solved rotation) wherever the beam turns.
+     * <p>
+     * The beam may cross the straight parts of other beams, but never their mirrors.
+     *
+     * @param source the laser source type.
+     * @param tiles  the tiles, modified only if the laser could be placed.
+     * @param path   the positions covered by beams so far, extended only if the laser could be placed.
+     * @param random the random instance of the candidate.
+     * @return true, if the laser could be placed.
+     */
+    private boolean placeLaser(Tile.Type source, Map<Pair<Integer, Integer>, Tile> tiles,
+                               Set<Pair<Integer, Integer>> path, Random random) {
+        int rotation = random.nextInt(4);
+        Pair<Integer, Integer> start = switch (rotation) {
+            case 0 -> Pair.of(1 + random.nextInt(constraints.width() - 2), constraints.height() - 1);
+            case 1 -> Pair.of(0, 1 + random.nextInt(constraints.height() - 2));
+            case 2 -> Pair.of(1 + random.nextInt(constraints.width() - 2), 0);
+            default -> Pair.of(constraints.width() - 1, 1 + random.nextInt(constraints.height() - 2));
+        };
+
+        if (!tiles.get(start).getType().equals(STONE)) return false;
+
+        Map<Pair<Integer, Integer>, Tile> placed = new HashMap<>(Map.of(start, Tile.of(source, rotation)));
+        List<Pair<Integer, Integer>> walked = new ArrayList<>();
+        Pair<Integer, Integer> pos = Tile.getNextPosition(start, rotation);
+
+        while (!isBorder(pos.x(), pos.y())) {
+            if (!tiles.get(pos).getType().equals(FLOOR) || walked.contains(pos)) return false;
+
+            walked.add(pos);
+
+            if (!path.contains(pos) && random.nextInt(Math.max(constraints.width(), constraints.height()) / 2) == 0) {
+                boolean turnRight = random.nextBoolean();
+                placed.put(pos, Tile.of(MIRROR, turnRight ? rotation : (rotation + 1) % 4));
+                rotation = (rotation + (turnRight ? 1 : 3)) % 4;
+            }
+
+            pos = Tile.getNextPosition(pos, rotation);
+        }
+
+        if (!tiles.get(pos).getType().equals(STONE) || placed.containsKey(pos)) return false;
+
+        placed.put(pos, Tile.of(STONE_TARGET, 0));
+
+        List<Pair<Integer, Integer>> straight = walked.stream().filter(p -> !placed.containsKey(p) && !path.contains(p)).toList();
+        if (!straight.isEmpty() && random.nextInt(3) == 0)
+            placed.put(straight.get(random.nextInt(straight.size())),
+                    Tile.of(BLOCKERS.get(random.nextInt(BLOCKERS.size())), 1));
+
+        tiles.putAll(placed);
+        path.addAll(walked);
+        return true;
+    }
+
+    /**
+     * Randomises the state of all mirrors, tunnels and clickable switches.
+     *
+     * @param tiles  the tiles to scramble.
+     * @param random the random instance of the candidate.
+     */
+    private static void scramble(Map<Pair<Integer, Integer>, Tile> tiles, Random random) {
+        tiles.entrySet().stream()
+                .filter(e -> e.getValue().getType().canInteract())
+                .sorted(Comparator.comparing((Map.Entry<Pair<Integer, Integer>, Tile> e) -> e.getKey().y())
+                        .thenComparing(e -> e.getKey().x()))
+                .forEach(e -> e.setValue(Tile.of(e.getValue().getType(),
+                        e.getValue().getType().equals(MIRROR) ? random.nextInt(4) : random.nextInt(2))));
+    }
+
+    /**
+     * Checks if a position lies on the outer border of the board.
+     *
+     * @param x the x-position.
+     * @param y the y-position.
+     * @return true, if the position is part of the outer wall.
+     */
+    private boolean isBorder(int x, int y) {
+        return x == 0 || y == 0 || x == constraints.width() - 1 || y == constraints.height() - 1;
+    }
+
+    /**
+     * The Constraints record. Stores the requirements generated levels have to fulfil.
+     *
+     * @param width    the width of the board, including the outer wall.
+     * @param height   the height of the board, including the outer wall.
+     * @param lasers   the amount of lasers.
+     * @param minMoves the least optimal move count accepted (lower bound of difficulty).
+     * @param maxMoves the highest optimal move count accepted (upper bound of difficulty).
+     * @param decoys   the amount of decoy tiles scattered across the board.
+     */
+    public record Constraints(int width, int height, int lasers, int minMoves, int maxMoves, int decoys) {
+        /**
+         * Validates the constraints.
+         *
+         * @throws IllegalArgumentException if any of the values is out of range.
+         */
+        public Constraints {
+            if (width < 4 || height < 4)
+                throw new IllegalArgumentException("Boards must be at least 4 x 4 tiles large.");
+            if (lasers < 1 || minMoves < 0 || maxMoves < minMoves || decoys < 0)
+                throw new IllegalArgumentException("Invalid laser, move or decoy constraints.");
+        }
+    }
+}
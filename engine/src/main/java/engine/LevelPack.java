@@ -0,0 +1,211 @@
+package engine;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The LevelPack record. A list of levels in memory, which can be read from and written to the levels file format.
+ * <p>
+ * The format is a JSON array of levels, each with a "description", "min_moves" and an array of "tiles",
+ * which in turn have an "x", "y", "state" and "type".
+ *
+ * @param levels the levels of this pack.
+ */
+public record LevelPack(List<LevelData> levels) implements LevelSource {
+
+    /**
+     * Validates and copies the level list.
+     *
+     * @param levels the levels of this pack.
+     */
+    public LevelPack {
+        levels = List.copyOf(levels);
+    }
+
+    /**
+     * Reads a level pack from a file.
+     *
+     * @param path the path of the file.
+     * @return the level pack.
+     * @throws IOException              if the file cannot be read.
+     * @throws IllegalArgumentException if the file is not a valid level pack.
+     */
+    public static LevelPack read(Path path) throws IOException {
+        return parse(Files.readString(path, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads a level pack from a reader.
+     *
+     * @param reader the reader. It is read completely, but not closed.
+     * @return the level pack.
+     * @throws IOException              if the reader fails.
+     * @throws IllegalArgumentException if the input is not a valid level pack.
+     */
+    public static LevelPack read(Reader reader) throws IOException {
+        StringBuilder text = new StringBuilder();
+        char[] buffer = new char[8192];
+
+        for (int n; (n = reader.read(buffer)) != -1; ) text.append(buffer, 0, n);
+
+        return parse(text.toString());
+    }
+
+    /**
+     * Parses a level pack.
+     *
+     * @param text the level pack in the levels file format.
+     * @return the level pack.
+     * @throws IllegalArgumentException if the text is not a valid level pack.
+     */
+    public static LevelPack parse(String text) {
+        if (!(Json.parse(text) instanceof List<?> array))
+            throw new IllegalArgumentException("A level pack must be a JSON array.");
+
+        return new LevelPack(array.stream().map(LevelPack::toLevelData).toList());
+    }
+
+    /**
+     * Parses a single level, e.g. an element of a level pack split by {@link Json#splitArray(String)}.
+     *
+     * @param text the level in the levels file format.
+     * @return the level data.
+     * @throws IllegalArgumentException if the text is not a valid level.
+     */
+    static LevelData parseLevel(String text) {
+        return toLevelData(Json.parse(text));
+    }
+
+    /**
+     * Converts a parsed JSON level into its level data.
+     *
+     * @param level the parsed level.
+     * @return the level data.
+     * @throws IllegalArgumentException if a field is missing or has the wrong type.
+     */
+    private static LevelData toLevelData(Object level) {
+        Map<?, ?> object = asObject(level);
+
+        if (!(object.get("tiles") instanceof List<?> tiles))
+            throw new IllegalArgumentException("Level is missing its tiles.");
+
+        return new LevelData(asString(object, "description"), asInt(object, "min_moves"), tiles.stream()
+                .map(LevelPack::asObject)
+                .map(t -> new LevelData.TileData(asInt(t, "x"), asInt(t, "y"), asInt(t, "state"), asString(t, "type")))
+                .toList());
+    }
+
+    /**
+     * Casts a parsed JSON value to an object.
+     *
+     * @param value the parsed value.
+     * @return the value as an object.
+     * @throws IllegalArgumentException if the value is not an object.
+     */
+    private static Map<?, ?> asObject(Object value) {
+        if (!(value instanceof Map<?, ?> object))
+            throw new IllegalArgumentException("Expected a JSON object, but found " + value + ".");
+
+        return object;
+    }
+
+    /**
+     * Reads an integer field of a parsed JSON object.
+     *
+     * @param object the object.
+     * @param key    the key of the field.
+     * @return the integer value.
+     * @throws IllegalArgumentException if the field is missing or not an integer.
+     */
+    private static int asInt(Map<?, ?> object, String key) {
+        if (!(object.get(key) instanceof Long value) || value != value.intValue())
+            throw new IllegalArgumentException("Field \"" + key + "\" is missing or not an integer.");
+
+        return value.intValue();
+    }
+
+    /**
+     * Reads a string field of a parsed JSON object.
+     *
+     * @param object the object.
+     * @param key    the key of the field.
+     * @return the string value.
+     * @throws IllegalArgumentException if the field is missing or not a string.
+     */
+    private static String asString(Map<?, ?> object, String key) {
+        if (!(object.get(key) instanceof String value))
+            throw new IllegalArgumentException("Field \"" + key + "\" is missing or not a string.");
+
+        return value;
+    }
+
+    /**
+     * Writes the level pack to a file, replacing it if it exists.
+     *
+     * @param path the path of the file.
+     * @throws IOException if the file cannot be written.
+     */
+    public void write(Path path) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            write(writer);
+        }
+    }
+
+    /**
+     * Writes the level pack in the levels file format, indented by two spaces per level.
+     *
+     * @param writer the writer. It is not closed.
+     * @throws IOException if the writer fails.
+     */
+    public void write(Writer writer) throws IOException {
+        writer.write("[");
+
+        for (int i = 0; i < levels.size(); i++) {
+            LevelData level = levels.get(i);
+            writer.write(i == 0 ? "\n  {\n    \"tiles\": [" : ",\n  {\n    \"tiles\": [");
+
+            for (int k = 0; k < level.tiles().size(); k++) {
+                LevelData.TileData tile = level.tiles().get(k);
+                writer.write((k == 0 ? "\n" : ",\n") + "      {\n"
+                        + "        \"x\": " + tile.x() + ",\n"
+                        + "        \"y\": " + tile.y() + ",\n"
+                        + "        \"state\": " + tile.state() + ",\n"
+                        + "        \"type\": " + Json.quote(tile.type()) + "\n"
+                        + "      }");
+            }
+
+            writer.write((level.tiles().isEmpty() ? "]" : "\n    ]") + ",\n"
+                    + "    \"description\": " + Json.quote(level.description()) + ",\n"
+                    + "    \"min_moves\": " + level.minMoves() + "\n  }");
+        }
+
+        writer.write(levels.isEmpty() ? "]\n" : "\n]\n");
+        writer.flush();
+    }
+
+    /**
+     * Getter for the amount of levels.
+     *
+     * @return the amount of levels in this pack.
+     */
+    public int size() {
+        return levels.size();
+    }
+
+    /**
+     * Getter for the data of a single level.
+     *
+     * @param index the index / ID of the level.
+     * @return the data of the level.
+     * @throws IndexOutOfBoundsException if there is no level with this index.
+     */
+    public LevelData getLevel(int index) {
+        return levels.get(index);
+    }
+}
@@ -0,0 +1,130 @@
+package engine;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * The LevelPackWatcher class. Reloads a {@link LevelRepository} whenever its level pack file is modified.
+ * <p>
+ * The directory of the file is watched on a background thread. Editors often write a file in several steps,
+ * so events are collected until none have arrived for {@link #QUIET_PERIOD_MILLIS} before the file is read.
+ * Changes are reported on the watcher thread, so the game should hand them over to its own thread before applying them,
+ * e.g. using {@link Engine#reloadLevels(Set)}.
+ */
+public final class LevelPackWatcher implements AutoCloseable {
+    /**
+     * The time without further events after which a modification is considered finished, in milliseconds.
+     */
+    static final long QUIET_PERIOD_MILLIS = 50;
+
+    /**
+     * The watch service of the directory.
+     */
+    private final WatchService service;
+
+    /**
+     * The background thread.
+     */
+    private final Thread watcher;
+
+    /**
+     * Instantiates a new watcher and starts watching.
+     *
+     * @param file       the level pack file, as an absolute path.
+     * @param repository the repository to reload.
+     * @param onChange   called with the IDs of the changed levels after each reload which changed any level.
+     * @param onError    called if the file could not be read or is not a valid level pack. The levels are kept as they are.
+     * @throws IOException if the directory cannot be watched.
+     */
+    private LevelPackWatcher(Path file, LevelRepository repository, Consumer<Set<Integer>> onChange, Consumer<Exception> onError)
+            throws IOException {
+        service = file.getFileSystem().newWatchService();
+        file.getParent().register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+
+        watcher = new Thread(() -> run(file, repository, onChange, onError), "level-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    /**
+     * Starts watching a level pack file.
+     *
+     * @param file       the level pack file.
+     * @param repository the repository to reload, initially read from the same file.
+     * @param onChange   called on the watcher thread with the IDs of the changed levels after each reload which changed any level.
+     * @param onError    called on the watcher thread if the file could not be read or is not a valid level pack.
+     *                   The levels are kept as they are until the file is fixed.
+     * @return the watcher, which should be closed once the game ends.
+     * @throws IOException if the directory of the file cannot be watched.
+     */
+    public static LevelPackWatcher watch(Path file, LevelRepository repository, Consumer<Set<Integer>> onChange,
+                                         Consumer<Exception> onError) throws IOException {
+        return new LevelPackWatcher(file.toAbsolutePath(), repository, onChange, onError);
+    }
+
+    /**
+     * Stops watching and waits for the background thread to finish.
+     *
+     * @throws IOException if the watch service cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        service.close();
+
+        try {
+            watcher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits for modifications of the file and reloads it until the watcher is closed. Runs on the background thread.
+     *
+     * @param file       the level pack file.
+     * @param repository the repository to reload.
+     * @param onChange   called with the IDs of the changed levels.
+     * @param onError    called if the file could not be reloaded.
+     */
+    private void run(Path file, LevelRepository repository, Consumer<Set<Integer>> onChange, Consumer<Exception> onError) {
+        try {
+            while (true) {
+                boolean modified = drain(service.take(), file);
+
+                for (WatchKey key; (key = service.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS)) != null; )
+                    modified |= drain(key, file);
+
+                if (!modified) continue;
+
+                try {
+                    Set<Integer> changed = repository.reload(file);
+                    if (!changed.isEmpty()) onChange.accept(changed);
+                } catch (IOException | IllegalArgumentException e) {
+                    onError.accept(e);
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            // the watcher has been closed
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Consumes the events of a key and re-arms it.
+     *
+     * @param key  the signalled key.
+     * @param file the level pack file.
+     * @return true, if any of the events concerned the file.
+     */
+    private static boolean drain(WatchKey key, Path file) {
+        boolean modified = key.pollEvents().stream()
+                .anyMatch(e -> e.kind() == StandardWatchEventKinds.OVERFLOW || file.getFileName().equals(e.context()));
+
+        key.reset();
+        return modified;
+    }
+}
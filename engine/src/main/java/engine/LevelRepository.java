@@ -0,0 +1,135 @@
+package engine;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+/**
+ * The LevelRepository class. A level source whose levels can be replaced while the game is running, e.g. by a {@link LevelPackWatcher}.
+ * <p>
+ * The content of every level is hashed as it appears in the level pack. When the pack is updated, it is only split into its levels,
+ * and only those whose hash has changed are parsed again. All levels are then swapped in at once, so readers always see
+ * a consistent pack, and the IDs of the levels which have actually changed are reported.
+ */
+public final class LevelRepository implements LevelSource {
+    /**
+     * The current levels and the hashes of their content.
+     */
+    private volatile Snapshot snapshot = new Snapshot(List.of(), new long[0]);
+
+    /**
+     * Instantiates a new repository.
+     *
+     * @param text the level pack in the levels file format.
+     * @throws IllegalArgumentException if the text is not a valid level pack.
+     */
+    public LevelRepository(String text) {
+        update(text);
+    }
+
+    /**
+     * Reads a repository from a file.
+     *
+     * @param path the path of the level pack.
+     * @return the repository.
+     * @throws IOException              if the file cannot be read.
+     * @throws IllegalArgumentException if the file is not a valid level pack.
+     */
+    public static LevelRepository read(Path path) throws IOException {
+        return new LevelRepository(Files.readString(path, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Replaces the levels with those of a new version of the level pack. Levels with unchanged content are not parsed again.
+     * <p>
+     * If the pack is not valid, no level is replaced.
+     *
+     * @param text the new level pack in the levels file format.
+     * @return the IDs of all levels which have been changed, added or removed, in ascending order.
+     * @throws IllegalArgumentException if the text is not a valid level pack.
+     */
+    public synchronized Set<Integer> update(String text) {
+        Snapshot previous = snapshot;
+        List<String> elements = Json.splitArray(text);
+        long[] hashes = elements.stream().mapToLong(LevelRepository::hash).toArray();
+
+        List<LevelData> levels = IntStream.range(0, elements.size()).parallel()
+                .mapToObj(i -> i < previous.hashes().length && previous.hashes()[i] == hashes[i]
+                        ? previous.levels().get(i)
+                        : LevelPack.parseLevel(elements.get(i)))
+                .toList();
+
+        Set<Integer> changed = new TreeSet<>();
+        for (int i = 0; i < Math.max(levels.size(), previous.levels().size()); i++)
+            if (i >= levels.size() || i >= previous.levels().size() || !levels.get(i).equals(previous.levels().get(i)))
+                changed.add(i);
+
+        snapshot = new Snapshot(levels, hashes);
+        return changed;
+    }
+
+    /**
+     * Replaces the levels with those of a level pack file, see {@link #update(String)}.
+     *
+     * @param path the path of the level pack.
+     * @return the IDs of all levels which have been changed, added or removed, in ascending order.
+     * @throws IOException              if the file cannot be read.
+     * @throws IllegalArgumentException if the file is not a valid level pack.
+     */
+    public Set<Integer> reload(Path path) throws IOException {
+        return update(Files.readString(path, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Getter for the amount of levels.
+     *
+     * @return the amount of levels currently in this repository.
+     */
+    @Override
+    public int size() {
+        return snapshot.levels().size();
+    }
+
+    /**
+     * Getter for the data of a single level.
+     *
+     * @param index the index / ID of the level.
+     * @return the current data of the level.
+     * @throws IndexOutOfBoundsException if there is no level with this index.
+     */
+    @Override
+    public LevelData getLevel(int index) {
+        return snapshot.levels().get(index);
+    }
+
+    /**
+     * Hashes the content of a level using 64-bit FNV-1a, so changes are detected without keeping the text of all levels.
+     *
+     * @param text the level as it appears in the level pack.
+     * @return the hash.
+     */
+    private static long hash(String text) {
+        long hash = 0xcbf29ce484222325L;
+
+        for (int i = 0; i < text.length(); i++) {
+            hash ^= text.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+
+        return hash;
+    }
+
+    /**
+     * The levels of the repository at one point in time. Never modified once published.
+     *
+     * @param levels the levels.
+     * @param hashes the hash of every level's content, matching levels by index.
+     */
+    private record Snapshot(List<LevelData> levels, long[] hashes) {
+    }
+}
@@ -0,0 +1,24 @@
+package engine;
+
+/**
+ * The level input abstraction. Supplies the raw data of all levels to the engine, no matter where or how they are stored.
+ *
+ * @see LevelPack
+ */
+public interface LevelSource {
+    /**
+     * Getter for the amount of levels.
+     *
+     * @return the amount of levels this source supplies.
+     */
+    int size();
+
+    /**
+     * Getter for the data of a single level.
+     *
+     * @param index the index / ID of the level.
+     * @return the data of the level in its initial state.
+     * @throws IndexOutOfBoundsException if there is no level with this index.
+     */
+    LevelData getLevel(int index);
+}
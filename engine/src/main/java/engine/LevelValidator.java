@@ -0,0 +1,470 @@
+package engine;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static engine.Tile.Type.*;
+
+/**
+ * The LevelValidator class. Checks level packs for structural problems before they are shipped.
+ * <p>
+ * Every level passes through the same pipeline of {@link Check checks}, in parallel on the common {@link java.util.concurrent.ForkJoinPool}:
+ * its raw data is parsed, its geometry is inspected, the reachability of its targets is analysed and finally,
+ * if enabled, it is solved to verify its min moves. A level failing one check with an error is not passed on to the next.
+ * <p>
+ * The result is a {@link Report}, which can be written as JSON for further processing (see {@link #main(String[])}).
+ */
+public final class LevelValidator {
+    /**
+     * The tile types which stop every laser, no matter their state.
+     */
+    private static final Set<Tile.Type> WALLS = EnumSet.of(STONE, STONE_BROKEN, STONE_CHIPPED, LASER_RED, LASER_GREEN, LASER_BLUE);
+
+    /**
+     * All tile types by name, so unknown names can be detected without catching exceptions.
+     */
+    private static final Map<String, Tile.Type> TYPES = Arrays.stream(Tile.Type.values())
+            .collect(Collectors.toUnmodifiableMap(Tile.Type::name, Function.identity()));
+
+    /**
+     * Not to be instantiated.
+     */
+    private LevelValidator() {
+    }
+
+    /**
+     * Validates a level pack and writes the report to a file. Exits with status 1 if the pack contains any errors.
+     * <p>
+     * Arguments (all optional, in this order): level pack, report file, max states per level (0 to skip solving).
+     *
+     * @param args the launch arguments.
+     * @throws IOException if a file cannot be read or written.
+     */
+    public static void main(String[] args) throws IOException {
+        Path packPath = Path.of(args.length > 0 ? args[0] : "levels.json");
+        Path output = Path.of(args.length > 1 ? args[1] : "validation.json");
+        int maxStates = args.length > 2 ? Integer.parseInt(args[2]) : 0;
+
+        long start = System.nanoTime();
+        Report report = validate(packPath, maxStates);
+        Files.writeString(output, report.toJson(), StandardCharsets.UTF_8);
+
+        System.out.printf("Validated %d levels in %d ms: %d errors, %d warnings%n", report.levels(),
+                (System.nanoTime() - start) / 1_000_000, report.count(Severity.ERROR), report.count(Severity.WARNING));
+
+        if (!report.isValid()) System.exit(1);
+    }
+
+    /**
+     * Validates a level pack file. A file which is not a valid level pack results in a single {@link Problem#INVALID_PACK} error.
+     *
+     * @param path      the path of the level pack.
+     * @param maxStates the amount of states the solver may visit per level, or 0 to skip solving.
+     * @return the report.
+     * @throws IOException if the file cannot be read.
+     */
+    public static Report validate(Path path, int maxStates) throws IOException {
+        LevelPack pack;
+
+        try {
+            pack = LevelPack.read(path);
+        } catch (IllegalArgumentException e) {
+            return new Report(0, List.of(new Issue(-1, Problem.INVALID_PACK, null, e.getMessage())));
+        }
+
+        return validate(pack, maxStates);
+    }
+
+    /**
+     * Validates all levels of a source, in parallel.
+     *
+     * @param source    the levels.
+     * @param maxStates the amount of states the solver may visit per level, or 0 to skip solving.
+     * @return the report, listing the issues ordered by level.
+     */
+    public static Report validate(LevelSource source, int maxStates) {
+        return new Report(source.size(), IntStream.range(0, source.size()).parallel()
+                .mapToObj(i -> validate(i, source.getLevel(i), maxStates))
+                .flatMap(List::stream)
+                .toList());
+    }
+
+    /**
+     * Passes a single level through all checks.
+     *
+     * @param levelID   the index of the level.
+     * @param level     the raw level data.
+     * @param maxStates the amount of states the solver may visit, or 0 to skip solving.
+     * @return the issues found, in the order of the checks.
+     */
+    static List<Issue> validate(int levelID, LevelData level, int maxStates) {
+        List<Issue> issues = new ArrayList<>();
+
+        if (!parse(levelID, level, issues) || !checkGeometry(levelID, level, issues)) return issues;
+
+        Map<Pair<Integer, Integer>, Tile> tiles = Level.of(level).tiles();
+        if (!checkReachability(levelID, tiles, issues)) return issues;
+
+        if (maxStates > 0) solve(levelID, level, tiles, maxStates, issues);
+
+        return issues;
+    }
+
+    /**
+     * Checks that every tile has a known type and a state it can actually be in.
+     *
+     * @param levelID the index of the level.
+     * @param level   the raw level data.
+     * @param issues  the list to add issues to.
+     * @return true, if the level could be parsed without errors.
+     */
+    private static boolean parse(int levelID, LevelData level, List<Issue> issues) {
+        int before = issues.size();
+
+        if (level.minMoves() < 0)
+            issues.add(new Issue(levelID, Problem.INVALID_MIN_MOVES, null, "min_moves is " + level.minMoves() + "."));
+
+        for (LevelData.TileData tile : level.tiles()) {
+            Tile.Type type = TYPES.get(tile.type());
+            Pair<Integer, Integer> pos = Pair.of(tile.x(), tile.y());
+
+            if (type == null)
+                issues.add(new Issue(levelID, Problem.UNKNOWN_TYPE, pos, "Unknown tile type " + Json.quote(tile.type()) + "."));
+            else if (tile.state() < 0 || tile.state() >= type.getStateCount())
+                issues.add(new Issue(levelID, Problem.INVALID_STATE, pos,
+                        "State " + tile.state() + " is out of range for " + type + " (0 to " + (type.getStateCount() - 1) + ")."));
+        }
+
+        return issues.size() == before;
+    }
+
+    /**
+     * Checks that the level is not empty and no two tiles share a position.
+     *
+     * @param levelID the index of the level.
+     * @param level   the raw level data.
+     * @param issues  the list to add issues to.
+     * @return true, if no errors were found.
+     */
+    private static boolean checkGeometry(int levelID, LevelData level, List<Issue> issues) {
+        int before = issues.size();
+        Set<Pair<Integer, Integer>> positions = new HashSet<>();
+
+        if (level.tiles().isEmpty())
+            issues.add(new Issue(levelID, Problem.EMPTY_LEVEL, null, "The level does not contain any tiles."));
+
+        for (LevelData.TileData tile : level.tiles())
+            if (!positions.add(Pair.of(tile.x(), tile.y())))
+                issues.add(new Issue(levelID, Problem.DUPLICATE_TILE, Pair.of(tile.x(), tile.y()),
+                        "More than one tile at " + format(Pair.of(tile.x(), tile.y())) + "."));
+
+        return issues.size() == before;
+    }
+
+    /**
+     * Traces all beams which may occur while playing (see {@link Reachability}) to find sources facing a wall,
+     * gaps in the outline through which lasers leave the level, and targets no laser can reach.
+     *
+     * @param levelID the index of the level.
+     * @param tiles   the tiles of the level in their initial state.
+     * @param issues  the list to add issues to.
+     * @return true, if no errors were found.
+     */
+    private static boolean checkReachability(int levelID, Map<Pair<Integer, Integer>, Tile> tiles, List<Issue> issues) {
+        int before = issues.size();
+        Reachability reachability = Reachability.of(tiles);
+        List<Pair<Integer, Integer>> targets = new ArrayList<>();
+        boolean hasSource = false;
+
+        for (Pair<Integer, Integer> pos : sorted(tiles.keySet())) {
+            Tile tile = tiles.get(pos);
+            if (tile.getType() == STONE_TARGET) targets.add(pos);
+            if (!tile.getType().isLaserSource()) continue;
+
+            hasSource = true;
+            Tile next = tiles.get(tile.getLaserStep(pos, tile.getState()));
+            if (next != null && WALLS.contains(next.getType()))
+                issues.add(new Issue(levelID, Problem.BLOCKED_SOURCE, pos, tile.getType() + " is facing " + next.getType() + "."));
+        }
+
+        if (!hasSource) {
+            issues.add(new Issue(levelID, Problem.NO_SOURCE, null, "The level does not contain any laser source."));
+            return false;
+        }
+
+        for (Pair<Integer, Integer> pos : sorted(reachability.getEscapes()))
+            issues.add(new Issue(levelID, Problem.OPEN_OUTLINE, pos, "A laser may leave the level at " + format(pos) + "."));
+
+        if (targets.stream().noneMatch(reachability::isReachable))
+            issues.add(new Issue(levelID, Problem.NO_REACHABLE_TARGET, null, "No laser can reach any target."));
+        else
+            targets.stream()
+                    .filter(pos -> !reachability.isReachable(pos))
+                    .forEach(pos -> issues.add(new Issue(levelID, Problem.UNREACHABLE_TARGET, pos,
+                            "No laser can reach the target at " + format(pos) + ".")));
+
+        return issues.stream().skip(before).noneMatch(i -> i.problem().severity() == Severity.ERROR);
+    }
+
+    /**
+     * Solves the level and compares the optimum with its min moves.
+     *
+     * @param levelID   the index of the level.
+     * @param level     the raw level data.
+     * @param tiles     the tiles of the level in their initial state.
+     * @param maxStates the amount of states the solver may visit.
+     * @param issues    the list to add issues to.
+     */
+    private static void solve(int levelID, LevelData level, Map<Pair<Integer, Integer>, Tile> tiles, int maxStates,
+                              List<Issue> issues) {
+        int optimum;
+
+        try {
+            optimum = Solver.solve(tiles, maxStates);
+        } catch (IllegalArgumentException e) {
+            issues.add(new Issue(levelID, Problem.UNSOLVED, null, e.getMessage()));
+            return;
+        }
+
+        if (optimum == Solver.UNSOLVABLE)
+            issues.add(new Issue(levelID, Problem.UNSOLVED, null, "No solution found within " + maxStates + " states."));
+        else if (optimum != level.minMoves())
+            issues.add(new Issue(levelID, Problem.MIN_MOVES_MISMATCH, null,
+                    "min_moves is " + level.minMoves() + ", but the optimum is " + optimum + "."));
+    }
+
+    /**
+     * Formats a position for messages.
+     *
+     * @param pos the position.
+     * @return the position as "(x, y)".
+     */
+    private static String format(Pair<Integer, Integer> pos) {
+        return "(" + pos.x() + ", " + pos.y() + ")";
+    }
+
+    /**
+     * Sorts positions row by row, so reports do not depend on hash order.
+     *
+     * @param positions the positions.
+     * @return the sorted positions.
+     */
+    private static List<Pair<Integer, Integer>> sorted(Collection<Pair<Integer, Integer>> positions) {
+        return positions.stream()
+                .sorted(Comparator.comparing((Pair<Integer, Integer> p) -> p.y()).thenComparing(Pair::x))
+                .toList();
+    }
+
+    /**
+     * The checks of the pipeline, in the order they are run.
+     */
+    public enum Check {
+        /**
+         * Converting the raw data into tiles.
+         */
+        PARSE,
+        /**
+         * The positions of the tiles.
+         */
+        GEOMETRY,
+        /**
+         * The paths lasers may take.
+         */
+        REACHABILITY,
+        /**
+         * Solving the level.
+         */
+        SOLVE
+    }
+
+    /**
+     * The severity of an issue.
+     */
+    public enum Severity {
+        /**
+         * The level is broken and must not be shipped.
+         */
+        ERROR,
+        /**
+         * The level can be played, but is likely not as intended.
+         */
+        WARNING
+    }
+
+    /**
+     * The problems the checks can find.
+     */
+    public enum Problem {
+        /**
+         * The pack itself could not be parsed.
+         */
+        INVALID_PACK(Check.PARSE, Severity.ERROR),
+        /**
+         * The min moves are negative.
+         */
+        INVALID_MIN_MOVES(Check.PARSE, Severity.ERROR),
+        /**
+         * A tile type name does not exist.
+         */
+        UNKNOWN_TYPE(Check.PARSE, Severity.ERROR),
+        /**
+         * A tile state is out of range for its type.
+         */
+        INVALID_STATE(Check.PARSE, Severity.ERROR),
+        /**
+         * The level does not contain any tiles.
+         */
+        EMPTY_LEVEL(Check.GEOMETRY, Severity.ERROR),
+        /**
+         * Two tiles share a position.
+         */
+        DUPLICATE_TILE(Check.GEOMETRY, Severity.ERROR),
+        /**
+         * The level does not contain any laser source.
+         */
+        NO_SOURCE(Check.REACHABILITY, Severity.ERROR),
+        /**
+         * A laser source is facing a wall.
+         */
+        BLOCKED_SOURCE(Check.REACHABILITY, Severity.ERROR),
+        /**
+         * A laser may leave the level through a gap in its outline.
+         */
+        OPEN_OUTLINE(Check.REACHABILITY, Severity.ERROR),
+        /**
+         * No laser can reach any target, so the level cannot be completed.
+         */
+        NO_REACHABLE_TARGET(Check.REACHABILITY, Severity.ERROR),
+        /**
+         * A single target cannot be reached by any laser.
+         */
+        UNREACHABLE_TARGET(Check.REACHABILITY, Severity.WARNING),
+        /**
+         * The solver gave up before finding a solution.
+         */
+        UNSOLVED(Check.SOLVE, Severity.WARNING),
+        /**
+         * The min moves differ from the optimum found by the solver.
+         */
+        MIN_MOVES_MISMATCH(Check.SOLVE, Severity.ERROR);
+
+        /**
+         * The check finding this problem.
+         */
+        private final Check check;
+
+        /**
+         * The severity of this problem.
+         */
+        private final Severity severity;
+
+        /**
+         * Instantiates a new problem.
+         *
+         * @param check    the check finding this problem.
+         * @param severity the severity of this problem.
+         */
+        Problem(Check check, Severity severity) {
+            this.check = check;
+            this.severity = severity;
+        }
+
+        /**
+         * Getter for the check.
+         *
+         * @return the check finding this problem.
+         */
+        public Check check() {
+            return check;
+        }
+
+        /**
+         * Getter for the severity.
+         *
+         * @return the severity of this problem.
+         */
+        public Severity severity() {
+            return severity;
+        }
+    }
+
+    /**
+     * A single problem found in a level.
+     *
+     * @param levelID the index of the level, or -1 if the issue concerns the whole pack.
+     * @param problem the problem.
+     * @param pos     the position of the tile concerned, or null if the issue concerns the whole level.
+     * @param message a human-readable description.
+     */
+    public record Issue(int levelID, Problem problem, Pair<Integer, Integer> pos, String message) {
+        /**
+         * Converts the issue into a JSON object.
+         *
+         * @return the issue as a single line of JSON.
+         */
+        String toJson() {
+            return "{\"level\": " + levelID
+                    + ", \"check\": " + Json.quote(problem.check().name())
+                    + ", \"severity\": " + Json.quote(problem.severity().name())
+                    + ", \"problem\": " + Json.quote(problem.name())
+                    + (pos == null ? "" : ", \"x\": " + pos.x() + ", \"y\": " + pos.y())
+                    + ", \"message\": " + Json.quote(message) + "}";
+        }
+    }
+
+    /**
+     * The result of validating a level pack.
+     *
+     * @param levels the amount of levels validated.
+     * @param issues all issues found, ordered by level.
+     */
+    public record Report(int levels, List<Issue> issues) {
+        /**
+         * Copies the issue list.
+         *
+         * @param levels the amount of levels validated.
+         * @param issues all issues found, ordered by level.
+         */
+        public Report {
+            issues = List.copyOf(issues);
+        }
+
+        /**
+         * Counts the issues of a severity.
+         *
+         * @param severity the severity.
+         * @return the amount of issues with this severity.
+         */
+        public long count(Severity severity) {
+            return issues.stream().filter(i -> i.problem().severity() == severity).count();
+        }
+
+        /**
+         * Checks if the pack may be shipped.
+         *
+         * @return true, if no errors were found. Warnings are allowed.
+         */
+        public boolean isValid() {
+            return count(Severity.ERROR) == 0;
+        }
+
+        /**
+         * Converts the report into JSON, with one issue per line.
+         *
+         * @return the report as a JSON object with the amount of levels, errors and warnings and an array of issues.
+         */
+        public String toJson() {
+            return "{\n  \"levels\": " + levels + ",\n"
+                    + "  \"errors\": " + count(Severity.ERROR) + ",\n"
+                    + "  \"warnings\": " + count(Severity.WARNING) + ",\n"
+                    + "  \"issues\": [" + issues.stream().map(i -> "\n    " + i.toJson()).collect(Collectors.joining(","))
+                    + (issues.isEmpty() ? "]" : "\n  ]") + "\n}\n";
+        }
+    }
+}
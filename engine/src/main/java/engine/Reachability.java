@@ -0,0 +1,151 @@
+package engine;
+
+import java.util.*;
+
+/**
+ * The Reachability class. Determines which tiles may ever be entered by a laser, no matter how the level is played.
+ * <p>
+ * Beams are traced from all laser sources while considering every state intractable tiles and switches could be in.
+ * A mirror may therefore turn a beam left and right, a tunnel may let it pass or turn it, and a switch may let it pass or stop it.
+ * This over-approximates the paths of all lasers in all reachable configurations, so any tile which is not reached here
+ * can never affect the outcome of a level.
+ * <p>
+ * For reached tiles, {@link #getExits(Pair, Tile)} describes how a tile in a specific state treats all beams that may enter it.
+ * States with equal exits are equivalent, which allows solvers to collapse them (e.g. a mirror only entered from one side
+ * behaves the same in both rotations that block the beam).
+ */
+final class Reachability {
+    /**
+     * The directions beams may enter a tile with, encoded as a bit mask (bit 0 = north, bit 1 = east, ...).
+     */
+    private final Map<Pair<Integer, Integer>, Integer> entries = new HashMap<>();
+
+    /**
+     * The positions outside the level which beams may enter, i.e. gaps in its outline.
+     */
+    private final Set<Pair<Integer, Integer>> escapes = new HashSet<>();
+
+    /**
+     * Instantiates the analysis and traces all beams on the given tiles.
+     *
+     * @param tiles the tiles to analyse. They are not modified.
+     */
+    private Reachability(Map<Pair<Integer, Integer>, Tile> tiles) {
+        Deque<Pair<Pair<Integer, Integer>, Integer>> queue = new ArrayDeque<>();
+
+        tiles.entrySet().stream()
+                .filter(e -> e.getValue().getType().isLaserSource())
+                .forEach(e -> {
+                    Pair<Integer, Integer> first = e.getValue().getLaserStep(e.getKey(), e.getValue().getState());
+                    if (first != null) queue.add(Pair.of(first, Laser.getRotation(e.getKey(), first)));
+                });
+
+        while (!queue.isEmpty()) {
+            Pair<Pair<Integer, Integer>, Integer> beam = queue.remove();
+            Pair<Integer, Integer> pos = beam.x();
+            Tile tile = tiles.get(pos);
+            int mask = entries.getOrDefault(pos, 0);
+
+            if (tile == null) escapes.add(pos);
+            if (tile == null || (mask & 1 << beam.y()) != 0) continue;
+
+            entries.put(pos, mask | 1 << beam.y());
+
+            possibleStates(tile).stream()
+                    .map(t -> t.getLaserStep(pos, beam.y()))
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .forEach(next -> queue.add(Pair.of(next, Laser.getRotation(pos, next))));
+        }
+    }
+
+    /**
+     * Analyses the given tiles.
+     *
+     * @param tiles the tiles to analyse. They are not modified.
+     * @return the finished analysis.
+     */
+    static Reachability of(Map<Pair<Integer, Integer>, Tile> tiles) {
+        return new Reachability(tiles);
+    }
+
+    /**
+     * Lists all states a tile could be in while playing. Only intractable tiles and switches can change their state.
+     *
+     * @param tile the tile.
+     * @return one tile for each possible state.
+     */
+    private static List<Tile> possibleStates(Tile tile) {
+        if (tile.getType().equals(Tile.Type.MIRROR))
+            return List.of(Tile.of(Tile.Type.MIRROR, 0), Tile.of(Tile.Type.MIRROR, 1),
+                    Tile.of(Tile.Type.MIRROR, 2), Tile.of(Tile.Type.MIRROR, 3));
+
+        if (tile.getType().canInteract() || tile.getType().isSwitch())
+            return List.of(Tile.of(tile.getType(), 0), Tile.of(tile.getType(), 1));
+
+        return List.of(tile);
+    }
+
+    /**
+     * Checks if any beam may ever enter the tile at the given position.
+     *
+     * @param pos the position.
+     * @return true, if a laser may reach this position in some configuration.
+     */
+    boolean isReachable(Pair<Integer, Integer> pos) {
+        return entries.containsKey(pos);
+    }
+
+    /**
+     * Getter for the positions outside the level which beams may enter. A laser reaching one of them leaves the level.
+     *
+     * @return the positions without a tile which a laser may reach in some configuration.
+     */
+    Set<Pair<Integer, Integer>> getEscapes() {
+        return Collections.unmodifiableSet(escapes);
+    }
+
+    /**
+     * Filters the given tiles for those which can be interacted with and may be reached by a laser.
+     * <p>
+     * Clickable switches are always toggled together with all switches of the same colour,
+     * so they are considered relevant if any switch of their colour may be reached.
+     *
+     * @param tiles the tiles which have been analysed.
+     * @return the positions of all relevant intractable tiles.
+     */
+    Set<Pair<Integer, Integer>> getRelevantTiles(Map<Pair<Integer, Integer>, Tile> tiles) {
+        Set<Tile.Type> reachedSwitches = EnumSet.noneOf(Tile.Type.class);
+        entries.keySet().stream()
+                .map(tiles::get)
+                .filter(t -> t.getType().canInteract() && t.getType().isSwitch())
+                .forEach(t -> reachedSwitches.add(t.getType()));
+
+        Set<Pair<Integer, Integer>> relevant = new HashSet<>();
+        tiles.forEach((pos, tile) -> {
+            if (tile.getType().canInteract() && (isReachable(pos) || reachedSwitches.contains(tile.getType())))
+                relevant.add(pos);
+        });
+
+        return relevant;
+    }
+
+    /**
+     * Describes how a tile treats every beam that may enter its position.
+     * <p>
+     * Two states of the same tile are equivalent (with regards to all lasers) if their exits are equal.
+     *
+     * @param pos  the position of the tile.
+     * @param tile the tile, in the state to describe.
+     * @return the position each beam continues at (or null, if it is stopped), ordered by the direction it entered with.
+     */
+    List<Pair<Integer, Integer>> getExits(Pair<Integer, Integer> pos, Tile tile) {
+        int mask = entries.getOrDefault(pos, 0);
+        List<Pair<Integer, Integer>> exits = new ArrayList<>();
+
+        for (int rotation = 0; rotation < 4; rotation++)
+            if ((mask & 1 << rotation) != 0) exits.add(tile.getLaserStep(pos, rotation));
+
+        return exits;
+    }
+}
@@ -0,0 +1,310 @@
+package engine;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The Replay class. A session recorded by the {@link ReplayRecorder}, loaded into memory.
+ * <p>
+ * Moves are numbered throughout the whole session. Any point of the session can be restored using {@link #seek(int)},
+ * which starts at the closest checkpoint of the round and only replays the moves after it.
+ */
+public final class Replay {
+    /**
+     * The levels played in the session.
+     */
+    private final LevelSource levels;
+
+    /**
+     * The time the recording started, in epoch milliseconds.
+     */
+    private final long start;
+
+    /**
+     * The cell index of every move.
+     */
+    private final int[] cells;
+
+    /**
+     * The button of every move.
+     */
+    private final Button[] buttons;
+
+    /**
+     * The time of every move, in epoch milliseconds.
+     */
+    private final long[] times;
+
+    /**
+     * All rounds of the session, in order.
+     */
+    private final List<Round> rounds;
+
+    /**
+     * The geometry of every level played, by level ID.
+     */
+    private final Map<Integer, ReplayFormat.Geometry> geometries = new HashMap<>();
+
+    /**
+     * Parses a replay.
+     *
+     * @param data   the content of a replay file.
+     * @param levels the levels played in the session.
+     * @throws IllegalArgumentException if the data is not a valid replay of these levels.
+     */
+    private Replay(ByteBuffer data, LevelSource levels) {
+        this.levels = levels;
+
+        try {
+            if (data.getInt() != ReplayFormat.MAGIC)
+                throw new IllegalArgumentException("Not a replay.");
+
+            start = ReplayFormat.readVarLong(data);
+
+            List<Round> rounds = new ArrayList<>();
+            int[] cells = new int[64];
+            Button[] buttons = new Button[64];
+            long[] times = new long[64];
+            int moves = 0;
+            long time = start;
+
+            while (data.hasRemaining()) {
+                int tag = data.get();
+
+                switch (tag) {
+                    case ReplayFormat.LEVEL -> {
+                        int levelID = ReplayFormat.readVarInt(data);
+                        if (levelID >= levels.size())
+                            throw new IllegalArgumentException("Replay contains unknown level " + levelID + ".");
+
+                        time += ReplayFormat.readVarLong(data);
+                        rounds.add(new Round(levelID, moves, new ArrayList<>()));
+                    }
+                    case ReplayFormat.MOVE -> {
+                        if (rounds.isEmpty())
+                            throw new IllegalArgumentException("Replay contains a move before the first level.");
+
+                        if (moves == cells.length) {
+                            cells = Arrays.copyOf(cells, moves * 2);
+                            buttons = Arrays.copyOf(buttons, moves * 2);
+                            times = Arrays.copyOf(times, moves * 2);
+                        }
+
+                        cells[moves] = ReplayFormat.readVarInt(data);
+                        int button = ReplayFormat.readVarInt(data);
+                        if (button >= Button.values().length)
+                            throw new IllegalArgumentException("Replay contains unknown button " + button + ".");
+                        buttons[moves] = Button.values()[button];
+                        times[moves++] = time += ReplayFormat.readVarLong(data);
+                    }
+                    case ReplayFormat.CHECKPOINT -> {
+                        if (rounds.isEmpty())
+                            throw new IllegalArgumentException("Replay contains a checkpoint before the first level.");
+
+                        int count = ReplayFormat.readVarInt(data);
+                        int[] checkpointCells = new int[count], clicks = new int[count];
+
+                        for (int i = 0, cell = 0; i < count; i++) {
+                            checkpointCells[i] = cell += ReplayFormat.readVarInt(data);
+                            clicks[i] = ReplayFormat.readVarInt(data);
+                        }
+
+                        rounds.get(rounds.size() - 1).checkpoints().add(new Checkpoint(moves, checkpointCells, clicks));
+                    }
+                    default -> throw new IllegalArgumentException("Replay contains unknown record " + tag + ".");
+                }
+            }
+
+            this.rounds = List.copyOf(rounds);
+            this.cells = Arrays.copyOf(cells, moves);
+            this.buttons = Arrays.copyOf(buttons, moves);
+            this.times = Arrays.copyOf(times, moves);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("The replay is truncated.", e);
+        }
+    }
+
+    /**
+     * Loads a replay file.
+     *
+     * @param path   the path of the file.
+     * @param levels the levels played in the session.
+     * @return the replay.
+     * @throws IOException              if the file cannot be read.
+     * @throws IllegalArgumentException if the file is not a valid replay of these levels.
+     */
+    public static Replay read(Path path, LevelSource levels) throws IOException {
+        return new Replay(ByteBuffer.wrap(Files.readAllBytes(path)), levels);
+    }
+
+    /**
+     * Getter for the amount of moves.
+     *
+     * @return the amount of moves taken throughout the session.
+     */
+    public int size() {
+        return cells.length;
+    }
+
+    /**
+     * Getter for the time the recording started.
+     *
+     * @return the time in epoch milliseconds.
+     */
+    public long getStart() {
+        return start;
+    }
+
+    /**
+     * Getter for a single move.
+     *
+     * @param move the number of the move within the session.
+     * @return the interaction of the move.
+     * @throws IndexOutOfBoundsException if there is no such move.
+     */
+    public Interaction getInteraction(int move) {
+        return new Interaction(geometryOf(roundOf(move).levelID()).positionOf(cells[move]), buttons[move]);
+    }
+
+    /**
+     * Getter for the time of a single move.
+     *
+     * @param move the number of the move within the session.
+     * @return the time in epoch milliseconds.
+     * @throws IndexOutOfBoundsException if there is no such move.
+     */
+    public long getTime(int move) {
+        return times[move];
+    }
+
+    /**
+     * Getter for the level of a single move.
+     *
+     * @param move the number of the move within the session.
+     * @return the ID of the level the move was taken in.
+     * @throws IndexOutOfBoundsException if there is no such move.
+     */
+    public int getLevelID(int move) {
+        return roundOf(move).levelID();
+    }
+
+    /**
+     * Restores the game state right before a move.
+     * <p>
+     * Starts at the last checkpoint of the round before the move (or the start of the round), replays the moves
+     * after it and settles the lasers once at the end.
+     *
+     * @param move the number of the move within the session, or {@link #size()} for the state at the end of the session.
+     * @return the state.
+     * @throws IndexOutOfBoundsException if there is no such move, or the session does not contain any round.
+     * @throws IllegalArgumentException  if the replay does not match the levels.
+     */
+    public State seek(int move) {
+        if (move < 0 || move > size() || rounds.isEmpty())
+            throw new IndexOutOfBoundsException("There is no move " + move + ".");
+
+        Round round = roundBefore(move);
+        ReplayFormat.Geometry geometry = geometryOf(round.levelID());
+        Board board = new Board(Level.of(levels.getLevel(round.levelID())).tiles());
+        Checkpoint checkpoint = new Checkpoint(round.start(), new int[0], new int[0]);
+
+        for (Checkpoint c : round.checkpoints()) {
+            if (c.move() > move) break;
+            checkpoint = c;
+        }
+
+        for (int i = 0; i < checkpoint.cells().length; i++)
+            for (int k = 0; k < checkpoint.clicks()[i]; k++)
+                board.interact(geometry.positionOf(checkpoint.cells()[i]), Button.RIGHT);
+
+        for (int i = checkpoint.move(); i < move; i++)
+            board.interact(geometry.positionOf(cells[i]), buttons[i]);
+
+        board.settle();
+        return new State(round.levelID(), move - round.start(), board.copyOfTiles(), board.getLasers(), board.isCompleted());
+    }
+
+    /**
+     * Finds the round a move was taken in.
+     *
+     * @param move the number of the move within the session.
+     * @return the round.
+     * @throws IndexOutOfBoundsException if there is no such move.
+     */
+    private Round roundOf(int move) {
+        if (move < 0 || move >= size())
+            throw new IndexOutOfBoundsException("There is no move " + move + ".");
+
+        return roundBefore(move);
+    }
+
+    /**
+     * Finds the round which is being played right before a move, which is the last round started before or at the move.
+     *
+     * @param move the number of the move within the session.
+     * @return the round.
+     */
+    private Round roundBefore(int move) {
+        int low = 0, high = rounds.size() - 1;
+
+        while (low < high) { // the last round starting at or before the move
+            int middle = (low + high + 1) / 2;
+            if (rounds.get(middle).start() <= move) low = middle;
+            else high = middle - 1;
+        }
+
+        return rounds.get(low);
+    }
+
+    /**
+     * Getter for the geometry of a level, which is determined once.
+     *
+     * @param levelID the ID of the level.
+     * @return the geometry.
+     */
+    private ReplayFormat.Geometry geometryOf(int levelID) {
+        return geometries.computeIfAbsent(levelID, id -> ReplayFormat.Geometry.of(levels.getLevel(id)));
+    }
+
+    /**
+     * The game state at a point of the session.
+     *
+     * @param levelID   the ID of the level being played.
+     * @param moves     the amount of moves taken in this round.
+     * @param tiles     the tiles in their current state.
+     * @param lasers    the settled lasers.
+     * @param completed true, if all lasers end on a target.
+     */
+    public record State(int levelID, int moves, Map<Pair<Integer, Integer>, Tile> tiles, Set<Laser> lasers,
+                        boolean completed) {
+    }
+
+    /**
+     * A round of the session, starting when a level was (re)loaded.
+     *
+     * @param levelID     the ID of the level.
+     * @param start       the number of the first move of the round.
+     * @param checkpoints the checkpoints of the round, in order.
+     */
+    private record Round(int levelID, int start, List<Checkpoint> checkpoints) {
+    }
+
+    /**
+     * The clicks on every cell since the start of the round, as of a specific move.
+     *
+     * @param move   the number of the first move after the checkpoint.
+     * @param cells  the cells whose click count is not 0.
+     * @param clicks the clicks per cell modulo the amount of states of its tile, matching cells by index.
+     */
+    private record Checkpoint(int move, int[] cells, int[] clicks) {
+    }
+}
@@ -0,0 +1,149 @@
+package engine;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The ReplayFormat class. Holds the constants and encodings shared by the {@link ReplayRecorder} and the {@link Replay} loader.
+ * <p>
+ * A replay file starts with {@link #MAGIC} and the time the recording started (epoch milliseconds). It is followed by records,
+ * each starting with a tag byte. All numbers are unsigned LEB128 varints, and every timestamp is stored as the milliseconds
+ * since the previous record.
+ * <ul>
+ *     <li>{@link #LEVEL}: level ID, timestamp. Starts a new round of the given level.</li>
+ *     <li>{@link #MOVE}: cell index, button ordinal, timestamp.</li>
+ *     <li>{@link #CHECKPOINT}: amount of entries, then a cell index (relative to the previous entry) and click count per entry.
+ *     Describes the state after the preceding move as the clicks per tile since the round started.</li>
+ * </ul>
+ * Cell indices are counted row by row from the top left corner of the level, see {@link Geometry}.
+ */
+final class ReplayFormat {
+    /**
+     * The first four bytes of every replay file.
+     */
+    static final int MAGIC = 0x4C475250; // "LGRP"
+
+    /**
+     * The tag of a level record.
+     */
+    static final int LEVEL = 1;
+
+    /**
+     * The tag of a move record.
+     */
+    static final int MOVE = 2;
+
+    /**
+     * The tag of a checkpoint record.
+     */
+    static final int CHECKPOINT = 3;
+
+    /**
+     * Not to be instantiated.
+     */
+    private ReplayFormat() {
+    }
+
+    /**
+     * Writes an unsigned varint.
+     *
+     * @param out   the stream to write to.
+     * @param value the value. Must not be negative.
+     */
+    static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+
+        out.write((int) value);
+    }
+
+    /**
+     * Reads an unsigned varint.
+     *
+     * @param in the buffer to read from.
+     * @return the value.
+     * @throws IllegalArgumentException if the varint is longer than a long.
+     */
+    static long readVarLong(ByteBuffer in) {
+        long value = 0;
+
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) return value;
+        }
+
+        throw new IllegalArgumentException("Varint is too long.");
+    }
+
+    /**
+     * Reads an unsigned varint which has to fit into an int.
+     *
+     * @param in the buffer to read from.
+     * @return the value.
+     * @throws IllegalArgumentException if the value does not fit into an int.
+     */
+    static int readVarInt(ByteBuffer in) {
+        long value = readVarLong(in);
+
+        if (value > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Varint is too large: " + value);
+
+        return (int) value;
+    }
+
+    /**
+     * The bounds of a level, converting between tile positions and cell indices.
+     *
+     * @param minX    the smallest x-position of the level.
+     * @param minY    the smallest y-position of the level.
+     * @param width   the amount of cells per row.
+     * @param periods the amount of states of every tile which can be interacted with, by cell index.
+     */
+    record Geometry(int minX, int minY, int width, Map<Integer, Integer> periods) {
+        /**
+         * Determines the geometry of a level.
+         *
+         * @param level the raw level data.
+         * @return the geometry.
+         */
+        static Geometry of(LevelData level) {
+            int minX = level.tiles().stream().mapToInt(LevelData.TileData::x).min().orElse(0);
+            int minY = level.tiles().stream().mapToInt(LevelData.TileData::y).min().orElse(0);
+            int width = level.tiles().stream().mapToInt(LevelData.TileData::x).max().orElse(0) - minX + 1;
+            Map<Integer, Integer> periods = new HashMap<>();
+
+            for (LevelData.TileData tile : level.tiles()) {
+                Tile.Type type = Tile.Type.valueOf(tile.type());
+                if (type.canInteract())
+                    periods.put((tile.y() - minY) * width + (tile.x() - minX), type == Tile.Type.MIRROR ? 4 : 2);
+            }
+
+            return new Geometry(minX, minY, width, periods);
+        }
+
+        /**
+         * Converts a position into its cell index.
+         *
+         * @param pos the position.
+         * @return the cell index.
+         */
+        int cellOf(Pair<Integer, Integer> pos) {
+            return (pos.y() - minY) * width + (pos.x() - minX);
+        }
+
+        /**
+         * Converts a cell index into its position.
+         *
+         * @param cell the cell index.
+         * @return the position.
+         */
+        Pair<Integer, Integer> positionOf(int cell) {
+            return Pair.of(minX + cell % width, minY + cell / width);
+        }
+    }
+}
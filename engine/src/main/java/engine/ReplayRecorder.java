@@ -0,0 +1,273 @@
+package engine;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * The ReplayRecorder class. Records every level change and interaction of an engine into a compact replay file.
+ * <p>
+ * The recorder listens to the events of the engine, so it only encodes a few bytes per interaction on the engine thread.
+ * Encoded records are handed to a background writer through a bounded queue, which only blocks the engine
+ * if the writer falls behind by more than {@link #QUEUE_CAPACITY} records. The writer flushes whenever it runs out of work.
+ * <p>
+ * Every {@link #CHECKPOINT_INTERVAL} moves of a round, a checkpoint is recorded, so the {@link Replay} loader can seek
+ * to any move without replaying the whole round. See {@link ReplayFormat} for the file format.
+ */
+public final class ReplayRecorder implements EngineListener, AutoCloseable {
+    /**
+     * The amount of moves between two checkpoints of the same round.
+     */
+    public static final int CHECKPOINT_INTERVAL = 64;
+
+    /**
+     * The amount of records which may be waiting for the writer.
+     */
+    static final int QUEUE_CAPACITY = 1024;
+
+    /**
+     * Queued by {@link #close()} to stop the writer.
+     */
+    private static final byte[] END = new byte[0];
+
+    /**
+     * The levels played by the engine.
+     */
+    private final LevelSource levels;
+
+    /**
+     * The encoded records waiting to be written.
+     */
+    private final BlockingQueue<byte[]> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+    /**
+     * The background writer.
+     */
+    private final Thread writer;
+
+    /**
+     * The first error of the writer, or null.
+     */
+    private volatile IOException failure;
+
+    /**
+     * The geometry of the current level.
+     */
+    private ReplayFormat.Geometry geometry;
+
+    /**
+     * The clicks on every cell since the round started, modulo the amount of states of its tile.
+     */
+    private final Map<Integer, Integer> clicks = new HashMap<>();
+
+    /**
+     * The moves taken in the current round.
+     */
+    private int moves;
+
+    /**
+     * The time of the previous record, in epoch milliseconds.
+     */
+    private long previous;
+
+    /**
+     * True, once the recorder has been closed.
+     */
+    private boolean closed;
+
+    /**
+     * Instantiates a new recorder.
+     *
+     * @param levels the levels played by the engine.
+     * @param out    the stream to write to. It is closed together with the recorder.
+     */
+    private ReplayRecorder(LevelSource levels, OutputStream out) {
+        this.levels = levels;
+        this.previous = System.currentTimeMillis();
+
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        header.writeBytes(ByteBuffer.allocate(Integer.BYTES).putInt(ReplayFormat.MAGIC).array());
+        ReplayFormat.writeVarLong(header, previous);
+        enqueue(header);
+
+        writer = new Thread(() -> write(out), "replay-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Starts recording an engine into a file. Should be attached before the first interaction of the current round.
+     *
+     * @param engine the engine to record.
+     * @param levels the levels played by the engine.
+     * @param file   the replay file. An existing file is overwritten.
+     * @return the recorder, which must be closed once the session ends.
+     * @throws IOException if the file cannot be created.
+     */
+    public static ReplayRecorder attach(Engine engine, LevelSource levels, Path file) throws IOException {
+        ReplayRecorder recorder = new ReplayRecorder(levels, Files.newOutputStream(file));
+
+        recorder.startRound(engine.getLevelID());
+        engine.addListener(recorder);
+
+        return recorder;
+    }
+
+    /**
+     * Records level changes and interactions. Called by the engine.
+     *
+     * @param event the event describing the change.
+     */
+    @Override
+    public void onEvent(EngineEvent event) {
+        if (closed) return;
+
+        if (event instanceof EngineEvent.LevelChanged e) {
+            startRound(e.levelID());
+        } else if (event instanceof EngineEvent.Interacted e) {
+            int cell = geometry.cellOf(e.interaction().pos());
+            int period = geometry.periods().getOrDefault(cell, 1);
+            int step = period == 4 && e.interaction().button() == Button.LEFT ? 3 : 1;
+
+            ByteArrayOutputStream record = record(ReplayFormat.MOVE);
+            ReplayFormat.writeVarLong(record, cell);
+            ReplayFormat.writeVarLong(record, e.interaction().button().ordinal());
+            writeTime(record);
+            enqueue(record);
+
+            clicks.merge(cell, step, (a, b) -> (a + b) % period);
+            if (++moves % CHECKPOINT_INTERVAL == 0) checkpoint();
+        }
+    }
+
+    /**
+     * Stops recording and waits for all records to be written.
+     *
+     * @throws IOException if the replay could not be written completely.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            enqueue(END);
+
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        if (failure != null) throw failure;
+    }
+
+    /**
+     * Records the start of a new round.
+     *
+     * @param levelID the ID of the level.
+     */
+    private void startRound(int levelID) {
+        geometry = ReplayFormat.Geometry.of(levels.getLevel(levelID));
+        clicks.clear();
+        moves = 0;
+
+        ByteArrayOutputStream record = record(ReplayFormat.LEVEL);
+        ReplayFormat.writeVarLong(record, levelID);
+        writeTime(record);
+        enqueue(record);
+    }
+
+    /**
+     * Records the clicks on every cell since the round started, ordered by cell.
+     */
+    private void checkpoint() {
+        int[] cells = clicks.entrySet().stream()
+                .filter(e -> e.getValue() != 0)
+                .mapToInt(Map.Entry::getKey)
+                .sorted()
+                .toArray();
+
+        ByteArrayOutputStream record = record(ReplayFormat.CHECKPOINT);
+        ReplayFormat.writeVarLong(record, cells.length);
+        for (int i = 0; i < cells.length; i++) {
+            ReplayFormat.writeVarLong(record, cells[i] - (i == 0 ? 0 : cells[i - 1]));
+            ReplayFormat.writeVarLong(record, clicks.get(cells[i]));
+        }
+        enqueue(record);
+    }
+
+    /**
+     * Starts a new record.
+     *
+     * @param tag the tag of the record.
+     * @return the stream to encode the record into.
+     */
+    private static ByteArrayOutputStream record(int tag) {
+        ByteArrayOutputStream record = new ByteArrayOutputStream(16);
+        record.write(tag);
+        return record;
+    }
+
+    /**
+     * Encodes the time since the previous record.
+     *
+     * @param record the record to encode the time into.
+     */
+    private void writeTime(ByteArrayOutputStream record) {
+        long now = System.currentTimeMillis();
+        ReplayFormat.writeVarLong(record, Math.max(0, now - previous));
+        previous = Math.max(previous, now);
+    }
+
+    /**
+     * Hands a record to the writer.
+     *
+     * @param record the record.
+     */
+    private void enqueue(ByteArrayOutputStream record) {
+        enqueue(record.toByteArray());
+    }
+
+    /**
+     * Hands encoded bytes to the writer, waiting if its queue is full. Dropped if the writer has failed.
+     *
+     * @param bytes the encoded bytes.
+     */
+    private void enqueue(byte[] bytes) {
+        if (failure != null) return;
+
+        try {
+            queue.put(bytes);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while recording.", e);
+        }
+    }
+
+    /**
+     * Writes all queued records until the recorder is closed. Runs on the writer thread.
+     *
+     * @param destination the stream to write to.
+     */
+    private void write(OutputStream destination) {
+        try (OutputStream out = new BufferedOutputStream(destination)) {
+            for (byte[] record; (record = queue.take()) != END; ) {
+                out.write(record);
+                if (queue.isEmpty()) out.flush();
+            }
+        } catch (IOException e) {
+            failure = e;
+            queue.clear();
+        } catch (InterruptedException e) {
+            failure = new IOException("Replay writer was interrupted.", e);
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package engine;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+
+/**
+ * The Solver class. Determines the least amount of moves needed to complete a level.
+ * <p>
+ * The search is a breadth-first search over the states of all intractable tiles. Mirrors have four states,
+ * tunnels two, and all clickable switches of the same colour share a single state, as they are always toggled together.
+ * Each state is encoded using two bits per intractable tile, so a level may contain at most {@link #MAX_HANDLES} of them.
+ * <p>
+ * Using the {@link Reachability} analysis, tiles which no laser can ever reach are left out of the search entirely.
+ * States in which all tiles treat every possible beam the same way are equivalent, so they are only evaluated once.
+ */
+final class Solver {
+    /**
+     * The value returned if a level cannot be solved (within the given state limit).
+     */
+    static final int UNSOLVABLE = -1;
+
+    /**
+     * The maximum amount of relevant intractable tiles (or switch groups) the solver can encode in one state.
+     */
+    static final int MAX_HANDLES = 31;
+
+    /**
+     * The board in its initial state. Copied for every state that is evaluated.
+     */
+    private final Board initial;
+
+    /**
+     * The positions which are clicked to change the state. Contains one position per clickable switch colour.
+     */
+    private final List<Pair<Integer, Integer>> handles;
+
+    /**
+     * The amount of states each handle can be in, matching {@link #handles} by index.
+     */
+    private final int[] periods;
+
+    /**
+     * The equivalence class of every handle after it has been clicked a certain amount of times.
+     * Click counts with the same class treat all beams the same way.
+     *
+     * @see #canonical(long)
+     */
+    private final int[][] classes;
+
+    /**
+     * The results of all evaluated states, indexed by their {@link #canonical(long)} state.
+     */
+    private final Map<Long, Boolean> evaluated = new HashMap<>();
+
+    /**
+     * Instantiates a new solver for the given tiles.
+     *
+     * @param tiles the tiles of the level in their initial state. They are copied and not modified.
+     * @throws IllegalArgumentException if the level contains more than {@link #MAX_HANDLES} relevant intractable tiles.
+     */
+    private Solver(Map<Pair<Integer, Integer>, Tile> tiles) {
+        Set<Tile.Type> seenSwitches = EnumSet.noneOf(Tile.Type.class);
+        Reachability reachability = Reachability.of(tiles);
+        Set<Pair<Integer, Integer>> relevant = reachability.getRelevantTiles(tiles);
+
+        initial = new Board(tiles).copy();
+        handles = tiles.entrySet().stream()
+                .filter(e -> relevant.contains(e.getKey()))
+                .sorted(Comparator.comparing((Map.Entry<Pair<Integer, Integer>, Tile> e) -> e.getKey().y())
+                        .thenComparing(e -> e.getKey().x()))
+                .filter(e -> !e.getValue().getType().isSwitch() || seenSwitches.add(e.getValue().getType()))
+                .map(Map.Entry::getKey)
+                .toList();
+
+        if (handles.size() > MAX_HANDLES)
+            throw new IllegalArgumentException("Level has too many intractable tiles to be solved.");
+
+        periods = handles.stream().mapToInt(p -> tiles.get(p).getType().equals(Tile.Type.MIRROR) ? 4 : 2).toArray();
+        classes = new int[handles.size()][];
+
+        for (int i = 0; i < handles.size(); i++) {
+            Tile.Type type = tiles.get(handles.get(i)).getType();
+            List<Pair<Integer, Integer>> members = type.isSwitch()
+                    ? tiles.keySet().stream().filter(p -> tiles.get(p).getType().equals(type)).toList()
+                    : List.of(handles.get(i));
+            List<List<Pair<Integer, Integer>>> seen = new ArrayList<>();
+
+            classes[i] = new int[periods[i]];
+            for (int count = 0; count < periods[i]; count++) {
+                List<Pair<Integer, Integer>> exits = new ArrayList<>();
+
+                for (Pair<Integer, Integer> member : members) {
+                    Tile tile = tiles.get(member).clone();
+                    for (int k = 0; k < count; k++) tile.interact(Button.RIGHT, Map.of(member, tile));
+                    exits.addAll(reachability.getExits(member, tile));
+                }
+
+                if (!seen.contains(exits)) seen.add(exits);
+                classes[i][count] = seen.indexOf(exits);
+            }
+        }
+    }
+
+    /**
+     * Determines the least amount of moves needed to complete the level.
+     *
+     * @param tiles     the tiles of the level in their initial state. They are copied and not modified.
+     * @param maxStates the amount of states after which the search is given up.
+     * @return the least amount of moves, or {@link #UNSOLVABLE} if the level cannot be completed within the state limit.
+     * @throws IllegalArgumentException if the level contains more than {@link #MAX_HANDLES} relevant intractable tiles.
+     */
+    static int solve(Map<Pair<Integer, Integer>, Tile> tiles, int maxStates) {
+        return new Solver(tiles).search(maxStates);
+    }
+
+    /**
+     * Determines the least amount of moves needed to complete the level from every state it can be in.
+     *
+     * @param tiles     the tiles of the level in their initial state. They are copied and not modified.
+     * @param maxStates the amount of states from which on the level is considered too large.
+     * @return the distance table, or null if the level has more states than allowed.
+     * @see DistanceTable
+     */
+    static DistanceTable tabulate(Map<Pair<Integer, Integer>, Tile> tiles, int maxStates) {
+        Solver solver;
+
+        try {
+            solver = new Solver(tiles);
+        } catch (IllegalArgumentException e) {
+            return null; // too many handles
+        }
+
+        return solver.tabulate(maxStates, tiles);
+    }
+
+    /**
+     * Runs a retrograde breadth-first search, starting at all completed states at once.
+     * <p>
+     * Every move can be undone by clicking the same handle with the other button, so the distance from a state to the
+     * nearest completed state equals the distance from the nearest completed state back to it.
+     * States are indexed using a mixed radix, with one digit per handle holding its click count.
+     *
+     * @param maxStates the amount of states from which on the level is considered too large.
+     * @param tiles     the tiles of the level in their initial state.
+     * @return the distance table, or null if the level has more states than allowed.
+     */
+    private DistanceTable tabulate(int maxStates, Map<Pair<Integer, Integer>, Tile> tiles) {
+        long total = Arrays.stream(periods).asLongStream().reduce(1, (a, b) -> a * b);
+        if (total > maxStates) return null;
+
+        byte[] distances = new byte[(int) total];
+        int[] queue = new int[distances.length];
+        int head = 0, tail = 0;
+
+        Arrays.fill(distances, (byte) DistanceTable.UNREACHABLE);
+
+        for (int index = 0; index < distances.length; index++)
+            if (isCompleted(stateOf(index))) {
+                distances[index] = 0;
+                queue[tail++] = index;
+            }
+
+        while (head < tail) {
+            int index = queue[head++];
+
+            for (int i = 0, radix = 1; i < handles.size(); radix *= periods[i++]) {
+                int count = index / radix % periods[i];
+
+                for (int step : new int[]{1, periods[i] - 1}) {
+                    int neighbour = index + ((count + step) % periods[i] - count) * radix;
+
+                    if ((distances[neighbour] & 0xFF) == DistanceTable.UNREACHABLE) {
+                        distances[neighbour] = (byte) ((distances[index] & 0xFF) + 1);
+                        queue[tail++] = neighbour;
+                    }
+                }
+            }
+        }
+
+        return new DistanceTable(handles, periods, handles.stream().mapToInt(p -> tiles.get(p).getState()).toArray(),
+                ByteBuffer.wrap(distances));
+    }
+
+    /**
+     * Converts a mixed radix state index (see {@link #tabulate(int, Map)}) into an encoded state.
+     *
+     * @param index the state index.
+     * @return the encoded state.
+     */
+    private long stateOf(int index) {
+        long state = 0;
+
+        for (int i = 0; i < handles.size(); index /= periods[i++])
+            state = withCount(state, i, index % periods[i]);
+
+        return state;
+    }
+
+    /**
+     * Runs the breadth-first search, starting at the initial state (encoded as 0).
+     *
+     * @param maxStates the amount of states after which the search is given up.
+     * @return the least amount of moves, or {@link #UNSOLVABLE}.
+     */
+    private int search(int maxStates) {
+        Set<Long> visited = new HashSet<>(List.of(0L));
+        List<Long> frontier = List.of(0L);
+
+        for (int moves = 0; !frontier.isEmpty(); moves++) {
+            List<Long> next = new ArrayList<>();
+
+            for (long state : frontier) {
+                if (isCompleted(state)) return moves;
+
+                for (int i = 0; i < handles.size(); i++)
+                    for (int step : new int[]{1, periods[i] - 1}) {
+                        long neighbour = withCount(state, i, (countOf(state, i) + step) % periods[i]);
+
+                        if (visited.add(neighbour)) next.add(neighbour);
+                    }
+
+                if (visited.size() > maxStates) return UNSOLVABLE;
+            }
+
+            frontier = next;
+        }
+
+        return UNSOLVABLE;
+    }
+
+    /**
+     * Checks if a state is completed, evaluating it only if no equivalent state has been evaluated before.
+     *
+     * @param state the encoded state.
+     * @return true, if all lasers end on a target in this state.
+     */
+    private boolean isCompleted(long state) {
+        return evaluated.computeIfAbsent(canonical(state), this::evaluate);
+    }
+
+    /**
+     * Replaces the click count of every handle with the smallest click count of the same equivalence class.
+     *
+     * @param state the encoded state.
+     * @return the encoded state representing all states equivalent to the given one.
+     */
+    private long canonical(long state) {
+        long output = 0;
+
+        for (int i = 0; i < handles.size(); i++) {
+            int count = countOf(state, i);
+            int smallest = 0;
+            while (classes[i][smallest] != classes[i][count]) smallest++;
+            output = withCount(output, i, smallest);
+        }
+
+        return output;
+    }
+
+    /**
+     * Builds the board belonging to a state and checks if it is completed.
+     * <p>
+     * Every handle is clicked (with the right mouse button) as many times as the state declares.
+     *
+     * @param state the encoded state.
+     * @return true, if all lasers end on a target in this state.
+     */
+    private boolean evaluate(long state) {
+        Board board = initial.copy();
+
+        for (int i = 0; i < handles.size(); i++)
+            for (int k = 0; k < countOf(state, i); k++)
+                board.interact(handles.get(i), Button.RIGHT);
+
+        board.settle();
+        return board.isCompleted();
+    }
+
+    /**
+     * Extracts how often a handle has been clicked from an encoded state.
+     *
+     * @param state  the encoded state.
+     * @param handle the index of the handle.
+     * @return the click count, always smaller than the period of the handle.
+     */
+    private static int countOf(long state, int handle) {
+        return (int) (state >> (2 * handle)) & 3;
+    }
+
+    /**
+     * Replaces the click count of one handle within an encoded state.
+     *
+     * @param state  the encoded state.
+     * @param handle the index of the handle.
+     * @param count  the new click count.
+     * @return the new encoded state.
+     */
+    private static long withCount(long state, int handle, int count) {
+        return state & ~(3L << (2 * handle)) | ((long) count << (2 * handle));
+    }
+}
@@ -0,0 +1,403 @@
+package engine;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static engine.Tile.Type.*;
+
+/**
+ * The StressLevels class. Generates synthetic levels which stress a particular part of the engine or the frontend,
+ * so benchmarks and profiling sessions can share reproducible inputs far larger than the shipped levels.
+ * <p>
+ * Every {@link Kind} is generated as a square of the requested size, enclosed by stones so no laser can leave it.
+ * The first laser of every level starts in the top left corner, heading east through the open {@link #GATE}.
+ * Generation is deterministic: the same kind, size and seed always result in the same level.
+ * <p>
+ * The levels are meant to be measured, not played, so their min moves are 0. Below the gate, every level holds a blue laser
+ * which runs into the outline right away, so the levels can never be completed and accept any amount of interactions.
+ */
+public final class StressLevels {
+    /**
+     * The smallest supported edge length.
+     */
+    public static final int MIN_SIZE = 10;
+
+    /**
+     * The largest supported edge length.
+     */
+    public static final int MAX_SIZE = 2000;
+
+    /**
+     * The position of the cyan switch directly in front of the first laser of every level, which is open initially.
+     * Toggling it cuts off the laser or restores its whole path, so benchmarks interact with it.
+     */
+    public static final Pair<Integer, Integer> GATE = Pair.of(2, 1);
+
+    /**
+     * The edge lengths generated if none are given.
+     */
+    private static final int[] DEFAULT_SIZES = {10, 100, 500};
+
+    /**
+     * The share of free cells covered by decoys, which are not crossed by any laser.
+     */
+    private static final double DECOY_DENSITY = 0.1;
+
+    /**
+     * The share of cells covered by mirrors in the {@link Kind#EMITTERS} levels, deflecting the lasers into each other.
+     */
+    private static final double EMITTER_MIRROR_DENSITY = 0.02;
+
+    /**
+     * The kinds of stress levels.
+     */
+    public enum Kind {
+        /**
+         * A huge open floor crossed by a single laser along its top, with scattered stones. Stresses copying and drawing many tiles.
+         */
+        OPEN_FLOOR,
+        /**
+         * A single laser winding through every other row, deflected by a mirror at the end of each. Stresses long laser paths.
+         */
+        ZIG_ZAG,
+        /**
+         * Rows of lasers blocked by laser switches of the previous row's colour, so completing one colour releases the next.
+         * The rows in between are filled with laser switches. Stresses the passes of the settlement.
+         */
+        SWITCH_CASCADE,
+        /**
+         * A laser in every other row, crossing each other through scattered mirrors. Stresses tracing many lasers.
+         */
+        EMITTERS,
+        /**
+         * A single laser spiralling inwards, every lap running right next to the previous one. Stresses paths which almost loop.
+         */
+        NEAR_LOOP
+    }
+
+    /**
+     * Not to be instantiated.
+     */
+    private StressLevels() {
+    }
+
+    /**
+     * Generates a corpus of stress levels and writes it to a file.
+     * <p>
+     * Arguments (all optional, in this order): output file, seed, edge lengths. Every kind is generated for every edge length.
+     *
+     * @param args the launch arguments.
+     * @throws IOException if the output file cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 0;
+        int[] sizes = args.length > 2
+                ? Arrays.stream(args, 2, args.length).mapToInt(Integer::parseInt).toArray()
+                : DEFAULT_SIZES;
+
+        long start = System.nanoTime();
+        LevelPack pack = generate(sizes, seed);
+        pack.write(Path.of(args.length > 0 ? args[0] : "stress_levels.json"));
+
+        System.out.printf("Generated %d stress levels in %d ms (seed %d)%n", pack.size(), (System.nanoTime() - start) / 1_000_000, seed);
+    }
+
+    /**
+     * Generates every kind of stress level for every given edge length.
+     *
+     * @param sizes the edge lengths, each between {@link #MIN_SIZE} and {@link #MAX_SIZE}.
+     * @param seed  the seed.
+     * @return the levels, ordered by edge length first and kind second.
+     * @throws IllegalArgumentException if an edge length is not supported.
+     */
+    public static LevelPack generate(int[] sizes, long seed) {
+        List<LevelData> levels = new ArrayList<>();
+
+        for (int size : sizes)
+            for (Kind kind : Kind.values())
+                levels.add(generate(kind, size, seed));
+
+        return new LevelPack(levels);
+    }
+
+    /**
+     * Generates a single stress level.
+     *
+     * @param kind the kind of level.
+     * @param size the edge length, between {@link #MIN_SIZE} and {@link #MAX_SIZE}.
+     * @param seed the seed.
+     * @return the level.
+     * @throws IllegalArgumentException if the edge length is not supported.
+     */
+    public static LevelData generate(Kind kind, int size, long seed) {
+        if (size < MIN_SIZE || size > MAX_SIZE)
+            throw new IllegalArgumentException("Edge length " + size + " is not between " + MIN_SIZE + " and " + MAX_SIZE + ".");
+
+        Grid grid = new Grid(size);
+        Random random = new Random((seed * 31 + kind.ordinal()) * 31 + size);
+
+        switch (kind) {
+            case OPEN_FLOOR -> openFloor(grid, random);
+            case ZIG_ZAG -> zigZag(grid, random);
+            case SWITCH_CASCADE -> switchCascade(grid, random);
+            case EMITTERS -> emitters(grid, random);
+            case NEAR_LOOP -> nearLoop(grid, random);
+        }
+
+        grid.set(GATE.x() - 1, GATE.y() - 1, SWITCH_CYAN, 0);
+        grid.set(GATE.x() - 1, GATE.y(), LASER_BLUE, 3);
+        grid.set(GATE.x() - 2, GATE.y(), FLOOR, 0);
+
+        return grid.toData("Stress " + kind.name().toLowerCase().replace('_', ' ') + " " + size + "x" + size);
+    }
+
+    /**
+     * Fills a grid with an {@link Kind#OPEN_FLOOR} level.
+     *
+     * @param grid   the empty grid.
+     * @param random the random generator.
+     */
+    private static void openFloor(Grid grid, Random random) {
+        grid.set(0, 0, LASER_RED, 1);
+        grid.trace(1, 0, grid.inner - 1, 0);
+        grid.set(grid.inner - 1, 0, STONE_TARGET, 0);
+
+        grid.scatter(random, DECOY_DENSITY / 4, List.of(STONE, STONE_BROKEN, STONE_CHIPPED));
+    }
+
+    /**
+     * Fills a grid with a {@link Kind#ZIG_ZAG} level. The laser runs east along row 0, west along row 2, and so on.
+     *
+     * @param grid   the empty grid.
+     * @param random the random generator.
+     */
+    private static void zigZag(Grid grid, Random random) {
+        int last = grid.inner - 1;
+        grid.set(0, 0, LASER_RED, 1);
+
+        int y = 0;
+        for (boolean east = true; ; east = !east, y += 2) {
+            int end = east ? last : 0;
+            grid.trace(east ? 1 : last - 1, y, end, y);
+            if (y + 2 > last) {
+                grid.set(end, y, STONE_TARGET, 0);
+                break;
+            }
+
+            // turn south (clockwise when heading east), then back into the next row
+            grid.set(end, y, MIRROR, east ? 1 : 0);
+            grid.trace(end, y + 1, end, y + 2);
+            grid.set(end, y + 2, MIRROR, east ? 2 : 3);
+        }
+
+        grid.scatter(random, DECOY_DENSITY, List.of(MIRROR, STONE, TUNNELS_LEFT, TUNNELS_RIGHT));
+    }
+
+    /**
+     * Fills a grid with a {@link Kind#SWITCH_CASCADE} level. Rows 0, 2, 4, ... each hold a laser heading east onto a target,
+     * the colours repeating in the order of {@link Laser.Color}. All rows but the first are blocked by laser switches
+     * of the colour of the row above, so each colour is only completed once the previous one has been.
+     *
+     * @param grid   the empty grid.
+     * @param random the random generator.
+     */
+    private static void switchCascade(Grid grid, Random random) {
+        Laser.Color[] colors = Laser.Color.values();
+
+        for (int y = 0, row = 0; y < grid.inner; y += 2, row++) {
+            Laser.Color color = colors[row % colors.length];
+            grid.set(0, y, sourceOf(color), 1);
+            grid.trace(1, y, grid.inner - 1, y);
+            grid.set(grid.inner - 1, y, STONE_TARGET, 0);
+
+            if (row > 0)
+                for (int x = 2; x < grid.inner - 1; x += 4)
+                    grid.set(x, y, Tile.Type.getSwitchByColor(colors[(row - 1) % colors.length]), 1);
+        }
+
+        grid.scatter(random, 0.5, List.of(SWITCH_RED, SWITCH_GREEN, SWITCH_BLUE));
+    }
+
+    /**
+     * Fills a grid with an {@link Kind#EMITTERS} level. Rows 0, 2, 4, ... each hold a laser heading east onto a target,
+     * while scattered mirrors deflect the lasers across each other.
+     *
+     * @param grid   the empty grid.
+     * @param random the random generator.
+     */
+    private static void emitters(Grid grid, Random random) {
+        Laser.Color[] colors = Laser.Color.values();
+
+        for (int y = 0; y < grid.inner; y += 2) {
+            grid.set(0, y, sourceOf(colors[random.nextInt(colors.length)]), 1);
+            grid.set(grid.inner - 1, y, STONE_TARGET, 0);
+        }
+
+        grid.scatter(random, EMITTER_MIRROR_DENSITY, List.of(MIRROR));
+    }
+
+    /**
+     * Fills a grid with a {@link Kind#NEAR_LOOP} level. The laser turns clockwise at every corner of a shrinking rectangle,
+     * each lap two cells inside the previous one, until the next leg would be too short. It then ends on a target.
+     *
+     * @param grid   the empty grid.
+     * @param random the random generator.
+     */
+    private static void nearLoop(Grid grid, Random random) {
+        int top = 0, right = grid.inner - 1, bottom = grid.inner - 1, left = 0;
+        int x = 0, y = 0, rotation = 1;
+        grid.set(0, 0, LASER_RED, 1);
+
+        while (true) {
+            // the corner the current leg heads for, and the bound moving inwards once it is reached
+            int nextX = rotation == 1 ? right : rotation == 3 ? left : x;
+            int nextY = rotation == 2 ? bottom : rotation == 0 ? top : y;
+            if (Math.abs(nextX - x) + Math.abs(nextY - y) < 2) break;
+
+            grid.trace(x + Integer.signum(nextX - x), y + Integer.signum(nextY - y), nextX, nextY);
+            grid.set(nextX, nextY, MIRROR, rotation);
+            x = nextX;
+            y = nextY;
+
+            switch (rotation) {
+                case 1 -> top += 2;
+                case 2 -> right -= 2;
+                case 3 -> bottom -= 2;
+                default -> left += 2;
+            }
+            rotation = (rotation + 1) % 4;
+        }
+
+        // the laser would now run back through earlier laps, so it is stopped right after the last corner
+        int endX = x + (rotation == 1 ? 1 : rotation == 3 ? -1 : 0), endY = y + (rotation == 2 ? 1 : rotation == 0 ? -1 : 0);
+        grid.set(endX, endY, STONE_TARGET, 0);
+
+        grid.scatter(random, DECOY_DENSITY, List.of(MIRROR, STONE));
+    }
+
+    /**
+     * Getter for the laser source of a colour.
+     *
+     * @param color the colour.
+     * @return the laser source tile type.
+     */
+    private static Tile.Type sourceOf(Laser.Color color) {
+        return switch (color) {
+            case RED -> LASER_RED;
+            case GREEN -> LASER_GREEN;
+            case BLUE -> LASER_BLUE;
+        };
+    }
+
+    /**
+     * A square level under construction. The outermost ring is made of stones, coordinates passed to the methods
+     * are relative to the area inside of it.
+     */
+    private static final class Grid {
+        /**
+         * The edge length of the whole level.
+         */
+        private final int size;
+
+        /**
+         * The edge length of the area inside the ring of stones.
+         */
+        private final int inner;
+
+        /**
+         * The tile type of every cell of the inner area, indexed row by row. Null for floor.
+         */
+        private final Tile.Type[] types;
+
+        /**
+         * The state of every cell of the inner area.
+         */
+        private final int[] states;
+
+        /**
+         * True, if a laser crosses the cell, so no decoy may be placed there.
+         */
+        private final boolean[] reserved;
+
+        /**
+         * Instantiates a new grid of floor.
+         *
+         * @param size the edge length of the whole level.
+         */
+        Grid(int size) {
+            this.size = size;
+            this.inner = size - 2;
+            this.types = new Tile.Type[inner * inner];
+            this.states = new int[inner * inner];
+            this.reserved = new boolean[inner * inner];
+        }
+
+        /**
+         * Places a tile, and reserves its cell.
+         *
+         * @param x     the x-coordinate within the inner area.
+         * @param y     the y-coordinate within the inner area.
+         * @param type  the tile type.
+         * @param state the state.
+         */
+        void set(int x, int y, Tile.Type type, int state) {
+            types[y * inner + x] = type;
+            states[y * inner + x] = state;
+            reserved[y * inner + x] = true;
+        }
+
+        /**
+         * Reserves the cells of a straight laser segment, both ends included.
+         *
+         * @param x1 the x-coordinate of the first cell.
+         * @param y1 the y-coordinate of the first cell.
+         * @param x2 the x-coordinate of the last cell.
+         * @param y2 the y-coordinate of the last cell.
+         */
+        void trace(int x1, int y1, int x2, int y2) {
+            for (int x = Math.min(x1, x2); x <= Math.max(x1, x2); x++)
+                for (int y = Math.min(y1, y2); y <= Math.max(y1, y2); y++)
+                    reserved[y * inner + x] = true;
+        }
+
+        /**
+         * Places decoys in a random state on free floor cells.
+         *
+         * @param random  the random generator.
+         * @param density the share of free cells to cover.
+         * @param decoys  the tile types to choose from.
+         */
+        void scatter(Random random, double density, List<Tile.Type> decoys) {
+            for (int i = 0; i < types.length; i++)
+                if (!reserved[i] && random.nextDouble() < density) {
+                    types[i] = decoys.get(random.nextInt(decoys.size()));
+                    states[i] = random.nextInt(types[i].getStateCount());
+                }
+        }
+
+        /**
+         * Converts the grid into the raw data of a level.
+         *
+         * @param description the description of the level.
+         * @return the level, with all tiles ordered row by row.
+         */
+        LevelData toData(String description) {
+            List<LevelData.TileData> tiles = new ArrayList<>(size * size);
+
+            for (int y = 0; y < size; y++)
+                for (int x = 0; x < size; x++) {
+                    boolean wall = x == 0 || y == 0 || x == size - 1 || y == size - 1;
+                    int i = wall ? -1 : (y - 1) * inner + x - 1;
+                    Tile.Type type = wall ? STONE : types[i] == null ? FLOOR : types[i];
+
+                    tiles.add(new LevelData.TileData(x, y, wall ? 0 : states[i], type.name()));
+                }
+
+            return new LevelData(description, 0, tiles);
+        }
+    }
+}
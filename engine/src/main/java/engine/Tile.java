@@ -1,7 +1,6 @@
 package engine;
 
-import processing.core.PConstants;
-
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -138,15 +137,28 @@ public class Tile {
     /**
      * Interacts with the tile. May result in different changes based on the {@link #type}.
      *
-     * @param button the encoded mouse button.
+     * @param button the mouse button used for the interaction, or {@link Button#NONE} for laser activation.
      * @param tiles  the tiles. Needed to update potential side effects (such as when a switch is pressed)
      */
-    public void interact(int button, Map<Pair<Integer, Integer>, Tile> tiles) {
+    public void interact(Button button, Map<Pair<Integer, Integer>, Tile> tiles) {
+        interactWithGroup(button, tiles == null ? List.of() : tiles.values());
+    }
+
+    /**
+     * Interacts with the tile, only considering the given group of tiles for side effects.
+     * <p>
+     * Pressing a cyan, yellow or magenta switch toggles every tile of the same type within the group.
+     * Handing over only the members of that switch group (as the {@link GameEngine} does) avoids searching the entire board.
+     *
+     * @param button the mouse button used for the interaction, or {@link Button#NONE} for laser activation.
+     * @param group  the tiles which may be affected by side effects. Tiles of a different type are ignored.
+     */
+    void interactWithGroup(Button button, Collection<Tile> group) {
 
         switch (this.type) {
-            case MIRROR -> state = button == PConstants.LEFT ? (4 + state % 4 + 3) % 4 : (4 + state % 4 + 1) % 4;
+            case MIRROR -> state = button == Button.LEFT ? (4 + state % 4 + 3) % 4 : (4 + state % 4 + 1) % 4;
 
-            case SWITCH_CYAN, SWITCH_YELLOW, SWITCH_MAGENTA -> tiles.values().stream()
+            case SWITCH_CYAN, SWITCH_YELLOW, SWITCH_MAGENTA -> group.stream()
                     .filter(t -> t.type.equals(this.type))
                     .forEach(t -> {
                         t.state = (t.state + 1) % 2;
@@ -154,7 +166,7 @@ public class Tile {
                     });
 
             case SWITCH_RED, SWITCH_GREEN, SWITCH_BLUE -> {
-                if (button != 0)
+                if (button != Button.NONE)
                     throw new IllegalArgumentException("This tile cannot be interacted with manually.");
                 state = (2 + initialState + 1) % 2;
                 collision = !initialCollision;
@@ -257,7 +269,7 @@ public class Tile {
          */
         FLOOR(false, false),
         /**
-         * Mirror. Can be interacted with (see {@link #interact(int, Map)} method).
+         * Mirror. Can be interacted with (see {@link #interact(Button, Map)} method).
          */
         MIRROR(true, true),
         /**
@@ -343,6 +355,15 @@ public class Tile {
             return this == SWITCH_RED || this == SWITCH_GREEN || this == SWITCH_BLUE;
         }
 
+        /**
+         * Determines if the instance is of any switch type.
+         *
+         * @return true, if instance is a switch, no matter if it is toggled by lasers or by clicking.
+         */
+        public boolean isSwitch() {
+            return isLaserSwitch() || this == SWITCH_CYAN || this == SWITCH_YELLOW || this == SWITCH_MAGENTA;
+        }
+
         /**
          * Determines if the instance is of type laser source.
          *
@@ -352,6 +373,16 @@ public class Tile {
             return this == LASER_RED || this == LASER_GREEN || this == LASER_BLUE;
         }
 
+        /**
+         * Determines the amount of distinct states of this type. Switches, tunnels and redirects are either on or off,
+         * all other types are rotated (if only cosmetically).
+         *
+         * @return the amount of states, so valid states range from 0 to one less than this.
+         */
+        int getStateCount() {
+            return isSwitch() || this == TUNNELS_LEFT || this == TUNNELS_RIGHT || this == REDIRECT ? 2 : 4;
+        }
+
         /**
          * Getter for canInteract variable.
          *
@@ -0,0 +1,462 @@
+package engine;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.IntStream;
+
+/**
+ * The VectorEnvironment class. Plays many copies of a level in lockstep, for training automated players without any frontend.
+ * <p>
+ * Every step takes one action per environment, given as a cell index and a button, and writes its outcome into buffers
+ * which are allocated once and reused: the observations as a packed tensor, one reward and one done flag per environment.
+ * Environments are split into contiguous shards, which are stepped in parallel by tasks created once and reused.
+ * Apart from tracing the lasers and toggling switches, which are done by the board, a step does not allocate.
+ * <p>
+ * The observation of an environment consists of {@link #PLANES} planes of {@link #getWidth()} * {@link #getHeight()} bytes,
+ * stored row by row. Cell indices address the same cells, counted from the top left corner of the level.
+ * <ul>
+ *     <li>{@link #TYPE_PLANE}: the ordinal of the tile type plus one, or 0 if there is no tile</li>
+ *     <li>{@link #STATE_PLANE}: the state of the tile</li>
+ *     <li>{@link #LASER_PLANE}: the colors of all lasers passing through the cell, one bit per {@link Laser.Color} ordinal</li>
+ * </ul>
+ * Once an environment is done, the next step resets it instead of applying its action, and reports a reward of 0.
+ */
+public final class VectorEnvironment {
+    /**
+     * The amount of planes per observation.
+     */
+    public static final int PLANES = 3;
+
+    /**
+     * The plane holding the tile types.
+     */
+    public static final int TYPE_PLANE = 0;
+
+    /**
+     * The plane holding the tile states.
+     */
+    public static final int STATE_PLANE = 1;
+
+    /**
+     * The plane holding the laser occupancy.
+     */
+    public static final int LASER_PLANE = 2;
+
+    /**
+     * The reward for completing the level.
+     */
+    public static final float COMPLETION_REWARD = 1;
+
+    /**
+     * The penalty for every move, so shorter solutions are preferred.
+     */
+    public static final float MOVE_PENALTY = 0.01f;
+
+    /**
+     * The boards of all environments.
+     */
+    private final Board[] boards;
+
+    /**
+     * The lasers of every board, as last written into its observation.
+     */
+    private final Set<Laser>[] lasers;
+
+    /**
+     * The position of every cell, or null if the cell does not contain a tile.
+     */
+    private final Pair<Integer, Integer>[] positions;
+
+    /**
+     * The cells which may change when the tile of a cell is interacted with: the cell itself, or all cells of its switch group.
+     * Null for cells without a tile.
+     */
+    private final int[][] affected;
+
+    /**
+     * The cells of all laser switches, which may change whenever the lasers are settled.
+     */
+    private final int[] laserSwitches;
+
+    /**
+     * Every cell of the level, written whenever an environment is reset.
+     */
+    private final int[] allCells;
+
+    /**
+     * The smallest x and y positions within the level.
+     */
+    private final int minX, minY;
+
+    /**
+     * The size of the level, in cells.
+     */
+    private final int width, height;
+
+    /**
+     * The amount of moves after which an episode ends, even if the level has not been completed.
+     */
+    private final int maxMoves;
+
+    /**
+     * The tasks stepping or resetting the shards of environments, one per shard.
+     */
+    private final Shard[] shards;
+
+    /**
+     * The moves taken in the current episode of every environment.
+     */
+    private final int[] moves;
+
+    /**
+     * The observations of all environments.
+     */
+    private final byte[] observations;
+
+    /**
+     * The rewards of the last step.
+     */
+    private final float[] rewards;
+
+    /**
+     * The done flags of the last step.
+     */
+    private final boolean[] done;
+
+    /**
+     * The actions of the step in progress, handed to the {@link #shards}.
+     */
+    private int[] cells;
+
+    /**
+     * The buttons of the step in progress, handed to the {@link #shards}.
+     */
+    private Button[] buttons;
+
+    /**
+     * Instantiates new environments, all in the initial state of the level.
+     *
+     * @param level    the level to be played.
+     * @param count    the amount of environments.
+     * @param maxMoves the amount of moves after which an episode ends unsuccessfully.
+     * @throws IllegalArgumentException if the level has no tiles, or count or maxMoves is not positive.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public VectorEnvironment(LevelData level, int count, int maxMoves) {
+        if (level.tiles().isEmpty())
+            throw new IllegalArgumentException("The level must contain tiles.");
+        if (count < 1 || maxMoves < 1)
+            throw new IllegalArgumentException("There must be at least one environment and one move per episode.");
+
+        List<LevelData.TileData> tiles = level.tiles();
+        minX = tiles.stream().mapToInt(LevelData.TileData::x).min().orElseThrow();
+        minY = tiles.stream().mapToInt(LevelData.TileData::y).min().orElseThrow();
+        width = tiles.stream().mapToInt(LevelData.TileData::x).max().orElseThrow() - minX + 1;
+        height = tiles.stream().mapToInt(LevelData.TileData::y).max().orElseThrow() - minY + 1;
+
+        positions = new Pair[width * height];
+        tiles.forEach(t -> positions[cellOf(t.x(), t.y())] = Pair.of(t.x(), t.y()));
+
+        Board initial = new Board(Level.of(level).tiles());
+        initial.settle();
+
+        Map<Tile.Type, List<Integer>> groups = new EnumMap<>(Tile.Type.class);
+        for (int cell = 0; cell < positions.length; cell++)
+            if (positions[cell] != null && initial.getTile(positions[cell]).getType().isSwitch())
+                groups.computeIfAbsent(initial.getTile(positions[cell]).getType(), t -> new ArrayList<>()).add(cell);
+
+        affected = new int[positions.length][];
+        for (int cell = 0; cell < positions.length; cell++)
+            if (positions[cell] != null)
+                affected[cell] = groups.containsKey(initial.getTile(positions[cell]).getType())
+                        ? groups.get(initial.getTile(positions[cell]).getType()).stream().mapToInt(Integer::intValue).toArray()
+                        : new int[]{cell};
+
+        laserSwitches = groups.entrySet().stream()
+                .filter(e -> e.getKey().isLaserSwitch())
+                .flatMap(e -> e.getValue().stream())
+                .mapToInt(Integer::intValue)
+                .toArray();
+        allCells = IntStream.range(0, positions.length).toArray();
+
+        this.maxMoves = maxMoves;
+        int shardCount = Math.min(count, Runtime.getRuntime().availableProcessors());
+        shards = IntStream.range(0, shardCount)
+                .mapToObj(shard -> new Shard(shard * count / shardCount, (shard + 1) * count / shardCount))
+                .toArray(Shard[]::new);
+        boards = new Board[count];
+        lasers = new Set[count];
+        moves = new int[count];
+        observations = new byte[count * PLANES * width * height];
+        rewards = new float[count];
+        done = new boolean[count];
+
+        for (int env = 0; env < count; env++) {
+            boards[env] = initial.copy();
+            lasers[env] = Set.of();
+            writeTiles(env, allCells);
+            writeLasers(env);
+        }
+    }
+
+    /**
+     * Resets all environments to the initial state of the level.
+     */
+    public void reset() {
+        run(false);
+    }
+
+    /**
+     * Applies one action to every environment and settles them, in parallel.
+     * <p>
+     * Actions targeting a cell which cannot be interacted with do nothing, but still count as a move.
+     * The lasers of such an environment are left as they are, as they cannot have changed.
+     *
+     * @param cells   the cell index of the action of every environment.
+     * @param buttons the button of the action of every environment.
+     * @throws IllegalArgumentException  if the amount of actions does not match the amount of environments.
+     * @throws IndexOutOfBoundsException if a cell index lies outside the level.
+     */
+    public void step(int[] cells, Button[] buttons) {
+        if (cells.length != boards.length || buttons.length != boards.length)
+            throw new IllegalArgumentException("There must be exactly one action per environment.");
+
+        for (int cell : cells)
+            if (cell < 0 || cell >= positions.length)
+                throw new IndexOutOfBoundsException("There is no cell with index " + cell + ".");
+
+        this.cells = cells;
+        this.buttons = buttons;
+        run(true);
+        this.cells = null;
+        this.buttons = null;
+    }
+
+    /**
+     * Getter for the observations. The same array is updated by every step.
+     *
+     * @return the observations of all environments, one after another, each laid out as described in the class comment.
+     */
+    public byte[] getObservations() {
+        return observations;
+    }
+
+    /**
+     * Getter for the rewards. The same array is updated by every step.
+     *
+     * @return the reward of every environment for the last step.
+     */
+    public float[] getRewards() {
+        return rewards;
+    }
+
+    /**
+     * Getter for the done flags. The same array is updated by every step.
+     *
+     * @return true for every environment whose episode ended with the last step.
+     */
+    public boolean[] getDone() {
+        return done;
+    }
+
+    /**
+     * Getter for the amount of environments.
+     *
+     * @return the amount of environments.
+     */
+    public int getCount() {
+        return boards.length;
+    }
+
+    /**
+     * Getter for the width of the level.
+     *
+     * @return the amount of cells per row.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Getter for the height of the level.
+     *
+     * @return the amount of rows.
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Steps or resets every environment, with the {@link #shards} running in parallel. The first shard runs on the calling thread.
+     *
+     * @param step true to step the environments with the current {@link #cells} and {@link #buttons}, false to reset them.
+     */
+    private void run(boolean step) {
+        for (Shard shard : shards) {
+            shard.reinitialize();
+            shard.step = step;
+        }
+
+        ForkJoinTask.invokeAll(shards);
+    }
+
+    /**
+     * Applies the action of the step in progress to a single environment, or resets it if its episode has ended.
+     *
+     * @param env the index of the environment.
+     */
+    private void stepEnvironment(int env) {
+        if (done[env]) {
+            resetEnvironment(env);
+            return;
+        }
+
+        Board board = boards[env];
+        int cell = cells[env];
+        Pair<Integer, Integer> pos = positions[cell];
+
+        if (pos != null && board.canInteract(pos)) {
+            board.interact(pos, buttons[env]);
+            board.settle();
+
+            writeTiles(env, affected[cell]);
+            writeTiles(env, laserSwitches);
+            writeLasers(env);
+        }
+
+        moves[env]++;
+        rewards[env] = (board.isCompleted() ? COMPLETION_REWARD : 0) - MOVE_PENALTY;
+        done[env] = board.isCompleted() || moves[env] >= maxMoves;
+    }
+
+    /**
+     * Resets a single environment to the initial state of the level.
+     *
+     * @param env the index of the environment.
+     */
+    private void resetEnvironment(int env) {
+        boards[env].reset();
+        moves[env] = 0;
+        rewards[env] = 0;
+        done[env] = false;
+
+        writeTiles(env, allCells);
+        writeLasers(env);
+    }
+
+    /**
+     * Writes the type and state of the given cells into the observation of an environment.
+     *
+     * @param env   the index of the environment.
+     * @param cells the indices of the cells to write.
+     */
+    private void writeTiles(int env, int[] cells) {
+        int offset = env * PLANES * positions.length;
+
+        for (int cell : cells) {
+            Tile tile = positions[cell] == null ? null : boards[env].getTile(positions[cell]);
+
+            observations[offset + TYPE_PLANE * positions.length + cell] = (byte) (tile == null ? 0 : tile.getType().ordinal() + 1);
+            observations[offset + STATE_PLANE * positions.length + cell] = (byte) (tile == null ? 0 : tile.getState());
+        }
+    }
+
+    /**
+     * Writes the lasers of an environment into its laser plane, unless they did not change since they were last written.
+     *
+     * @param env the index of the environment.
+     */
+    private void writeLasers(int env) {
+        Set<Laser> current = boards[env].getLasers();
+        if (current == lasers[env] || current.equals(lasers[env])) return;
+
+        int offset = (env * PLANES + LASER_PLANE) * positions.length;
+
+        for (Laser laser : lasers[env]) rasterize(laser, offset, 0);
+        for (Laser laser : current) rasterize(laser, offset, 1 << laser.color().ordinal());
+        lasers[env] = current;
+    }
+
+    /**
+     * Marks all cells a laser passes through within a laser plane. Points outside the level are skipped.
+     *
+     * @param laser  the laser.
+     * @param offset the index of the laser plane within {@link #observations}.
+     * @param bits   the color bits to add, or 0 to clear the cells instead.
+     */
+    private void rasterize(Laser laser, int offset, int bits) {
+        List<Pair<Integer, Integer>> points = laser.points();
+
+        for (int i = 0; i < points.size(); i++) {
+            Pair<Integer, Integer> from = points.get(Math.max(0, i - 1)), to = points.get(i);
+            int x = from.x(), y = from.y();
+            int dX = Integer.signum(to.x() - x), dY = Integer.signum(to.y() - y);
+
+            while (true) {
+                if (x >= minX && x < minX + width && y >= minY && y < minY + height) {
+                    int index = offset + cellOf(x, y);
+                    observations[index] = (byte) (bits == 0 ? 0 : observations[index] | bits);
+                }
+
+                if (x == to.x() && y == to.y()) break;
+                x += dX;
+                y += dY;
+            }
+        }
+    }
+
+    /**
+     * Converts a position into its cell index.
+     *
+     * @param x the x-position.
+     * @param y the y-position.
+     * @return the index of the cell, counted row by row from the top left corner of the level.
+     */
+    private int cellOf(int x, int y) {
+        return (y - minY) * width + (x - minX);
+    }
+
+    /**
+     * A contiguous shard of environments. Created once per shard and reinitialized before every run,
+     * so stepping does not allocate any tasks or lambdas. Never serialized.
+     */
+    @SuppressWarnings("serial")
+    private final class Shard extends RecursiveAction {
+        /**
+         * The first environment of this shard, and the first environment of the next shard.
+         */
+        private final int from, to;
+
+        /**
+         * True to step the environments, false to reset them.
+         */
+        private boolean step;
+
+        /**
+         * Instantiates a new shard.
+         *
+         * @param from the index of the first environment, inclusive.
+         * @param to   the index of the last environment, exclusive.
+         */
+        Shard(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Steps or resets all environments of this shard.
+         */
+        @Override
+        protected void compute() {
+            for (int env = from; env < to; env++) {
+                if (step) stepEnvironment(env);
+                else resetEnvironment(env);
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package engine;
+
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Checks that the hot paths of the engine stay within their allocation budgets, so garbage created per frame or per interaction
+ * is caught by the test run rather than in the GC logs of a running game.
+ * <p>
+ * The bytes allocated by the current thread are measured over many runs of an operation, after the JIT has had the chance to compile it.
+ * The budgets leave headroom for differences between JVMs, but fail on changes which allocate a multiple of what is expected.
+ */
+class AllocationBudgetTest {
+    /**
+     * The runs of an operation before measuring, to let the JIT compile it.
+     */
+    private static final int WARMUP = 5_000;
+
+    /**
+     * The runs of an operation which are measured.
+     */
+    private static final int RUNS = 2_000;
+
+    /**
+     * Creates a level of 32 x 32 floor tiles with a red laser in the top left corner and a zig-zag of mirrors, but no target,
+     * so it can be interacted with indefinitely.
+     *
+     * @return the level.
+     */
+    static LevelData getOpenLevel() {
+        List<LevelData.TileData> tiles = new ArrayList<>();
+
+        for (int x = 0; x < 32; x++)
+            for (int y = 0; y < 32; y++)
+                tiles.add(x == 0 && y == 0 ? new LevelData.TileData(x, y, 1, "LASER_RED")
+                        : x % 8 == 0 && x == y || x == y + 8 && x % 8 == 0 ? new LevelData.TileData(x, y, 1, "MIRROR")
+                        : new LevelData.TileData(x, y, 0, "FLOOR"));
+
+        return new LevelData("open", 1, tiles);
+    }
+
+    /**
+     * Measures the bytes an operation allocates on the current thread.
+     *
+     * @param operation the operation.
+     * @return the average bytes allocated per run.
+     */
+    static long allocatedPerRun(Runnable operation) {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean, "Allocations cannot be measured on this JVM");
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled(),
+                "Allocations cannot be measured on this JVM");
+
+        for (int i = 0; i < WARMUP; i++) operation.run();
+
+        long id = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(id);
+        for (int i = 0; i < RUNS; i++) operation.run();
+
+        return (threads.getThreadAllocatedBytes(id) - before) / RUNS;
+    }
+
+    /**
+     * Asserts that an operation stays within its allocation budget.
+     *
+     * @param name      the name of the operation, for the failure message.
+     * @param budget    the most bytes the operation may allocate per run.
+     * @param operation the operation.
+     */
+    static void assertBudget(String name, long budget, Runnable operation) {
+        long allocated = allocatedPerRun(operation);
+        assertTrue(allocated <= budget, name + " allocated " + allocated + " bytes per run, exceeding its budget of " + budget + " bytes");
+    }
+
+    @Test
+    void registerInteraction() {
+        GameEngine engine = new GameEngine(new LevelPack(List.of(getOpenLevel())));
+        Pair<Integer, Integer> mirror = Pair.of(8, 0);
+        Button[] buttons = {Button.LEFT, Button.RIGHT};
+        int[] runs = {0};
+
+        // about 4.5 KiB, almost all of it for tracing the laser again
+        assertBudget("registerInteraction", 8 * 1024, () -> engine.registerInteraction(mirror, buttons[runs[0]++ % 2]));
+    }
+
+    @Test
+    void settle() {
+        Board board = new Board(Level.of(getOpenLevel()).tiles());
+
+        // about 4 KiB for tracing the single laser, i.e. its path and the laser set
+        assertBudget("Board.settle", 8 * 1024, board::settle);
+    }
+
+    @Test
+    void step() {
+        // a single environment, so its only shard runs on the measured thread
+        VectorEnvironment environment = new VectorEnvironment(getOpenLevel(), 1, Integer.MAX_VALUE);
+        int[] floor = {1}, mirror = {8};
+        Button[][] buttons = {{Button.LEFT}, {Button.RIGHT}};
+        int[] runs = {0};
+
+        // an action without effect neither settles nor writes anything
+        assertBudget("VectorEnvironment.step without effect", 0, () -> environment.step(floor, buttons[0]));
+        // the same tracing as registerInteraction, the environment adds nothing on top of it
+        assertBudget("VectorEnvironment.step", 8 * 1024, () -> environment.step(mirror, buttons[runs[0]++ % 2]));
+    }
+
+    @Test
+    void snapshots() {
+        GameEngine engine = new GameEngine(new LevelPack(List.of(getOpenLevel())));
+        Pair<Integer, Integer> mirror = Pair.of(8, 0);
+
+        // a single tile, called once per changed tile and frame
+        assertBudget("getCopyOfTile", 64, () -> engine.getCopyOfTile(mirror));
+        // the lasers and their index are only built once per settlement, not per call
+        assertBudget("getLasers", 0, engine::getLasers);
+        assertBudget("getLaserOccupancy", 0, engine::getLaserOccupancy);
+        // about 80 bytes per tile for the map entry, the key and the copied tile
+        assertBudget("getCopyOfTiles", 160L * engine.getCopyOfTiles().size(), engine::getCopyOfTiles);
+    }
+}
@@ -0,0 +1,92 @@
+package engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DistanceDatabaseTest {
+
+    @Test
+    void matchesSolver() {
+        LevelPack pack = new LevelGenerator(new LevelGenerator.Constraints(9, 9, 2, 3, 8, 6)).generate(5, 17);
+        DistanceDatabase database = DistanceDatabase.build(pack, DistanceDatabase.DEFAULT_MAX_STATES);
+
+        for (int i = 0; i < pack.size(); i++)
+            assertEquals(pack.getLevel(i).minMoves(), database.getOptimalMoves(i), "Distance differs from the solver");
+
+        assertEquals(pack, database.verify(pack), "Verified pack differs although all min moves were correct");
+    }
+
+    @Test
+    void testLevels() {
+        DistanceDatabase database = DistanceDatabase.build(GameEngineTest.getTestLevels(), 1000);
+
+        assertArrayEquals(new int[]{0, 0, 1, DistanceDatabase.UNKNOWN},
+                IntStream.range(0, database.size()).map(database::getOptimalMoves).toArray());
+        assertEquals(DistanceDatabase.UNKNOWN, DistanceDatabase.build(GameEngineTest.getTestLevels(), 1)
+                .getOptimalMoves(2), "Level with more states than allowed was not left out");
+    }
+
+    @Test
+    void readWrite() throws IOException {
+        LevelPack pack = new LevelGenerator(new LevelGenerator.Constraints(9, 9, 2, 3, 8, 6)).generate(3, 5);
+        DistanceDatabase database = DistanceDatabase.build(pack, 64); // leaves out some levels
+        Path file = Files.createTempFile("distances", ".dist");
+
+        try {
+            database.write(file);
+            DistanceDatabase read = DistanceDatabase.read(file);
+
+            assertEquals(database.size(), read.size());
+            for (int i = 0; i < pack.size(); i++)
+                assertEquals(database.getOptimalMoves(i), read.getOptimalMoves(i), "Distance changed by writing and reading");
+        } finally {
+            Files.delete(file);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> DistanceDatabase.read(ByteBuffer.allocate(16)));
+        assertThrows(IllegalArgumentException.class, () -> DistanceDatabase.read(ByteBuffer.allocate(2)));
+    }
+
+    @Test
+    void engine() {
+        LevelPack pack = new LevelGenerator(new LevelGenerator.Constraints(9, 9, 2, 3, 8, 6)).generate(1, 23);
+        GameEngine engine = new GameEngine(pack, false,
+                DistanceDatabase.build(pack, DistanceDatabase.DEFAULT_MAX_STATES));
+        int optimal = engine.getOptimalMoves();
+
+        assertEquals(optimal, engine.getRemainingMoves());
+
+        while (!engine.isCompleted()) {
+            assertTrue(engine.isGoldPossible(), "Gold considered impossible while following the hints");
+
+            int remaining = engine.getRemainingMoves();
+            Interaction hint = engine.getHint();
+            engine.registerInteraction(hint.pos(), hint.button());
+            assertEquals(remaining - 1, engine.getRemainingMoves(), "Hint did not bring the level closer to completion");
+        }
+
+        assertEquals(optimal, engine.getMoves(), "Following the hints was not optimal");
+        assertEquals(0, engine.getMedalID());
+        assertNull(engine.getHint(), "Hint given for a completed level");
+
+        // a move which is undone right away wastes two moves
+        engine.requestLevel(0);
+        Interaction hint = engine.getHint();
+        engine.registerInteraction(hint.pos(), hint.button());
+        engine.registerInteraction(hint.pos(), hint.button() == Button.LEFT ? Button.RIGHT : Button.LEFT);
+        assertEquals(optimal, engine.getRemainingMoves());
+        assertFalse(engine.isGoldPossible(), "Gold considered possible after wasted moves");
+
+        GameEngine plain = new GameEngine(pack);
+        assertEquals(DistanceDatabase.UNKNOWN, plain.getRemainingMoves());
+        assertNull(plain.getHint());
+        assertTrue(plain.isGoldPossible());
+    }
+}
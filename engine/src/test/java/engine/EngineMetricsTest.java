@@ -0,0 +1,72 @@
+package engine;
+
+import org.junit.jupiter.api.Test;
+
+import javax.management.JMException;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EngineMetricsTest {
+
+    @Test
+    void latencies() {
+        EngineMetrics metrics = new EngineMetrics();
+        assertEquals(0.0, metrics.getSettleLatencyP50Micros(), "Latency reported before any settlement");
+
+        assertEquals(0, EngineMetrics.bucketOf(0));
+        assertEquals(1, EngineMetrics.bucketOf(1));
+        assertEquals(11, EngineMetrics.bucketOf(1500));
+        assertEquals(63, EngineMetrics.bucketOf(Long.MAX_VALUE));
+
+        for (int i = 0; i < 98; i++) metrics.settled(1500);
+        metrics.settled(100_000);
+        metrics.settled(3_000_000);
+
+        assertEquals(2.048, metrics.getSettleLatencyP50Micros(), 1e-9);
+        assertEquals(2.048, metrics.getSettleLatencyP90Micros(), 1e-9);
+        assertEquals(131.072, metrics.getSettleLatencyP99Micros(), 1e-9);
+        assertEquals(4194.304, metrics.getSettleLatencyMicros(1), 1e-9);
+        assertEquals(100, metrics.getSettlements());
+    }
+
+    @Test
+    void steps() {
+        EngineMetrics metrics = EngineMetrics.get();
+        Board board = new Board(Level.of(GameEngineTest.getTestLevels().getLevel(2)).tiles());
+        long steps = metrics.getLaserStepsTraced();
+
+        board.settle();
+
+        // the laser enters at least its source and the mirror in every pass
+        assertTrue(metrics.getLaserStepsTraced() - steps >= 2L * board.getPasses(), "Steps of the tracer were not counted");
+    }
+
+    @Test
+    void engine() {
+        EngineMetrics metrics = EngineMetrics.get();
+        long interactions = metrics.getInteractions(), settlements = metrics.getSettlements(), copies = metrics.getSnapshotCopies();
+
+        GameEngine engine = new GameEngine(GameEngineTest.getTestLevels());
+        engine.requestLevel(2);
+        assertEquals(2, metrics.getLevelID());
+        assertEquals(GameEngineTest.getTestLevels().getLevel(2).tiles().size(), metrics.getTileCount());
+
+        engine.registerInteraction(Pair.of(10, 3), Button.RIGHT);
+        engine.getCopyOfTiles();
+
+        assertEquals(1, metrics.getInteractions() - interactions);
+        assertEquals(3, metrics.getSettlements() - settlements, "Level loads and the interaction were not all counted");
+        assertEquals(1, metrics.getSnapshotCopies() - copies);
+    }
+
+    @Test
+    void register() throws JMException {
+        EngineMetrics.register();
+        EngineMetrics.register();
+
+        EngineMetrics.get().rendered(2);
+        Object frames = ManagementFactory.getPlatformMBeanServer().getAttribute(EngineMetrics.objectName(), "FramesSkipped");
+        assertTrue((Long) frames >= 2, "Skipped frames are not visible through JMX");
+    }
+}
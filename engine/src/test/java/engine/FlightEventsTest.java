@@ -0,0 +1,66 @@
+package engine;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightEventsTest {
+
+    @Test
+    void recorded() throws IOException {
+        Path file = Files.createTempFile("engine", ".jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable("lasergame.Interaction");
+            recording.enable("lasergame.Settlement");
+            recording.enable("lasergame.LevelLoad");
+            recording.start();
+
+            GameEngine engine = new GameEngine(GameEngineTest.getTestLevels());
+            engine.requestLevel(2);
+            engine.registerInteraction(Pair.of(10, 3), Button.RIGHT);
+
+            recording.stop();
+            recording.dump(file);
+
+            // settlements of asynchronous engines created by other tests may still be running on their own threads
+            Map<String, List<RecordedEvent>> events = RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> e.getThread() != null && e.getThread().getJavaThreadId() == Thread.currentThread().getId())
+                    .collect(Collectors.groupingBy(e -> e.getEventType().getName()));
+
+            List<RecordedEvent> loads = events.get("lasergame.LevelLoad");
+            assertEquals(2, loads.size(), "Level loads were not recorded");
+            assertEquals(2, loads.get(1).getInt("levelID"));
+            assertEquals(GameEngineTest.getTestLevels().getLevel(2).tiles().size(), loads.get(1).getInt("tiles"));
+            assertTrue(loads.get(1).getLong("parseDuration") > 0, "Parse time was not recorded");
+            assertTrue(loads.get(1).getLong("parseDuration") <= loads.get(1).getDuration().toNanos(),
+                    "Parse time exceeded the level load");
+
+            RecordedEvent interaction = events.get("lasergame.Interaction").get(0);
+            assertEquals(10, interaction.getInt("x"));
+            assertEquals(3, interaction.getInt("y"));
+            assertEquals("RIGHT", interaction.getString("button"));
+            assertTrue(interaction.getInt("passes") >= 1, "Passes of a synchronous settlement were not recorded");
+
+            List<RecordedEvent> settlements = events.get("lasergame.Settlement");
+            RecordedEvent settlement = settlements.get(settlements.size() - 1);
+            assertEquals(engine.getLasers().size(), settlement.getInt("lasers"));
+            assertTrue(settlement.getLong("steps") >= (long) settlement.getInt("lasers") * settlement.getInt("passes"),
+                    "Tracer steps of the settlement were not recorded");
+            assertTrue(settlement.getBoolean("completed"), "Completion of the level was not recorded");
+            assertFalse(settlement.getBoolean("background"));
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,469 @@
+package engine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEngineTest {
+
+    /**
+     * Change this with caution - these strings are used to test levels / engines and their functionality to a great extent,
+     * one change could cause several tests to fail.
+     */
+    static final List<String> levelStrings = List.of(
+            "Level 1|0|1.1.0.STONE:1.2.0.FLOOR:1.3.2.MIRROR:5.5.1.SWITCH_CYAN", // basic functionality tests can be done here
+            "Level 2|0|5.5.0.LASER_RED:5.4.0.FLOOR:5.3.0.STONE_TARGET", // basic laser tests can be done here (does not have any intractability)
+            "Level 3|1|10.5.0.LASER_RED:10.4.0.FLOOR:10.3.3.MIRROR:11.3.0.FLOOR:12.3.0.STONE_TARGET", // level with laser that does not complete immediately
+            "Level 1+|999|1.1.0.STONE:1.2.0.FLOOR:1.3.2.MIRROR:5.5.1.SWITCH_CYAN:2.1.0.LASER_BLUE" // Impossible to complete version of level 1
+    );
+    static LevelPack testLevels;
+    static List<Level> testLevelList;
+
+    /**
+     * Used to get these test levels in other tests
+     *
+     * @return freshly generated test levels.
+     */
+    static LevelPack getTestLevels() {
+        new GameEngineTest().setupLevelArrays();
+        return testLevels;
+    }
+
+    static List<Level> getTestLevelList() {
+        new GameEngineTest().setupLevelArrays();
+        return testLevelList;
+    }
+
+    /**
+     * Sets up the test levels needed to test various features of the level behaviour.
+     * <p>
+     * This must be done before each method individually, as medals are stored in the level data and would cause unexpected behaviour.
+     */
+    @BeforeEach
+    void setupLevelArrays() {
+        testLevels = new LevelPack(levelStrings.stream()
+                .map(s -> {
+                    String[] sections = s.split("\\|"); // divider between level data fields
+
+                    List<LevelData.TileData> tiles = Arrays.stream(sections[2]
+                            .split(":")) // divider between tiles
+                            .map(t -> {
+                                String[] tileInfo = t.split("\\."); // divider between tile data fields
+                                return new LevelData.TileData(Integer.parseInt(tileInfo[0]), Integer.parseInt(tileInfo[1]),
+                                        Integer.parseInt(tileInfo[2]), tileInfo[3]);
+                            })
+                            .toList();
+
+                    return new LevelData(sections[0], Integer.parseInt(sections[1]), tiles);
+                }).toList());
+
+        testLevelList = Arrays.stream(Level.initialize(testLevels)).toList();
+    }
+
+    /**
+     * Asserts that calling the constructor with an array of levels will return a functional map of tiles
+     * with the expected data fields.
+     */
+    @Test
+    void instantiation() {
+        GameEngine engine = new GameEngine(testLevels);
+        Map<Pair<Integer, Integer>, Tile> tiles = engine.getCopyOfTiles();
+
+        assertNotNull(engine.getLevelDescription(), "Level description was null");
+        assertEquals(0, engine.getOptimalMoves(), "Optimal moves were false");
+        assertNotNull(tiles, "Copy of tiles was null");
+        assertTrue(engine.isCompleted(), "Engine didn't realise instant completion");
+    }
+
+    @Test
+    void update() {
+        GameEngine engine = new GameEngine(testLevels);
+        engine.requestLevel(2); // Going to level that doesn't complete
+
+        assertFalse(engine.isCompleted(), "Update wrongfully claimed level to be complete");
+        engine.registerInteraction(Pair.of(10, 3), Button.RIGHT);
+        assertTrue(engine.isCompleted(), "Interaction didn't cause engine update");
+    }
+
+    @Test
+    void registerInteraction() {
+        // preparation
+        GameEngine engine = new GameEngine(testLevels);
+
+        engine.requestLevel(3);
+
+        // initial tile map
+        Map<Pair<Integer, Integer>, Tile> initial = engine.getCopyOfTiles();
+
+        // interactions
+        engine.registerInteraction(Pair.of(1, 3), Button.LEFT);
+        engine.registerInteraction(Pair.of(5, 5), Button.RIGHT);
+
+        // modified tile map
+        Map<Pair<Integer, Integer>, Tile> interacted = engine.getCopyOfTiles();
+
+        // checking if interactions worked
+        assertNotEquals(initial.get(Pair.of(1, 3)).getState(),
+                interacted.get(Pair.of(1, 3)).getState(),
+                "Interaction did not cause tile state of mirror to change");
+
+        assertNotEquals(initial.get(Pair.of(5, 5)).getState(),
+                interacted.get(Pair.of(5, 5)).getState(),
+                "Interaction did not cause tile state of cyan switch to change");
+
+        // checking if bad inputs are reacted to by engine
+        assertThrows(IllegalArgumentException.class,
+                () -> engine.registerInteraction(Pair.of(Integer.MAX_VALUE, Integer.MAX_VALUE), Button.RIGHT),
+                "Bad interaction (bad position input) threw unexpected or no exception");
+    }
+
+    /**
+     * Testing if the engine will allow interactions when the level is completed (which shouldn't be).
+     */
+    @Test
+    void interactingWhenComplete() {
+        GameEngine engine = new GameEngine(testLevels);
+        assertThrows(IllegalArgumentException.class,
+                () -> engine.registerInteraction(Pair.of(0, 0), Button.RIGHT),
+                "Bad interaction (bad game state) threw unexpected or no exception");
+    }
+
+    @Test
+    void getMoves() {
+        GameEngine engine = new GameEngine(testLevels);
+        engine.requestLevel(3);
+
+        assertEquals(0, engine.getMoves(), "Move value was not zero upon loading level");
+
+        engine.registerInteraction(Pair.of(1, 3), Button.RIGHT);
+
+        assertEquals(1, engine.getMoves(), "Move value was not one upon first interaction");
+
+        engine.requestLevel(0);
+
+        assertEquals(0, engine.getMoves(), "Move value did not reset upon level reset");
+    }
+
+    @Test
+    void listeners() {
+        GameEngine engine = new GameEngine(testLevels);
+        List<EngineEvent> events = new ArrayList<>();
+        EngineListener listener = events::add;
+        engine.addListener(listener);
+
+        engine.requestLevel(2);
+        assertEquals(new EngineEvent.LevelChanged(2, "Level 3", 1), events.get(0), "Level change was not reported first");
+        assertTrue(events.stream().anyMatch(e -> e instanceof EngineEvent.LasersChanged), "Lasers of new level were not reported");
+        assertTrue(events.stream().noneMatch(e -> e instanceof EngineEvent.Completed), "Incomplete level was reported as completed");
+
+        events.clear();
+        engine.registerInteraction(Pair.of(10, 3), Button.RIGHT);
+        assertEquals(new EngineEvent.Interacted(new Interaction(Pair.of(10, 3), Button.RIGHT)), events.get(0),
+                "Interaction was not reported first");
+        assertEquals(new EngineEvent.MovesChanged(1), events.get(1), "Move was not reported");
+        assertTrue(events.stream().anyMatch(e -> e instanceof EngineEvent.TilesChanged t && t.cells().contains(Pair.of(10, 3))),
+                "Interacted tile was not reported as changed");
+        assertEquals(new EngineEvent.LasersChanged(engine.getLasers()),
+                events.stream().filter(e -> e instanceof EngineEvent.LasersChanged).findFirst().orElseThrow(), "Changed lasers were not reported");
+        assertEquals(new EngineEvent.Completed(0), events.get(events.size() - 1), "Completion with optimal moves was not reported");
+
+        events.clear();
+        engine.removeListener(listener);
+        engine.requestLevel(0);
+        assertTrue(events.isEmpty(), "Removed listener was still notified");
+    }
+
+    @Test
+    void tilesChangedOnlyReportsAffectedTiles() {
+        GameEngine engine = new GameEngine(testLevels);
+        engine.requestLevel(3);
+
+        List<EngineEvent> events = new ArrayList<>();
+        engine.addListener(events::add);
+        engine.registerInteraction(Pair.of(5, 5), Button.RIGHT);
+
+        assertTrue(events.stream().filter(e -> e instanceof EngineEvent.TilesChanged)
+                        .map(e -> ((EngineEvent.TilesChanged) e).cells())
+                        .allMatch(cells -> cells.contains(Pair.of(5, 5)) && !cells.contains(Pair.of(1, 3))),
+                "Tiles changed event did not match the affected tiles");
+        assertEquals(engine.getCopyOfTiles().get(Pair.of(5, 5)), engine.getCopyOfTile(Pair.of(5, 5)), "Copy of single tile differed from tile map");
+        assertNull(engine.getCopyOfTile(Pair.of(-1, -1)), "Copy of missing tile was not null");
+    }
+
+    @Test
+    void registerInteractions() {
+        GameEngine engine = new GameEngine(testLevels);
+        engine.requestLevel(2);
+        Pair<Integer, Integer> mirror = Pair.of(10, 3);
+        List<EngineEvent> events = new ArrayList<>();
+        engine.addListener(events::add);
+
+        CompletionHistory history = engine.registerInteractionsWithHistory(
+                Collections.nCopies(4, new Interaction(mirror, Button.RIGHT)));
+
+        assertEquals(4, engine.getMoves(), "Every interaction of the batch was not counted as a move");
+        assertEquals(3, engine.getCopyOfTile(mirror).getState(), "Batch was not applied in full");
+        assertFalse(engine.isCompleted(), "Level completed although the final state does not complete it");
+        assertEquals(1, events.stream().filter(e -> e instanceof EngineEvent.MovesChanged).count(),
+                "Move count was not reported once per batch");
+
+        assertEquals(4, history.size());
+        assertTrue(history.isCompletedAfter(0), "History did not report the completion after the first interaction");
+        assertFalse(history.isCompletedAfter(3), "History reported a completion after the last interaction");
+        assertEquals(0, history.firstCompletion(), "History did not find the first completion");
+        assertThrows(IndexOutOfBoundsException.class, () -> history.isCompletedAfter(4));
+    }
+
+    @Test
+    void registerInteractionsIsAtomic() {
+        GameEngine engine = new GameEngine(testLevels);
+        engine.requestLevel(2);
+        Map<Pair<Integer, Integer>, Tile> initial = engine.getCopyOfTiles();
+
+        assertThrows(IllegalArgumentException.class, () -> engine.registerInteractions(List.of(
+                        new Interaction(Pair.of(10, 3), Button.RIGHT),
+                        new Interaction(Pair.of(10, 5), Button.RIGHT))),
+                "Batch containing a laser was not rejected");
+
+        assertEquals(0, engine.getMoves(), "Rejected batch was counted");
+        assertEquals(initial, engine.getCopyOfTiles(), "Rejected batch was partially applied");
+    }
+
+    @Test
+    void registerInteractionsMatchesSingleInteractions() {
+        LevelPack pack = new LevelGenerator(new LevelGenerator.Constraints(9, 9, 2, 3, 8, 6)).generate(1, 11);
+        GameEngine single = new GameEngine(pack);
+        GameEngine batched = new GameEngine(pack);
+
+        List<Pair<Integer, Integer>> interactive = single.getCopyOfTiles().entrySet().stream()
+                .filter(e -> e.getValue().getType().canInteract())
+                .map(Map.Entry::getKey)
+                .sorted(Comparator.comparing((Pair<Integer, Integer> p) -> p.y()).thenComparing(Pair::x))
+                .toList();
+        Random random = new Random(5);
+        List<Interaction> batch = new ArrayList<>();
+
+        for (int i = 0; i < 20; i++) {
+            Interaction interaction = new Interaction(interactive.get(random.nextInt(interactive.size())),
+                    random.nextBoolean() ? Button.LEFT : Button.RIGHT);
+
+            try {
+                single.registerInteraction(interaction.pos(), interaction.button());
+            } catch (IllegalStateException e) {
+                break;
+            }
+            batch.add(interaction);
+        }
+
+        CompletionHistory history = batched.registerInteractionsWithHistory(batch);
+        assertEquals(single.getCopyOfTiles(), batched.getCopyOfTiles(), "Tiles differ after the batch");
+        assertEquals(single.getLasers(), batched.getLasers(), "Lasers differ after the batch");
+        assertEquals(single.getMoves(), batched.getMoves(), "Moves differ after the batch");
+        assertEquals(single.isCompleted() ? batch.size() - 1 : -1, history.firstCompletion(),
+                "History differs from the single interactions");
+    }
+
+    /**
+     * Waits for the background settlement of an asynchronous engine and publishes it.
+     *
+     * @param engine the engine.
+     */
+    static void awaitSettlement(GameEngine engine) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+
+        while (engine.isSettling()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Background settlement did not finish in time");
+            Thread.sleep(1);
+            engine.dispatchPendingEvents();
+        }
+    }
+
+    @Test
+    void asyncInteraction() throws InterruptedException {
+        GameEngine engine = new GameEngine(testLevels, true);
+        engine.requestLevel(2);
+        Set<Laser> lasers = engine.getLasers();
+
+        engine.registerInteraction(Pair.of(10, 3), Button.RIGHT);
+        assertEquals(1, engine.getMoves(), "Move was not counted immediately");
+        assertEquals(0, engine.getCopyOfTile(Pair.of(10, 3)).getState(), "Interaction was not applied immediately");
+        assertEquals(lasers, engine.getLasers(), "Lasers changed before the settlement was published");
+        assertFalse(engine.isCompleted(), "Level completed before the settlement was published");
+
+        awaitSettlement(engine);
+        assertTrue(engine.isCompleted(), "Level was not completed after the settlement was published");
+        assertEquals(0, engine.getMedalID(), "Medal was not awarded after the settlement was published");
+    }
+
+    @Test
+    void asyncInteractionAfterCompletion() {
+        GameEngine engine = new GameEngine(testLevels, true);
+        engine.requestLevel(2);
+        List<EngineEvent> events = new ArrayList<>();
+        engine.addListener(events::add);
+
+        // the second click arrives before the settlement of the first, which completes the level, has been published
+        engine.registerInteraction(Pair.of(10, 3), Button.RIGHT);
+        assertThrows(IllegalStateException.class, () -> engine.registerInteraction(Pair.of(10, 3), Button.RIGHT));
+
+        assertTrue(engine.isCompleted(), "Completion was lost to the second click");
+        assertEquals(1, engine.getMoves(), "The second click was counted");
+        assertEquals(0, engine.getMedalID(), "Medal was not awarded");
+        assertEquals(0, engine.getCopyOfTile(Pair.of(10, 3)).getState(), "The second click was applied");
+        assertTrue(events.contains(new EngineEvent.Completed(0)), "Completion was not announced");
+        assertFalse(engine.isSettling());
+    }
+
+    @Test
+    void asyncMatchesSync() throws InterruptedException {
+        LevelPack pack = new LevelGenerator(new LevelGenerator.Constraints(9, 9, 2, 3, 8, 6)).generate(1, 11);
+        GameEngine sync = new GameEngine(pack);
+        GameEngine async = new GameEngine(pack, true);
+
+        List<Pair<Integer, Integer>> interactive = sync.getCopyOfTiles().entrySet().stream()
+                .filter(e -> e.getValue().getType().canInteract())
+                .map(Map.Entry::getKey)
+                .sorted(Comparator.comparing((Pair<Integer, Integer> p) -> p.y()).thenComparing(Pair::x))
+                .toList();
+        Random random = new Random(3);
+
+        for (int i = 0; i < 40; i++) {
+            Pair<Integer, Integer> pos = interactive.get(random.nextInt(interactive.size()));
+            Button button = random.nextBoolean() ? Button.LEFT : Button.RIGHT;
+
+            try {
+                sync.registerInteraction(pos, button);
+            } catch (IllegalStateException e) {
+                break;
+            }
+            async.registerInteraction(pos, button); // deliberately not waiting, so settlements are superseded
+
+            if (i % 7 == 0) async.dispatchPendingEvents();
+        }
+
+        awaitSettlement(async);
+        assertEquals(sync.getCopyOfTiles(), async.getCopyOfTiles(), "Tiles differ after asynchronous settlement");
+        assertEquals(sync.getLasers(), async.getLasers(), "Lasers differ after asynchronous settlement");
+        assertEquals(sync.isCompleted(), async.isCompleted(), "Completion differs after asynchronous settlement");
+    }
+
+    @Test
+    void getOptimalMoves() {
+        GameEngine engine = new GameEngine(testLevels);
+        assertEquals(0, engine.getOptimalMoves(), "Optimal move value did not properly load on value 0");
+
+        engine.requestLevel(2);
+        assertEquals(1, engine.getOptimalMoves(), "Optimal move value did not properly load on non-zero value");
+
+
+        engine.requestLevel(1);
+        assertEquals(999, engine.getOptimalMoves(), "Optimal move value did not properly load on high value");
+    }
+
+    @Test
+    void getLevelDescription() {
+        GameEngine engine = new GameEngine(testLevels);
+        assertEquals("Level 1", engine.getLevelDescription(), "Level description did not load for initial level");
+
+        engine.requestLevel(1);
+        assertEquals("Level 2", engine.getLevelDescription(), "Level description did not load for sequential level");
+    }
+
+    @Test
+    void getCopyOfTiles() {
+        GameEngine engine = new GameEngine(testLevels);
+
+        assertNotNull(engine.getCopyOfTiles());
+
+        Map<Pair<Integer, Integer>, Tile> firstCopyOfTiles = engine.getCopyOfTiles();
+        Map<Pair<Integer, Integer>, Tile> secondCopyOfTiles = engine.getCopyOfTiles();
+
+        assertEquals(firstCopyOfTiles, secondCopyOfTiles, "Tile map copies did not have equal contents");
+
+        assertNotEquals(0, firstCopyOfTiles.size(),
+                "Tiles returned empty map copy on non-empty level");
+
+        // clearing one tile copy
+        firstCopyOfTiles.clear();
+        assertEquals(0, firstCopyOfTiles.size(),
+                "Clearing map did not set size to 0");
+
+        // asserting this has had no effect on the other tile map
+        assertNotEquals(0, secondCopyOfTiles.size(),
+                "Clearing one copy of a map cleared an unrelated copy as well");
+    }
+
+    @Test
+    void requestLevel() {
+        GameEngine engine = new GameEngine(testLevels);
+
+        assertEquals(0, engine.getLevelID(),
+                "Initial levelID should be 0");
+
+        engine.requestLevel(0);
+        assertEquals(0, engine.getLevelID(),
+                "Requesting direction 0 at ID 0 should yield ID 0");
+
+        engine.requestLevel(-1);
+        assertEquals(0, engine.getLevelID(),
+                "Requesting direction -1 at ID 0 should yield ID 0");
+
+        engine.requestLevel(1);
+        assertEquals(1, engine.getLevelID(),
+                "Requesting direction 1 at ID 0 should yield ID 1");
+
+        engine.requestLevel(0);
+        assertEquals(1, engine.getLevelID(),
+                "Requesting direction 0 at ID 1 should yield ID 1");
+
+        engine.requestLevel(-1);
+        assertEquals(0, engine.getLevelID(),
+                "Requesting direction -1 at ID 1 should yield ID 0");
+
+        engine.requestLevel(Integer.MAX_VALUE);
+        assertEquals(levelStrings.size() - 1, engine.getLevelID(),
+                "Sending MAX VALUE should yield the last level ID");
+
+        engine.requestLevel(Integer.MIN_VALUE);
+        assertEquals(0, engine.getLevelID(),
+                "Sending MIN VALUE should yield the first level ID");
+    }
+
+    @Test
+    void getLasers() {
+        GameEngine engine = new GameEngine(testLevels);
+
+        assertTrue(engine.getLasers().isEmpty(),
+                "Laser list of level with no lasers was found not to be empty");
+
+        // switching to level with laser
+        engine.requestLevel(1);
+        engine.update();
+
+        assertFalse(engine.getLasers().isEmpty(),
+                "Laser list of level with a laser was found to be empty");
+    }
+
+    @Test
+    void isCompleted() {
+        GameEngine engine = new GameEngine(testLevels);
+        engine.update();
+
+        assertTrue(engine.isCompleted(), "Engine considered incomplete after update on level with no lasers");
+
+        engine.requestLevel(1);
+        engine.update();
+
+        assertTrue(engine.isCompleted(), "Engine considered incomplete after update on level with one laser facing the target");
+    }
+
+    @Test
+    void getMedalID() {
+        GameEngine engine = new GameEngine(testLevels);
+        assertEquals(0, engine.getMedalID(),
+                "Engine did not immediately assign gold medal to self completing level");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,87 @@
+package engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static engine.Tile.Type.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class JumpTableTest {
+
+    /**
+     * Creates a row of floor tiles from x = 0 to x = 9 (at y = 0) with a stone at x = 6.
+     *
+     * @return the tile map.
+     */
+    static Map<Pair<Integer, Integer>, Tile> getRow() {
+        Map<Pair<Integer, Integer>, Tile> tiles = new HashMap<>();
+
+        for (int x = 0; x < 10; x++)
+            tiles.put(Pair.of(x, 0), Tile.of(x == 6 ? STONE : FLOOR, 0));
+
+        return tiles;
+    }
+
+    @Test
+    void jump() {
+        JumpTable table = JumpTable.of(getRow());
+        assertNotNull(table);
+
+        assertEquals(Pair.of(6, 0), table.jump(Pair.of(1, 0), 1), "Jump did not stop at the next wall");
+        assertEquals(Pair.of(-1, 0), table.jump(Pair.of(5, 0), 3), "Jump did not stop behind the last tile");
+        assertEquals(Pair.of(10, 0), table.jump(Pair.of(7, 0), 1), "Jump did not stop behind the last tile");
+        assertEquals(Pair.of(3, -1), table.jump(Pair.of(3, 0), 0), "Jump did not stop outside the single row");
+    }
+
+    @Test
+    void update() {
+        Map<Pair<Integer, Integer>, Tile> tiles = getRow();
+        JumpTable table = JumpTable.of(tiles);
+        assertNotNull(table);
+
+        table.update(Pair.of(6, 0), true);
+        assertEquals(Pair.of(10, 0), table.jump(Pair.of(1, 0), 1), "Jump stopped at a wall that was opened");
+
+        table.update(Pair.of(3, 0), false);
+        assertEquals(Pair.of(3, 0), table.jump(Pair.of(0, 0), 1), "Jump did not stop at a wall that was closed");
+        assertEquals(Pair.of(10, 0), table.jump(Pair.of(4, 0), 1), "Jump behind a closed wall was affected");
+        assertEquals(Pair.of(3, 0), table.jump(Pair.of(9, 0), 3), "Jump did not stop at a wall that was closed");
+    }
+
+    @Test
+    void copy() {
+        JumpTable table = JumpTable.of(getRow());
+        assertNotNull(table);
+        JumpTable copy = table.copy();
+
+        table.update(Pair.of(6, 0), true);
+        assertEquals(Pair.of(6, 0), copy.jump(Pair.of(1, 0), 1), "Updating a table changed its copy");
+    }
+
+    @Test
+    void sparseTiles() {
+        assertNull(JumpTable.of(Map.of()), "Table was built for empty tiles");
+        assertNull(JumpTable.of(Map.of(Pair.of(0, 0), Tile.of(FLOOR, 0), Pair.of(1000, 1000), Tile.of(FLOOR, 0))),
+                "Table was built for very sparse tiles");
+    }
+
+    @Test
+    void tracesLikeStepping() {
+        Map<Pair<Integer, Integer>, Tile> tiles = getRow();
+        tiles.put(Pair.of(0, 0), Tile.of(LASER_GREEN, 1));
+        tiles.put(Pair.of(6, 0), Tile.of(SWITCH_CYAN, 1));
+        tiles.put(Pair.of(9, 0), Tile.of(STONE_TARGET, 0));
+
+        Board board = new Board(tiles);
+        board.settle();
+        assertEquals(Laser.getLasers(board.copyOfTiles()), board.getLasers(), "Laser using jumps differs from stepped laser");
+        assertFalse(board.isCompleted(), "Laser passed through closed switch");
+
+        board.interact(Pair.of(6, 0), Button.NONE);
+        board.settle();
+        assertEquals(Laser.getLasers(board.copyOfTiles()), board.getLasers(), "Laser using jumps differs from stepped laser");
+        assertTrue(board.isCompleted(), "Laser did not pass through opened switch");
+    }
+}
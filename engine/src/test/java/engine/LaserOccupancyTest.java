@@ -0,0 +1,81 @@
+package engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LaserOccupancyTest {
+
+    @Test
+    void bits() {
+        // red laser going east from (0, 0), turning south at (3, 0) and ending at (3, 2)
+        Laser red = new Laser(Laser.Color.RED, List.of(Pair.of(0, 0), Pair.of(3, 0), Pair.of(3, 2)), false);
+        // blue laser going west from (4, 1), crossing the red one at (3, 1)
+        Laser blue = new Laser(Laser.Color.BLUE, List.of(Pair.of(4, 1), Pair.of(1, 1)), true);
+        LaserOccupancy occupancy = LaserOccupancy.of(Set.of(red, blue));
+
+        assertEquals(Set.of(Laser.Color.RED), occupancy.getColors(Pair.of(1, 0)));
+        assertEquals(Set.of(Laser.Color.RED, Laser.Color.BLUE), occupancy.getColors(Pair.of(3, 1)), "Crossing lost a colour");
+        assertEquals(LaserOccupancy.colorBit(Laser.Color.RED) | LaserOccupancy.colorBit(Laser.Color.BLUE)
+                | LaserOccupancy.directionBit(2) | LaserOccupancy.directionBit(3), occupancy.getBits(Pair.of(3, 1)));
+
+        assertTrue(occupancy.hasDirection(Pair.of(3, 0), 1), "Direction entering the corner is missing");
+        assertTrue(occupancy.hasDirection(Pair.of(3, 0), 2), "Direction leaving the corner is missing");
+        assertFalse(occupancy.hasDirection(Pair.of(3, 0), 3));
+
+        assertFalse(occupancy.isOccupied(Pair.of(0, 1)));
+        assertFalse(occupancy.isOccupied(Pair.of(-5, 20)), "Cell outside the bounding box is occupied");
+        assertFalse(LaserOccupancy.of(Set.of()).isOccupied(Pair.of(0, 0)));
+    }
+
+    @Test
+    void matchesLaserPaths() {
+        LevelData level = new LevelGenerator(LevelGeneratorTest.constraints).generate(1, 5).getLevel(0);
+        Set<Laser> lasers = Laser.getLasers(Level.of(level).tiles());
+        LaserOccupancy occupancy = LaserOccupancy.of(lasers);
+
+        for (int x = -2; x < 12; x++)
+            for (int y = -2; y < 12; y++) {
+                Pair<Integer, Integer> pos = Pair.of(x, y);
+                boolean passed = lasers.stream().anyMatch(l -> passes(l, pos));
+                assertEquals(passed, occupancy.isOccupied(pos), "Occupancy differs from laser paths at " + pos);
+            }
+    }
+
+    @Test
+    void engine() {
+        GameEngine engine = new GameEngine(GameEngineTest.getTestLevels());
+        engine.requestLevel(2);
+
+        LaserOccupancy occupancy = engine.getLaserOccupancy();
+        assertSame(occupancy, engine.getLaserOccupancy(), "Index was rebuilt for the same lasers");
+        assertSame(engine.getLasers(), occupancy.getLasers());
+
+        engine.registerInteraction(Pair.of(10, 3), Button.RIGHT);
+        assertSame(engine.getLasers(), engine.getLaserOccupancy().getLasers(), "Index was not rebuilt for new lasers");
+    }
+
+    /**
+     * Determines if a laser passes a cell by walking each of its segments.
+     *
+     * @param laser the laser.
+     * @param pos   the position of the cell.
+     * @return true, if the cell lies on any segment of the laser.
+     */
+    static boolean passes(Laser laser, Pair<Integer, Integer> pos) {
+        List<Pair<Integer, Integer>> points = laser.points();
+        if (points.get(0).equals(pos)) return true;
+
+        for (int i = 1; i < points.size(); i++) {
+            Pair<Integer, Integer> from = points.get(i - 1), to = points.get(i);
+            if (pos.x() >= Math.min(from.x(), to.x()) && pos.x() <= Math.max(from.x(), to.x())
+                    && pos.y() >= Math.min(from.y(), to.y()) && pos.y() <= Math.max(from.y(), to.y()))
+                return true;
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,121 @@
+package engine;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LaserTest {
+
+    static LevelPack levelList;
+
+    @BeforeAll
+    static void setUp() {
+        levelList = GameEngineTest.getTestLevels();
+    }
+
+    @Test
+    void getLasers() {
+        GameEngine engine = new GameEngine(levelList);
+        assertTrue(engine.getLasers().isEmpty(), "Level with no lasers didn't return empty list");
+
+        engine.requestLevel(2);
+        assertFalse(engine.getLasers().isEmpty(), "Level with lasers returned empty list");
+
+        engine.requestLevel(-1);
+        assertFalse(engine.getLasers().isEmpty(), "Self completing level with lasers returned empty list");
+    }
+
+    @Test
+    void color() {
+        GameEngine engine = new GameEngine(levelList);
+        engine.requestLevel(2);
+        assertEquals(Laser.Color.RED, engine.getLasers().stream().findFirst().orElseThrow().color(), "Color from red laser source was not red");
+
+        engine.requestLevel(1);
+        assertEquals(Laser.Color.BLUE, engine.getLasers().stream().findFirst().orElseThrow().color(), "Color from blue laser source was not blue");
+    }
+
+    @Test
+    void points() {
+        GameEngine engine = new GameEngine(levelList);
+
+        engine.requestLevel(1);
+        assertEquals(List.of(Pair.of(5, 5), Pair.of(5, 3)), engine.getLasers().stream().findFirst().orElseThrow().points(), "Unexpected laser path");
+
+        engine.requestLevel(1);
+        assertEquals(List.of(Pair.of(10, 5), Pair.of(10, 3)), engine.getLasers().stream().findFirst().orElseThrow().points(), "Unexpected laser path");
+
+        engine.registerInteraction(Pair.of(10, 3), Button.RIGHT);
+        assertEquals(List.of(Pair.of(10, 5), Pair.of(10, 3), Pair.of(12, 3)), engine.getLasers().stream().findFirst().orElseThrow().points(), "Unexpected laser path");
+    }
+
+    @Test
+    void isComplete() {
+        GameEngine engine = new GameEngine(levelList);
+
+        engine.requestLevel(1);
+        assertTrue(engine.getLasers().stream().findFirst().orElseThrow().isComplete(), "Self completing laser not considered complete");
+
+        engine.requestLevel(1);
+        assertFalse(engine.getLasers().stream().findFirst().orElseThrow().isComplete(), "Laser considered itself complete before reaching target");
+
+        engine.registerInteraction(Pair.of(10, 3), Button.RIGHT);
+        assertTrue(engine.getLasers().stream().findFirst().orElseThrow().isComplete(), "Laser not considered complete after reaching target through laser");
+    }
+
+    @Test
+    void traceKeepsSourceOrder() {
+        Map<Pair<Integer, Integer>, Tile> tiles = new HashMap<>();
+        List<Pair<Integer, Integer>> sources = new ArrayList<>();
+
+        for (int x = 0; x < Laser.PARALLEL_SOURCES + 6; x++) {
+            for (int y = 0; y < 5; y++) tiles.put(Pair.of(x, y), Tile.of(Tile.Type.FLOOR, 0));
+
+            Tile.Type type = List.of(Tile.Type.LASER_RED, Tile.Type.LASER_GREEN, Tile.Type.LASER_BLUE).get(x % 3);
+            tiles.put(Pair.of(x, 4), Tile.of(type, 0));
+            tiles.put(Pair.of(x, x % 4), Tile.of(Tile.Type.STONE_TARGET, 0));
+            sources.add(0, Pair.of(x, 4));
+        }
+
+        Laser[] lasers = Laser.trace(tiles, sources, JumpTable.of(tiles));
+
+        assertEquals(sources.size(), lasers.length, "Not every source was traced");
+        for (int i = 0; i < sources.size(); i++) {
+            assertEquals(sources.get(i), lasers[i].points().get(0), "Laser was not stored at the index of its source");
+            assertEquals(Laser.trace(tiles, List.of(sources.get(i)), null)[0], lasers[i], "Parallel trace differs from single trace");
+        }
+
+        assertEquals(List.of(lasers), List.copyOf(Laser.getLasers(tiles, sources, null)), "Laser set did not iterate in source order");
+    }
+
+    @Test
+    void countsSteps() {
+        Map<Pair<Integer, Integer>, Tile> tiles = new HashMap<>();
+        List<Pair<Integer, Integer>> sources = new ArrayList<>();
+        long cells = 0;
+
+        for (int x = 0; x < Laser.PARALLEL_SOURCES + 6; x++) {
+            for (int y = 0; y < 5; y++) tiles.put(Pair.of(x, y), Tile.of(Tile.Type.FLOOR, 0));
+
+            tiles.put(Pair.of(x, 4), Tile.of(Tile.Type.LASER_RED, 0));
+            tiles.put(Pair.of(x, x % 4), Tile.of(Tile.Type.STONE_TARGET, 0));
+            sources.add(Pair.of(x, 4));
+            cells += 5 - x % 4;
+        }
+
+        LongAdder walked = new LongAdder();
+        Laser.trace(tiles, sources, null, walked);
+        assertEquals(cells, walked.sum(), "Walking tile by tile did not take one step per tile entered");
+
+        LongAdder jumped = new LongAdder();
+        Laser.trace(tiles, sources, JumpTable.of(tiles), jumped);
+        assertTrue(jumped.sum() < walked.sum(), "Jumping over floor tiles did not save steps");
+    }
+}
@@ -0,0 +1,99 @@
+package engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import static engine.Tile.Type.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class LevelEditorTest {
+
+    /**
+     * Asserts that the preview of the editor matches the lasers of a board settled from scratch.
+     *
+     * @param editor the editor.
+     */
+    static void assertMatchesBoard(LevelEditor editor) {
+        Board board = new Board(editor.getCopyOfTiles());
+        board.settle();
+
+        assertEquals(new HashSet<>(board.getLasers()), new HashSet<>(editor.getLasers()),
+                "Incrementally updated lasers differ from settled lasers");
+    }
+
+    @Test
+    void randomEditsMatchBoard() {
+        LevelData level = new LevelGenerator(LevelGeneratorTest.constraints).generate(1, 3).getLevel(0);
+        LevelEditor editor = new LevelEditor(level);
+        List<Tile.Type> types = List.of(FLOOR, FLOOR, MIRROR, MIRROR, STONE, STONE_TARGET, LASER_RED, LASER_BLUE,
+                TUNNELS_LEFT, REDIRECT, SWITCH_RED, SWITCH_CYAN);
+        Random random = new Random(11);
+
+        assertMatchesBoard(editor);
+
+        for (int i = 0; i < 500; i++) {
+            Pair<Integer, Integer> pos = Pair.of(random.nextInt(9) - 1, random.nextInt(9) - 1);
+
+            switch (random.nextInt(4)) {
+                case 0 -> editor.remove(pos);
+                case 1 -> {
+                    if (editor.getCopyOfTile(pos) != null) editor.rotate(pos, random.nextBoolean() ? Button.LEFT : Button.RIGHT);
+                }
+                default -> editor.place(pos, types.get(random.nextInt(types.size())));
+            }
+
+            assertMatchesBoard(editor);
+        }
+    }
+
+    @Test
+    void onlyRetracesCrossingLasers() {
+        // two lasers facing east in separate rows
+        LevelData level = new LevelData("rows", 0, List.of(
+                new LevelData.TileData(0, 0, 1, "LASER_RED"),
+                new LevelData.TileData(1, 0, 0, "FLOOR"),
+                new LevelData.TileData(2, 0, 0, "STONE_TARGET"),
+                new LevelData.TileData(0, 1, 1, "LASER_BLUE"),
+                new LevelData.TileData(1, 1, 0, "FLOOR"),
+                new LevelData.TileData(2, 1, 0, "STONE"),
+                new LevelData.TileData(1, 2, 0, "FLOOR")));
+        LevelEditor editor = new LevelEditor(level);
+
+        editor.place(Pair.of(1, 1), MIRROR);
+        assertEquals(1, editor.getRetraced(), "Edit on a single laser path did not retrace exactly that laser");
+        assertMatchesBoard(editor);
+
+        editor.rotate(Pair.of(1, 1), Button.RIGHT);
+        assertEquals(1, editor.getRetraced(), "Laser reflected by the edited cell was not retraced");
+        assertMatchesBoard(editor);
+
+        editor.place(Pair.of(5, 5), STONE);
+        assertEquals(0, editor.getRetraced(), "Edit away from all lasers retraced a laser");
+
+        editor.remove(Pair.of(0, 0));
+        assertEquals(1, editor.getLasers().size(), "Laser of a removed source was kept");
+        assertMatchesBoard(editor);
+
+        assertThrows(IllegalArgumentException.class, () -> editor.rotate(Pair.of(9, 9), Button.RIGHT));
+    }
+
+    @Test
+    void toData() {
+        LevelData level = GameEngineTest.getTestLevels().getLevel(3);
+        LevelEditor editor = new LevelEditor(level);
+
+        assertEquals(Level.of(level).toData(), editor.toData(), "Unedited level changed");
+
+        int state = editor.getCopyOfTile(Pair.of(1, 3)).getState();
+        editor.rotate(Pair.of(1, 3), Button.LEFT);
+        LevelData edited = editor.toData();
+        assertEquals((state + 3) % 4, edited.tiles().stream()
+                .filter(t -> t.x() == 1 && t.y() == 3)
+                .findFirst().orElseThrow().state(), "Rotation was not stored");
+        assertEquals(level.description(), edited.description());
+        assertEquals(level.minMoves(), edited.minMoves());
+    }
+}
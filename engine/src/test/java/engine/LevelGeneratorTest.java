@@ -0,0 +1,53 @@
+package engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LevelGeneratorTest {
+    static final LevelGenerator.Constraints constraints = new LevelGenerator.Constraints(7, 7, 2, 2, 6, 3);
+
+    @Test
+    void generatesVerifiedLevels() {
+        LevelPack pack = new LevelGenerator(constraints).generate(5, 1);
+        Level[] levels = Level.initialize(pack);
+
+        assertEquals(5, levels.length, "Unexpected amount of generated levels");
+
+        for (Level level : levels) {
+            assertEquals(49, level.tiles().size(), "Generated level did not fill the requested board size");
+            assertEquals(2, level.tiles().values().stream().filter(t -> t.getType().isLaserSource()).count(),
+                    "Generated level did not have the requested amount of lasers");
+            assertTrue(level.minMoves() >= 2 && level.minMoves() <= 6, "Optimal moves outside of requested range");
+            assertEquals(level.minMoves(), Solver.solve(level.tiles(), 50_000), "Stored optimal moves do not match solver");
+        }
+    }
+
+    @Test
+    void generatedLevelsArePlayable() {
+        GameEngine engine = new GameEngine(new LevelGenerator(constraints).generate(3, 2));
+
+        for (int i = 0; i < 3; i++) {
+            assertFalse(engine.isCompleted(), "Generated level was completed without any moves");
+            engine.requestLevel(1);
+        }
+    }
+
+    @Test
+    void isDeterministic() {
+        assertEquals(new LevelGenerator(constraints).generate(3, 7),
+                new LevelGenerator(constraints).generate(3, 7),
+                "Same seed resulted in different levels");
+    }
+
+    @Test
+    void rejectsInvalidConstraints() {
+        assertThrows(IllegalArgumentException.class, () -> new LevelGenerator.Constraints(3, 7, 1, 0, 1, 0), "Tiny board accepted");
+        assertThrows(IllegalArgumentException.class, () -> new LevelGenerator.Constraints(7, 7, 0, 0, 1, 0), "No lasers accepted");
+        assertThrows(IllegalArgumentException.class, () -> new LevelGenerator.Constraints(7, 7, 1, 5, 1, 0), "Inverted move range accepted");
+        assertTrue(Arrays.stream(Level.initialize(new LevelGenerator(constraints).generate(1, 3)))
+                .allMatch(l -> l.description().startsWith("Generated")), "Generated level was not described");
+    }
+}
@@ -0,0 +1,136 @@
+package engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LevelRepositoryTest {
+
+    /**
+     * Converts levels into the levels file format.
+     *
+     * @param levels the levels.
+     * @return the level pack as text.
+     */
+    static String text(List<LevelData> levels) {
+        StringWriter writer = new StringWriter();
+
+        try {
+            new LevelPack(levels).write(writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return writer.toString();
+    }
+
+    /**
+     * Copies the test levels with a different description for a single level.
+     *
+     * @param levelID     the level to change.
+     * @param description the new description.
+     * @return the changed levels.
+     */
+    static List<LevelData> withDescription(int levelID, String description) {
+        List<LevelData> levels = new ArrayList<>(GameEngineTest.getTestLevels().levels());
+        LevelData level = levels.get(levelID);
+        levels.set(levelID, new LevelData(description, level.minMoves(), level.tiles()));
+        return levels;
+    }
+
+    @Test
+    void splitArray() {
+        assertEquals(List.of("1", "{\"a\": [1, \"]\"]}", "\"x\\\",\""), Json.splitArray(" [1, {\"a\": [1, \"]\"]},\n\"x\\\",\"] "));
+        assertEquals(List.of(), Json.splitArray("[ ]"));
+        assertThrows(IllegalArgumentException.class, () -> Json.splitArray("[1, {]"));
+        assertThrows(IllegalArgumentException.class, () -> Json.splitArray("[1,, 2]"));
+        assertThrows(IllegalArgumentException.class, () -> Json.splitArray("{}"));
+    }
+
+    @Test
+    void update() {
+        LevelPack pack = GameEngineTest.getTestLevels();
+        LevelRepository repository = new LevelRepository(text(pack.levels()));
+
+        assertEquals(pack, new LevelPack(List.of(repository.getLevel(0), repository.getLevel(1), repository.getLevel(2),
+                repository.getLevel(3))), "Repository differs from the parsed pack");
+        assertEquals(pack.size(), repository.size());
+
+        LevelData unchanged = repository.getLevel(0);
+        assertEquals(Set.of(2), repository.update(text(withDescription(2, "changed"))));
+        assertEquals("changed", repository.getLevel(2).description());
+        assertSame(unchanged, repository.getLevel(0), "Unchanged level was parsed again");
+
+        assertEquals(Set.of(), repository.update(text(withDescription(2, "changed")).replace("\n", "\n  ")),
+                "Change of the formatting was reported as a change of the levels");
+
+        assertThrows(IllegalArgumentException.class, () -> repository.update(text(pack.levels()).replace("FLOOR", "FLO\"OR")));
+        assertEquals("changed", repository.getLevel(2).description(), "Invalid pack replaced levels");
+
+        assertEquals(Set.of(1, 2, 3), repository.update(text(pack.levels().subList(0, 1))), "Removed levels were not reported");
+        assertEquals(1, repository.size());
+    }
+
+    @Test
+    void engine() {
+        LevelPack pack = GameEngineTest.getTestLevels();
+        LevelRepository repository = new LevelRepository(text(pack.levels()));
+        GameEngine engine = new GameEngine(repository);
+
+        engine.requestLevel(2);
+        engine.registerInteraction(Pair.of(10, 3), Button.RIGHT);
+        assertEquals(0, engine.getMedalID());
+        engine.requestLevel(1);
+
+        engine.reloadLevels(repository.update(text(withDescription(3, "changed"))));
+        assertEquals("changed", engine.getLevelDescription(), "Changed current level was not reloaded");
+
+        engine.requestLevel(-1);
+        assertEquals(0, engine.getMedalID(), "Medal of an unchanged level was discarded");
+
+        engine.reloadLevels(repository.update(text(withDescription(2, "changed"))));
+        assertEquals("changed", engine.getLevelDescription());
+        assertEquals(3, engine.getMedalID(), "Medal of a changed level was kept");
+
+        engine.requestLevel(1);
+        engine.reloadLevels(repository.update(text(pack.levels().subList(0, 2))));
+        assertEquals(1, engine.getLevelID(), "Engine did not move to the last level after the current one was removed");
+    }
+
+    @Test
+    void watcher() throws IOException, InterruptedException {
+        Path directory = Files.createTempDirectory("levels");
+        Path file = directory.resolve("levels.json");
+        Files.writeString(file, text(GameEngineTest.getTestLevels().levels()));
+
+        LevelRepository repository = LevelRepository.read(file);
+        BlockingQueue<Set<Integer>> changes = new LinkedBlockingQueue<>();
+        BlockingQueue<Exception> errors = new LinkedBlockingQueue<>();
+
+        LevelPackWatcher watcher = LevelPackWatcher.watch(file, repository, changes::add, errors::add);
+        try {
+            Files.writeString(file, "[");
+            assertNotNull(errors.poll(10, TimeUnit.SECONDS), "Invalid pack was not reported");
+
+            Files.writeString(file, text(withDescription(1, "changed")));
+            assertEquals(Set.of(1), changes.poll(10, TimeUnit.SECONDS), "Modification was not detected");
+            assertEquals("changed", repository.getLevel(1).description());
+        } finally {
+            watcher.close();
+            Files.delete(file);
+            Files.delete(directory);
+        }
+    }
+}
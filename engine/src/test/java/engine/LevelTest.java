@@ -0,0 +1,83 @@
+package engine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LevelTest {
+    List<Level> levels;
+
+    @BeforeEach
+    void loadLevels() {
+        levels = GameEngineTest.getTestLevelList();
+    }
+
+    @Test
+    void tiles() {
+        assertNotNull(levels.get(0).tiles(), "Generated Level had tile map that was null");
+
+        assertFalse(levels.get(0).tiles().isEmpty(), "Level with given tile map contents was null");
+
+        assertTrue(levels.get(0).tiles().containsKey(Pair.of(1, 1)), "Level didn't contain given tile");
+
+        assertEquals(levels.get(0).tiles().get(Pair.of(1, 1)).getType(), Tile.Type.STONE, "Level tile type was unexpected");
+    }
+
+    @Test
+    void description() {
+        assertNotNull(levels.get(0).description(), "Description of first level was null");
+        assertNotNull(levels.get(1).description(), "Description of level 2 was null");
+
+        assertEquals(levels.get(0).description(), "Level 1", "Description of level 1 was unexpected");
+        assertEquals(levels.get(1).description(), "Level 2", "Description of second level was unexpected");
+    }
+
+    @Test
+    void minMoves() {
+        assertEquals(0, levels.get(0).minMoves(), "Unexpected min moves for level 1");
+        assertEquals(1, levels.get(2).minMoves(), "Unexpected min moves for level 3");
+        assertEquals(999, levels.get(3).minMoves(), "Unexpected min moves for level 4");
+    }
+
+    @Test
+    void toData() throws IOException {
+        StringWriter output = new StringWriter();
+        new LevelPack(levels.stream().map(Level::toData).toList()).write(output);
+
+        Level[] reloaded = Level.initialize(LevelPack.read(new StringReader(output.toString())));
+
+        for (int i = 0; i < levels.size(); i++) {
+            assertEquals(levels.get(i).tiles(), reloaded[i].tiles(), "Tiles changed when writing level pack and reading it back");
+            assertEquals(levels.get(i).description(), reloaded[i].description(), "Description changed when writing level pack and reading it back");
+            assertEquals(levels.get(i).minMoves(), reloaded[i].minMoves(), "Min moves changed when writing level pack and reading it back");
+        }
+    }
+
+    @Test
+    void readsLevelsFile() throws IOException {
+        LevelPack pack = LevelPack.read(new StringReader("""
+                [{"tiles": [{"x": 0, "y": 1, "state": 2, "type": "MIRROR"}], "description": "Escaped \\"name\\"", "min_moves": 3}]
+                """));
+
+        assertEquals(1, pack.size(), "Unexpected amount of levels read");
+        assertEquals("Escaped \"name\"", pack.getLevel(0).description(), "Escaped description was not read correctly");
+        assertEquals(3, pack.getLevel(0).minMoves(), "Min moves were not read correctly");
+        assertEquals(List.of(new LevelData.TileData(0, 1, 2, "MIRROR")), pack.getLevel(0).tiles(), "Tiles were not read correctly");
+    }
+
+    @Test
+    void rejectsInvalidLevelsFile() {
+        assertThrows(IllegalArgumentException.class, () -> LevelPack.parse("{}"), "Level pack that is not an array was accepted");
+        assertThrows(IllegalArgumentException.class, () -> LevelPack.parse("[{\"tiles\": []}]"), "Level without description was accepted");
+        assertThrows(IllegalArgumentException.class, () -> LevelPack.parse("[{\"tiles\": [}]"), "Malformed level pack was accepted");
+        assertThrows(IllegalArgumentException.class,
+                () -> Level.initialize(LevelPack.parse("[{\"tiles\": [{\"x\": 0, \"y\": 0, \"state\": 0, \"type\": \"NOPE\"}], \"description\": \"\", \"min_moves\": 0}]")),
+                "Unknown tile type was accepted");
+    }
+}
@@ -0,0 +1,128 @@
+package engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LevelValidatorTest {
+    /**
+     * Red laser facing east, through a floor tile onto a target. Complete without any moves.
+     */
+    static final List<LevelData.TileData> corridor = List.of(
+            new LevelData.TileData(0, 1, 1, "LASER_RED"),
+            new LevelData.TileData(1, 1, 0, "FLOOR"),
+            new LevelData.TileData(2, 1, 0, "STONE_TARGET"));
+
+    /**
+     * Validates the corridor with a single tile added or replaced.
+     *
+     * @param minMoves  the min moves of the level.
+     * @param maxStates the amount of states the solver may visit, or 0 to skip solving.
+     * @param tile      the tile to add. Replaces the corridor tile with the same index if it is given.
+     * @param index     the index of the tile to replace, or -1 to add the tile.
+     * @return the problems found, in order.
+     */
+    static List<LevelValidator.Problem> validate(int minMoves, int maxStates, LevelData.TileData tile, int index) {
+        List<LevelData.TileData> tiles = new ArrayList<>(corridor);
+
+        if (index < 0) tiles.add(tile);
+        else tiles.set(index, tile);
+
+        return LevelValidator.validate(0, new LevelData("corridor", minMoves, tiles), maxStates).stream()
+                .map(LevelValidator.Issue::problem)
+                .toList();
+    }
+
+    @Test
+    void validLevels() {
+        assertEquals(List.of(), LevelValidator.validate(0, new LevelData("corridor", 0, corridor), 1000));
+
+        LevelPack pack = new LevelGenerator(LevelGeneratorTest.constraints).generate(5, 1);
+        LevelValidator.Report report = LevelValidator.validate(pack, 50_000);
+
+        assertEquals(5, report.levels());
+        assertTrue(report.isValid(), "Generated levels were not valid: " + report.issues());
+    }
+
+    @Test
+    void parse() {
+        assertEquals(List.of(LevelValidator.Problem.UNKNOWN_TYPE),
+                validate(0, 0, new LevelData.TileData(1, 1, 0, "FLOOOR"), 1));
+        assertEquals(List.of(LevelValidator.Problem.INVALID_STATE),
+                validate(0, 0, new LevelData.TileData(1, 1, 5, "FLOOR"), 1));
+        assertEquals(List.of(LevelValidator.Problem.INVALID_MIN_MOVES),
+                LevelValidator.validate(0, new LevelData("corridor", -1, corridor), 0).stream()
+                        .map(LevelValidator.Issue::problem).toList());
+    }
+
+    @Test
+    void geometry() {
+        assertEquals(List.of(LevelValidator.Problem.DUPLICATE_TILE),
+                validate(0, 0, new LevelData.TileData(1, 1, 0, "STONE"), -1));
+        assertEquals(List.of(LevelValidator.Problem.EMPTY_LEVEL),
+                LevelValidator.validate(0, new LevelData("empty", 0, List.of()), 0).stream()
+                        .map(LevelValidator.Issue::problem).toList());
+    }
+
+    @Test
+    void reachability() {
+        assertEquals(List.of(LevelValidator.Problem.BLOCKED_SOURCE, LevelValidator.Problem.NO_REACHABLE_TARGET),
+                validate(0, 0, new LevelData.TileData(1, 1, 0, "STONE"), 1));
+        assertEquals(List.of(LevelValidator.Problem.OPEN_OUTLINE, LevelValidator.Problem.NO_REACHABLE_TARGET),
+                validate(0, 0, new LevelData.TileData(0, 1, 3, "LASER_RED"), 0));
+        assertEquals(List.of(LevelValidator.Problem.NO_SOURCE),
+                validate(0, 0, new LevelData.TileData(0, 1, 0, "STONE"), 0));
+        assertEquals(List.of(LevelValidator.Problem.UNREACHABLE_TARGET),
+                validate(0, 0, new LevelData.TileData(1, 3, 0, "STONE_TARGET"), -1));
+
+        LevelValidator.Issue issue = LevelValidator.validate(0, new LevelData("corridor", 0, List.of(
+                new LevelData.TileData(0, 1, 1, "LASER_RED"),
+                new LevelData.TileData(1, 1, 0, "FLOOR"))), 0).get(0);
+        assertEquals(Pair.of(2, 1), issue.pos(), "Gap in the outline was reported at the wrong position");
+    }
+
+    @Test
+    void solve() {
+        assertEquals(List.of(LevelValidator.Problem.MIN_MOVES_MISMATCH),
+                validate(2, 1000, new LevelData.TileData(1, 1, 0, "FLOOR"), 1));
+        assertEquals(List.of(), validate(2, 0, new LevelData.TileData(1, 1, 0, "FLOOR"), 1),
+                "Level was solved although solving was disabled");
+    }
+
+    @Test
+    void report() throws IOException {
+        Path file = Files.createTempFile("levels", ".json");
+
+        try {
+            Files.writeString(file, "[{\"description\": \"broken\"");
+            LevelValidator.Report broken = LevelValidator.validate(file, 0);
+            assertFalse(broken.isValid());
+            assertEquals(LevelValidator.Problem.INVALID_PACK, broken.issues().get(0).problem());
+
+            new LevelPack(List.of(new LevelData("corridor", 0, corridor),
+                    new LevelData("typo", 0, List.of(new LevelData.TileData(0, 0, 0, "STONE\"")))))
+                    .write(file);
+            LevelValidator.Report report = LevelValidator.validate(file, 0);
+
+            Map<?, ?> json = (Map<?, ?>) Json.parse(report.toJson());
+            assertEquals(2L, json.get("levels"));
+            assertEquals(1L, json.get("errors"));
+            assertEquals(0L, json.get("warnings"));
+
+            Map<?, ?> issue = (Map<?, ?>) ((List<?>) json.get("issues")).get(0);
+            assertEquals(1L, issue.get("level"));
+            assertEquals("UNKNOWN_TYPE", issue.get("problem"));
+            assertEquals("PARSE", issue.get("check"));
+            assertEquals(0L, issue.get("x"));
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static engine.Tile.Type.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReachabilityTest {
+    /**
+     * Laser facing north towards a mirror, which can reflect into either half of the row.
+     * The mirror on the left is reached, while the one behind the stone on the right and the switch below are not.
+     */
+    static final Map<Pair<Integer, Integer>, Tile> tiles = Map.of(
+            Pair.of(2, 2), Tile.of(LASER_RED, 0),
+            Pair.of(2, 1), Tile.of(MIRROR, 2),
+            Pair.of(1, 1), Tile.of(FLOOR, 0),
+            Pair.of(0, 1), Tile.of(MIRROR, 0),
+            Pair.of(3, 1), Tile.of(STONE, 0),
+            Pair.of(4, 1), Tile.of(MIRROR, 0),
+            Pair.of(4, 2), Tile.of(TUNNELS_LEFT, 0),
+            Pair.of(1, 2), Tile.of(SWITCH_CYAN, 1));
+
+    @Test
+    void isReachable() {
+        Reachability reachability = Reachability.of(tiles);
+
+        assertTrue(reachability.isReachable(Pair.of(2, 1)), "Tile in front of laser was not reachable");
+        assertTrue(reachability.isReachable(Pair.of(0, 1)), "Tile behind a rotatable mirror was not reachable");
+        assertTrue(reachability.isReachable(Pair.of(3, 1)), "Wall next to a rotatable mirror was not reachable");
+        assertFalse(reachability.isReachable(Pair.of(4, 1)), "Tile behind a wall was reachable");
+        assertFalse(reachability.isReachable(Pair.of(2, 2)), "Laser source was considered reachable");
+    }
+
+    @Test
+    void getEscapes() {
+        assertEquals(Set.of(Pair.of(0, 0), Pair.of(0, 2)), Reachability.of(tiles).getEscapes(),
+                "Unexpected positions outside the level reached");
+    }
+
+    @Test
+    void getRelevantTiles() {
+        assertEquals(Set.of(Pair.of(2, 1), Pair.of(0, 1)), Reachability.of(tiles).getRelevantTiles(tiles),
+                "Unexpected set of relevant tiles");
+    }
+
+    @Test
+    void getExits() {
+        Reachability reachability = Reachability.of(tiles);
+        Pair<Integer, Integer> mirror = Pair.of(2, 1);
+
+        assertEquals(reachability.getExits(mirror, Tile.of(MIRROR, 2)), reachability.getExits(mirror, Tile.of(MIRROR, 3)),
+                "Mirror rotations blocking the only beam were not considered equivalent");
+        assertNotEquals(reachability.getExits(mirror, Tile.of(MIRROR, 0)), reachability.getExits(mirror, Tile.of(MIRROR, 1)),
+                "Mirror rotations reflecting to different sides were considered equivalent");
+        assertTrue(reachability.getExits(Pair.of(4, 1), Tile.of(MIRROR, 0)).isEmpty(), "Unreachable tile had exits");
+    }
+}
@@ -0,0 +1,86 @@
+package engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayTest {
+
+    @Test
+    void recordAndSeek() throws IOException {
+        LevelPack pack = new LevelGenerator(new LevelGenerator.Constraints(9, 9, 2, 3, 8, 6)).generate(2, 29);
+        GameEngine engine = new GameEngine(pack);
+        Path file = Files.createTempFile("session", ".replay");
+        List<Map<Pair<Integer, Integer>, Tile>> states = new ArrayList<>();
+        List<Interaction> interactions = new ArrayList<>();
+        Random random = new Random(7);
+
+        try {
+            ReplayRecorder recorder = ReplayRecorder.attach(engine, pack, file);
+            try {
+                for (int round = 0; round < 3; round++) {
+                    List<Pair<Integer, Integer>> interactive = engine.getCopyOfTiles().entrySet().stream()
+                            .filter(e -> e.getValue().getType().canInteract())
+                            .map(Map.Entry::getKey)
+                            .sorted(Comparator.comparing((Pair<Integer, Integer> p) -> p.y()).thenComparing(Pair::x))
+                            .toList();
+
+                    for (int i = 0; i < 2 * ReplayRecorder.CHECKPOINT_INTERVAL + 5 && !engine.isCompleted(); i++) {
+                        Interaction interaction = new Interaction(interactive.get(random.nextInt(interactive.size())),
+                                random.nextBoolean() ? Button.LEFT : Button.RIGHT);
+
+                        states.add(engine.getCopyOfTiles());
+                        interactions.add(interaction);
+                        engine.registerInteraction(interaction.pos(), interaction.button());
+                    }
+
+                    engine.requestLevel(round == 0 ? 1 : -1);
+                }
+            } finally {
+                recorder.close();
+            }
+
+            Replay replay = Replay.read(file, pack);
+            assertEquals(interactions.size(), replay.size());
+            assertTrue(replay.size() > 2 * ReplayRecorder.CHECKPOINT_INTERVAL, "Session is too short to contain checkpoints");
+
+            for (int move = 0; move < replay.size(); move++) {
+                assertEquals(interactions.get(move), replay.getInteraction(move), "Interaction differs from the recording");
+                assertEquals(states.get(move), replay.seek(move).tiles(), "State before move " + move + " differs");
+            }
+
+            Replay.State end = replay.seek(replay.size());
+            assertEquals(0, end.levelID(), "Last level change was not recorded");
+            assertEquals(0, end.moves());
+            assertEquals(engine.getCopyOfTiles(), end.tiles());
+            assertEquals(engine.getLasers(), end.lasers());
+            assertTrue(Files.size(file) < 8L * replay.size(), "Replay is not compact");
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void rejectsInvalidReplays() throws IOException {
+        LevelPack pack = GameEngineTest.getTestLevels();
+        Path file = Files.createTempFile("invalid", ".replay");
+
+        try {
+            Files.write(file, new byte[]{1, 2, 3, 4, 5});
+            assertThrows(IllegalArgumentException.class, () -> Replay.read(file, pack), "Replay without magic was accepted");
+
+            Files.write(file, new byte[]{0x4C, 0x47, 0x52, 0x50, 0, ReplayFormat.LEVEL, 9, 0});
+            assertThrows(IllegalArgumentException.class, () -> Replay.read(file, pack), "Replay with unknown level was accepted");
+
+            Files.write(file, new byte[]{0x4C, 0x47, 0x52, 0x50, 0, ReplayFormat.LEVEL, 2, 0, ReplayFormat.MOVE, 0});
+            assertThrows(IllegalArgumentException.class, () -> Replay.read(file, pack), "Truncated replay was accepted");
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package engine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static engine.Tile.Type.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SolverTest {
+    List<Level> levels;
+
+    @BeforeEach
+    void loadLevels() {
+        levels = GameEngineTest.getTestLevelList();
+    }
+
+    @Test
+    void solvesTestLevels() {
+        assertEquals(0, Solver.solve(levels.get(0).tiles(), 1000), "Level without lasers should be solved without moves");
+        assertEquals(0, Solver.solve(levels.get(1).tiles(), 1000), "Self completing level should be solved without moves");
+        assertEquals(1, Solver.solve(levels.get(2).tiles(), 1000), "Level with one misaligned mirror should be solved in one move");
+        assertEquals(Solver.UNSOLVABLE, Solver.solve(levels.get(3).tiles(), 1000), "Impossible level was considered solvable");
+    }
+
+    @Test
+    void doesNotModifyTiles() {
+        Map<Pair<Integer, Integer>, Tile> tiles = levels.get(2).tiles();
+        Tile mirror = tiles.get(Pair.of(10, 3)).clone();
+
+        Solver.solve(tiles, 1000);
+
+        assertEquals(mirror, tiles.get(Pair.of(10, 3)), "Solving a level changed its tiles");
+    }
+
+    @Test
+    void usesShortestRotation() {
+        // Mirror needs to be rotated by three steps to the right, which is one step to the left
+        Map<Pair<Integer, Integer>, Tile> tiles = Map.of(
+                Pair.of(0, 2), Tile.of(LASER_RED, 0),
+                Pair.of(0, 1), Tile.of(MIRROR, 1),
+                Pair.of(1, 1), Tile.of(FLOOR, 0),
+                Pair.of(2, 1), Tile.of(STONE_TARGET, 0));
+
+        assertEquals(1, Solver.solve(tiles, 1000), "Solver did not consider rotating mirrors in both directions");
+    }
+
+    @Test
+    void groupsClickableSwitches() {
+        // Both switches block the laser, but a single click opens them both
+        Map<Pair<Integer, Integer>, Tile> tiles = Map.of(
+                Pair.of(0, 3), Tile.of(LASER_BLUE, 0),
+                Pair.of(0, 2), Tile.of(SWITCH_CYAN, 1),
+                Pair.of(0, 1), Tile.of(SWITCH_CYAN, 1),
+                Pair.of(0, 0), Tile.of(STONE_TARGET, 0));
+
+        assertEquals(1, Solver.solve(tiles, 1000), "Switches of the same colour were not toggled together");
+    }
+
+    @Test
+    void givesUpAfterStateLimit() {
+        assertEquals(Solver.UNSOLVABLE, Solver.solve(levels.get(2).tiles(), 0), "Solver ignored the state limit");
+    }
+}
@@ -0,0 +1,123 @@
+package engine;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StressLevelsTest {
+    /**
+     * Settles the lasers of a stress level.
+     *
+     * @param kind the kind of level.
+     * @param size the edge length.
+     * @return the settled board.
+     */
+    static Board settle(StressLevels.Kind kind, int size) {
+        Board board = new Board(Level.of(StressLevels.generate(kind, size, 1)).tiles());
+        board.settle();
+        return board;
+    }
+
+    /**
+     * Counts the lasers of a board which ended on a target.
+     *
+     * @param board the settled board.
+     * @return the amount of complete lasers.
+     */
+    static long complete(Board board) {
+        return board.getLasers().stream().filter(Laser::isComplete).count();
+    }
+
+    /**
+     * Counts the cells covered by a laser.
+     *
+     * @param laser the laser.
+     * @return the amount of cells from its source to the cell it ended at, counting cells passed twice twice.
+     */
+    static long cells(Laser laser) {
+        long cells = 1;
+
+        for (int i = 1; i < laser.points().size(); i++)
+            cells += Math.abs(laser.points().get(i).x() - laser.points().get(i - 1).x())
+                    + Math.abs(laser.points().get(i).y() - laser.points().get(i - 1).y());
+
+        return cells;
+    }
+
+    @Test
+    void isDeterministic() {
+        assertEquals(StressLevels.generate(new int[]{10, 30}, 7), StressLevels.generate(new int[]{10, 30}, 7));
+        assertNotEquals(StressLevels.generate(new int[]{30}, 7), StressLevels.generate(new int[]{30}, 8));
+    }
+
+    @Test
+    void generatesValidLevels() {
+        LevelPack pack = StressLevels.generate(new int[]{StressLevels.MIN_SIZE, 41}, 3);
+
+        assertEquals(2 * StressLevels.Kind.values().length, pack.size());
+
+        for (int i = 0; i < pack.size(); i++) {
+            int size = i < StressLevels.Kind.values().length ? StressLevels.MIN_SIZE : 41;
+            assertEquals(size * size, pack.getLevel(i).tiles().size(), "Generated level did not fill the requested board size");
+        }
+
+        LevelValidator.Report report = LevelValidator.validate(pack, 0);
+        assertTrue(report.isValid(), "Stress levels were not valid: " + report.issues());
+    }
+
+    @Test
+    void longPaths() {
+        for (int size : new int[]{StressLevels.MIN_SIZE, 41, 100}) {
+            for (StressLevels.Kind kind : new StressLevels.Kind[]{StressLevels.Kind.OPEN_FLOOR, StressLevels.Kind.ZIG_ZAG, StressLevels.Kind.NEAR_LOOP}) {
+                Board board = settle(kind, size);
+
+                assertEquals(2, board.getLasers().size());
+                assertEquals(1, complete(board), kind + " laser did not reach its target at " + size + "x" + size);
+                assertFalse(board.isCompleted(), kind + " was completed");
+            }
+
+            // the zig-zag covers every other row completely, the spiral about half of the inner area
+            long cells = settle(StressLevels.Kind.ZIG_ZAG, size).getLasers().stream().mapToLong(StressLevelsTest::cells).max().orElseThrow();
+            assertTrue(cells >= (long) (size - 2) * (size - 2) / 2, "Zig-zag laser only covered " + cells + " cells");
+            cells = settle(StressLevels.Kind.NEAR_LOOP, size).getLasers().stream().mapToLong(StressLevelsTest::cells).max().orElseThrow();
+            assertTrue(cells >= (long) (size - 2) * (size - 2) / 3, "Spiral laser only covered " + cells + " cells");
+        }
+    }
+
+    @Test
+    void switchCascade() {
+        Board board = settle(StressLevels.Kind.SWITCH_CASCADE, 41);
+
+        assertEquals(21, board.getLasers().size());
+        assertEquals(20, complete(board), "Cascade did not release every laser");
+        assertTrue(board.getPasses() >= 4, "Cascade was settled in " + board.getPasses() + " passes");
+    }
+
+    @Test
+    void emitters() {
+        assertEquals(21, settle(StressLevels.Kind.EMITTERS, 42).getLasers().size());
+    }
+
+    @Test
+    void gate() {
+        for (StressLevels.Kind kind : StressLevels.Kind.values()) {
+            Board board = settle(kind, 41);
+            long cells = board.getLasers().stream().mapToLong(StressLevelsTest::cells).sum();
+
+            assertTrue(board.canInteract(StressLevels.GATE), kind + " did not have a gate");
+            board.interact(StressLevels.GATE, Button.LEFT);
+            board.settle();
+            assertTrue(board.getLasers().stream().mapToLong(StressLevelsTest::cells).sum() < cells, kind + " gate did not cut off a laser");
+        }
+
+        GameEngine engine = new GameEngine(StressLevels.generate(new int[]{StressLevels.MIN_SIZE}, 0));
+        for (int i = 0; i < 4; i++) engine.registerInteraction(StressLevels.GATE, Button.LEFT);
+        assertFalse(engine.isCompleted(), "Stress level was completed");
+    }
+
+    @Test
+    void unsupportedSizes() {
+        assertThrows(IllegalArgumentException.class, () -> StressLevels.generate(StressLevels.Kind.OPEN_FLOOR, StressLevels.MIN_SIZE - 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> StressLevels.generate(StressLevels.Kind.OPEN_FLOOR, StressLevels.MAX_SIZE + 1, 0));
+    }
+}
@@ -31,13 +31,13 @@ class TileTest {
         Tile t = new Tile(MIRROR, Integer.MAX_VALUE);
         assertDoesNotThrow(t::getState, "Tile failed to fetch max state");
         assertEquals(Integer.MAX_VALUE, t.getState(), "Tile did not store max value state");
-        assertDoesNotThrow(() -> t.interact(1, null), "Interaction with tile of max value state threw exception");
+        assertDoesNotThrow(() -> t.interact(Button.RIGHT, null), "Interaction with tile of max value state threw exception");
         assertTrue(t.getState() < 4 && t.getState() >= 0, "Interaction didn't return state to allowed range");
 
         Tile u = new Tile(MIRROR, Integer.MIN_VALUE);
         assertDoesNotThrow(u::getState, "Tile failed to fetch min state");
         assertEquals(Integer.MIN_VALUE, u.getState(), "Tile did not store min value state");
-        assertDoesNotThrow(() -> u.interact(1, null), "Interaction with tile of min value state threw exception");
+        assertDoesNotThrow(() -> u.interact(Button.RIGHT, null), "Interaction with tile of min value state threw exception");
         assertTrue(u.getState() < 4 && u.getState() >= 0, "Interaction didn't return state to allowed range");
     }
 
@@ -49,7 +49,7 @@ class TileTest {
         assertEquals(t, s, "I haven't even done anything yet and you guys can't get along! (Equal tiles not equal)");
         t.resetState();
         assertEquals(t, s, "Tile reset alienated tiles with no prior interaction");
-        t.interact(1, Map.of());
+        t.interact(Button.RIGHT, Map.of());
         assertNotEquals(t, s, "Interaction did not alienate two intractable tiles");
         t.resetState();
         assertEquals(t, s, "Tile reset state did not make two previously equal tiles equal again");
@@ -63,10 +63,10 @@ class TileTest {
         Tile s = Tile.of(SWITCH_YELLOW, 0);
         assertFalse(s.hasCollision(), "Retracted switch should not have collision");
 
-        s.interact(0, Map.of(Pair.of(0, 0), s));
+        s.interact(Button.NONE, Map.of(Pair.of(0, 0), s));
         assertTrue(s.hasCollision(), "Extended switch should have collision");
 
-        s.interact(0, Map.of(Pair.of(0, 0), s));
+        s.interact(Button.NONE, Map.of(Pair.of(0, 0), s));
         assertFalse(s.hasCollision(), "Extended and retracted switch should have no collision");
     }
 
@@ -82,13 +82,27 @@ class TileTest {
 
         assertEquals(a, b, "Tiles were instantiated equal but are no longer considered as such");
 
-        a.interact(5, map);
+        a.interact(Button.RIGHT, map);
 
         assertEquals(a, b, "Same coloured switches did not both get updated after interaction");
         assertNotEquals(a, c, "Different coloured switches both got updated");
         assertNotEquals(a, d, "Laser switch got updated from click interaction");
     }
 
+    @Test
+    void switchGroupInteraction() {
+        Tile a = new Tile(SWITCH_YELLOW, 0);
+        Tile b = new Tile(SWITCH_YELLOW, 0);
+        Tile c = new Tile(SWITCH_YELLOW, 0);
+        Tile d = new Tile(SWITCH_CYAN, 0);
+
+        a.interactWithGroup(Button.NONE, List.of(a, b, d));
+
+        assertEquals(a, b, "Switch within the given group did not get updated");
+        assertNotEquals(a, c, "Switch outside of the given group got updated");
+        assertEquals(d, new Tile(SWITCH_CYAN, 0), "Differently coloured switch within the group got updated");
+    }
+
     @Test
     void laserSwitchInteraction() {
         Tile a = new Tile(SWITCH_RED, 0);
@@ -101,8 +115,8 @@ class TileTest {
 
         assertEquals(a, b, "Tiles were instantiated equal but are no longer considered as such");
 
-        assertThrows(IllegalArgumentException.class, () -> a.interact(1, map), "Laser switch allowed manual interaction");
-        assertDoesNotThrow(() -> a.interact(0, map), "Simulated laser interaction got thrown out");
+        assertThrows(IllegalArgumentException.class, () -> a.interact(Button.RIGHT, map), "Laser switch allowed manual interaction");
+        assertDoesNotThrow(() -> a.interact(Button.NONE, map), "Simulated laser interaction got thrown out");
 
         assertNotEquals(a, b, "Laser switches should not update simultaneously");
         assertNotEquals(a, c, "Different coloured laser switches both got updated");
@@ -116,12 +130,12 @@ class TileTest {
 
         assertEquals(s, m, "Two Mirrors facing the same way were considered unequal");
 
-        m.interact(0, Map.of());
+        m.interact(Button.NONE, Map.of());
 
         assertNotEquals(s, m, "Rotated mirror considered equal to static one");
 
         for (int i = 0; i < 3; i++)
-            m.interact(0, Map.of());
+            m.interact(Button.NONE, Map.of());
 
         assertEquals(s, m, "Mirror who did full rotation not considered equal to static one");
     }
@@ -173,7 +187,7 @@ class TileTest {
     @Test
     void testClone() {
         Tile t = Tile.of(TUNNELS_LEFT, 1);
-        t.interact(0, Map.of());
+        t.interact(Button.NONE, Map.of());
 
         Tile t2 = t.clone();
 
@@ -26,6 +26,16 @@ class TileTypeTest {
         assertFalse(SWITCH_MAGENTA.isLaserSwitch(), "MAGENTA switch identified as laser switch");
     }
 
+    @Test
+    void isSwitch() {
+        assertTrue(SWITCH_BLUE.isSwitch(), "BLUE Laser switch not identified as switch");
+        assertTrue(SWITCH_CYAN.isSwitch(), "CYAN switch not identified as switch");
+        assertTrue(SWITCH_MAGENTA.isSwitch(), "MAGENTA switch not identified as switch");
+
+        assertFalse(FLOOR.isSwitch(), "FLOOR identified as switch");
+        assertFalse(TUNNELS_LEFT.isSwitch(), "TUNNELS_LEFT identified as switch");
+    }
+
     @Test
     void isLaserSource() {
         assertTrue(LASER_BLUE.isLaserSource(), "BLUE laser source not identified as such");
@@ -0,0 +1,87 @@
+package engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VectorEnvironmentTest {
+
+    /**
+     * Level 3 of the engine test levels: a laser (10, 5) pointing north, a mirror (10, 3) and a target (12, 3).
+     * The level is 3 cells wide and 3 cells high, and completed by rotating the mirror to the right once.
+     */
+    private static VectorEnvironment create(int count, int maxMoves) {
+        return new VectorEnvironment(GameEngineTest.getTestLevels().getLevel(2), count, maxMoves);
+    }
+
+    @Test
+    void observations() {
+        VectorEnvironment environment = create(2, 10);
+        byte[] observations = environment.getObservations();
+        int cells = environment.getWidth() * environment.getHeight();
+
+        assertEquals(3, environment.getWidth());
+        assertEquals(3, environment.getHeight());
+        assertEquals(2 * VectorEnvironment.PLANES * cells, observations.length);
+
+        // the mirror is cell 0, the target cell 2, the laser cell 6, and cell 4 is empty
+        assertEquals(Tile.Type.MIRROR.ordinal() + 1, observations[VectorEnvironment.TYPE_PLANE * cells]);
+        assertEquals(3, observations[VectorEnvironment.STATE_PLANE * cells]);
+        assertEquals(0, observations[VectorEnvironment.TYPE_PLANE * cells + 4], "Empty cell was not reported as such");
+
+        int laser = 1 << Laser.Color.RED.ordinal();
+        assertEquals(laser, observations[VectorEnvironment.LASER_PLANE * cells + 6], "Laser source was not occupied");
+        assertEquals(laser, observations[VectorEnvironment.LASER_PLANE * cells + 3], "Laser path was not occupied");
+        assertEquals(0, observations[VectorEnvironment.LASER_PLANE * cells + 2], "Target was occupied before completion");
+    }
+
+    @Test
+    void step() {
+        VectorEnvironment environment = create(2, 10);
+        byte[] observations = environment.getObservations();
+        int cells = environment.getWidth() * environment.getHeight();
+        int offset = VectorEnvironment.PLANES * cells; // second environment
+
+        environment.step(new int[]{8, 0}, new Button[]{Button.RIGHT, Button.RIGHT});
+
+        assertArrayEquals(new boolean[]{false, true}, environment.getDone());
+        assertEquals(-VectorEnvironment.MOVE_PENALTY, environment.getRewards()[0], "Invalid action was not penalised");
+        assertEquals(VectorEnvironment.COMPLETION_REWARD - VectorEnvironment.MOVE_PENALTY, environment.getRewards()[1]);
+        assertEquals(3, observations[VectorEnvironment.STATE_PLANE * cells], "Invalid action changed the board");
+        assertEquals(0, observations[offset + VectorEnvironment.STATE_PLANE * cells], "Mirror state was not updated");
+        assertEquals(1 << Laser.Color.RED.ordinal(), observations[offset + VectorEnvironment.LASER_PLANE * cells + 2],
+                "Laser reaching the target was not updated");
+
+        // the completed environment is reset by the next step, instead of applying its action
+        environment.step(new int[]{0, 0}, new Button[]{Button.RIGHT, Button.RIGHT});
+
+        assertArrayEquals(new boolean[]{true, false}, environment.getDone());
+        assertEquals(0, environment.getRewards()[1], "Reset was rewarded");
+        assertArrayEquals(Arrays.copyOfRange(create(1, 10).getObservations(), 0, offset),
+                Arrays.copyOfRange(observations, offset, 2 * offset), "Environment was not reset to the initial state");
+    }
+
+    @Test
+    void episodesEndAfterMaxMoves() {
+        VectorEnvironment environment = create(3, 2);
+        int[] cells = {1, 1, 1};
+        Button[] buttons = {Button.LEFT, Button.LEFT, Button.LEFT};
+
+        environment.step(cells, buttons);
+        assertArrayEquals(new boolean[3], environment.getDone());
+
+        environment.step(cells, buttons);
+        assertArrayEquals(new boolean[]{true, true, true}, environment.getDone());
+    }
+
+    @Test
+    void invalidActions() {
+        VectorEnvironment environment = create(2, 10);
+
+        assertThrows(IllegalArgumentException.class, () -> environment.step(new int[]{0}, new Button[]{Button.RIGHT}));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> environment.step(new int[]{0, 9}, new Button[]{Button.RIGHT, Button.RIGHT}));
+    }
+}